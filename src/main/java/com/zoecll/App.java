@@ -4,7 +4,7 @@ import java.io.FileNotFoundException;
 import java.util.ArrayList;
 
 import com.zoecll.config.PeerInfo;
-import com.zoecll.raftrpc.RaftNode;
+import com.zoecll.raftrpc.RaftRuntime;
 
 public class App 
 {
@@ -14,8 +14,8 @@ public class App
             for (int i = 0; i < peerInfos.size(); i++) {
                 final int finalId = i;
                 new Thread(() -> {
-                    RaftNode raftNode = new RaftNode(finalId, peerInfos);
-                    raftNode.start();
+                    RaftRuntime runtime = new RaftRuntime(finalId, peerInfos);
+                    runtime.start();
                 }).start();
             }
         } catch (FileNotFoundException e) {
@@ -21,16 +21,33 @@ public class PeerInfo {
     private String host;
     private int rpcPort;
     private int kvPort;
+    private boolean learner;    // non-voting replica, excluded from elections and from the commit quorum
 
     public PeerInfo(int id, String host, int rpcPort, int kvPort) {
+        this(id, host, rpcPort, kvPort, false);
+    }
+
+    public PeerInfo(int id, String host, int rpcPort, int kvPort, boolean learner) {
         this.id = id;
         this.host = host;
         this.rpcPort = rpcPort;
         this.kvPort = kvPort;
+        this.learner = learner;
         this.rpcChannel = ManagedChannelBuilder.forAddress(host, rpcPort).usePlaintext().build();
         this.kvChannel = ManagedChannelBuilder.forAddress(host, kvPort).usePlaintext().build();
     }
 
+    // the address rpcs to this peer go to
+    public String getRpcAddress() {
+        return host + ":" + rpcPort;
+    }
+
+    // closes the channels once no configuration refers to this peer anymore
+    public void shutdown() {
+        rpcChannel.shutdown();
+        kvChannel.shutdown();
+    }
+
     public static ArrayList<PeerInfo> loadConfig() throws FileNotFoundException {
         Yaml yaml = new Yaml();
         InputStream input = new FileInputStream("src/main/resources/config.yml");
@@ -43,7 +60,8 @@ public class PeerInfo {
             String host = (String) node.get("address");
             int rpcPort = (int) node.get("rpcPort");
             int kvPort = (int) node.get("kvPort");
-            peerInfos.add(new PeerInfo(id, host, rpcPort, kvPort));
+            boolean learner = (boolean) node.getOrDefault("learner", false);
+            peerInfos.add(new PeerInfo(id, host, rpcPort, kvPort, learner));
         }
 
         return peerInfos;
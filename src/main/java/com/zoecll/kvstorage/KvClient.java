@@ -19,18 +19,22 @@ import protobuf.KvStorageProto.SetResponse;
 public class KvClient {
 
     private final static Logger logger = LoggerFactory.getLogger(KvClient.class);
+    private final static int MAX_RETRIES = 20;  // retries of a read no node could serve before get gives up
 
     private ArrayList<PeerInfo> peers;
     private int leaderId;
+    private int readId;     // reads go round-robin over all nodes, followers serve them via ReadIndex
 
     public KvClient(ArrayList<PeerInfo> peers) {
         this.peers = peers;
         this.leaderId = 0;
+        this.readId = 0;
     }
 
-    public String getNoRetry(String key) {
+    // returns null if the node could not serve the read, a response without a value if the key is not set
+    public GetResponse getNoRetry(String key) {
         GetRequest request = GetRequest.newBuilder().setKey(key).build();
-        final KvStorageStub asyncClient = KvStorageGrpc.newStub(peers.get(0).getKvChannel());
+        final KvStorageStub asyncClient = KvStorageGrpc.newStub(peers.get(readId).getKvChannel());
         SettableFuture<GetResponse> responseFuture = SettableFuture.create();
         asyncClient.get(request, new StreamObserver<GetResponse>() {
             @Override
@@ -52,7 +56,7 @@ public class KvClient {
         try {
             GetResponse response = responseFuture.get();
             if (response.getOk()) {
-                return response.getValue();
+                return response;
             }
         } catch (Exception e) {
             e.printStackTrace();
@@ -92,20 +96,25 @@ public class KvClient {
         return false;
     }
     
+    // returns null if the key is not set, a read no node could serve is retried on the next node up to MAX_RETRIES
+    // times, after which an IllegalStateException is thrown
     public String get(String key) {
-        while (true) {
-            String res = getNoRetry(key);
-            if (res != null) {
-                return res;
+        for (int attempt = 0; attempt <= MAX_RETRIES; attempt++) {
+            if (attempt > 0) {
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                }
+                logger.info("[KvClient] retry get, key: {}", key);
             }
-            leaderId = (leaderId + 1) % peers.size();
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+            GetResponse res = getNoRetry(key);
+            readId = (readId + 1) % peers.size();
+            if (res != null) {
+                return res.getFound() ? res.getValue() : null;
             }
-            logger.info("[KvClient] retry get, key: {}", key);
         }
+        throw new IllegalStateException("No node served get of key " + key + " after " + MAX_RETRIES + " retries");
     }
 
     public boolean set(String key, String value) {
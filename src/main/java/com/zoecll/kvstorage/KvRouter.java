@@ -0,0 +1,44 @@
+package com.zoecll.kvstorage;
+
+import com.zoecll.raftrpc.RaftRuntime;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.stub.StreamObserver;
+import protobuf.KvStorageGrpc.KvStorageImplBase;
+import protobuf.KvStorageProto.GetRequest;
+import protobuf.KvStorageProto.GetResponse;
+import protobuf.KvStorageProto.SetRequest;
+import protobuf.KvStorageProto.SetResponse;
+
+/**
+ * The kvstorage endpoint of a node, it hands every request to the state machine of the raft group owning the key.
+ */
+public class KvRouter extends KvStorageImplBase {
+
+    private final RaftRuntime runtime;
+
+    public KvRouter(RaftRuntime runtime) {
+        this.runtime = runtime;
+    }
+
+    @Override
+    public void get(GetRequest request, StreamObserver<GetResponse> responseObserver) {
+        runtime.getGroupByKey(request.getKey()).getKvServer().get(request, responseObserver);
+    }
+
+    @Override
+    public void set(SetRequest request, StreamObserver<SetResponse> responseObserver) {
+        runtime.getGroupByKey(request.getKey()).getKvServer().set(request, responseObserver);
+    }
+
+    public void start() {
+        Server kvServer = ServerBuilder.forPort(runtime.getPeer(runtime.getId()).getKvPort()).addService(this).build();
+        try {
+            kvServer.start();
+            kvServer.awaitTermination();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package com.zoecll.kvstorage;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.HashMap;
 import java.util.UUID;
 import java.util.AbstractMap.SimpleEntry;
-import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.slf4j.Logger;
@@ -14,8 +22,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zoecll.persistence.FilePersister;
 import com.zoecll.raftrpc.RaftNode;
 
-import io.grpc.Server;
-import io.grpc.ServerBuilder;
 import io.grpc.stub.StreamObserver;
 import lombok.Synchronized;
 import protobuf.KvStorageGrpc.KvStorageImplBase;
@@ -41,18 +47,37 @@ public class KvServer extends KvStorageImplBase {
         logger.debug("[Raft node {}] Received get request", raftNode.getId());
         GetResponse.Builder builder = GetResponse.newBuilder();
 
-        String key = request.getKey();
-        mutex.lock();
-        String value = data.get(key).getKey();
-        mutex.unlock();
+        if (raftNode.getReadMode() != RaftNode.ReadMode.Local) {
+            int readIndex = -1;
+            // confirming leadership and catching up with the read index share one election timeout
+            long deadline = System.currentTimeMillis() + raftNode.getElectionTimeoutMin();
+            try {
+                readIndex = raftNode.getReadIndex().get(raftNode.getElectionTimeoutMin(), TimeUnit.MILLISECONDS);
+                if (readIndex != -1 && !raftNode.awaitApplied(readIndex, deadline - System.currentTimeMillis())) {
+                    logger.warn("[Raft node {}] State machine did not catch up with read index {} in time", raftNode.getId(), readIndex);
+                    readIndex = -1;
+                }
+            } catch (InterruptedException | ExecutionException | TimeoutException e) {
+                logger.warn("[Raft node {}] Failed to confirm leadership for get request", raftNode.getId());
+                readIndex = -1;
+            }
+            if (readIndex == -1) {
+                logger.debug("[Raft node {}] Reject get request, leadership not confirmed or read index not applied", raftNode.getId());
+                responseObserver.onNext(builder.setOk(false).build());
+                responseObserver.onCompleted();
+                return;
+            }
+        }
+
+        String value = getValue(request.getKey());
 
         if (value == null) {
-            responseObserver.onNext(builder.setOk(false).build());
+            responseObserver.onNext(builder.setOk(true).setFound(false).build());
             responseObserver.onCompleted();
             return;
         }
 
-        responseObserver.onNext(builder.setOk(true).setValue(value).build());
+        responseObserver.onNext(builder.setOk(true).setFound(true).setValue(value).build());
         responseObserver.onCompleted();
         logger.debug("[Raft node {}] Get request completed", raftNode.getId());
     }
@@ -79,12 +104,20 @@ public class KvServer extends KvStorageImplBase {
             logger.warn("Failed to serialize command: {}", command);
             responseObserver.onNext(builder.setOk(false).build());
             responseObserver.onCompleted();
+            return;
         }
 
         mutex.lock();
         SimpleEntry<String, String> res = data.get(key);
         mutex.unlock();
         while (res == null || !res.getValue().equals(uuid)) {
+            // a leader cut off from the majority steps down, the command may never be applied then
+            if (!raftNode.isLeader()) {
+                logger.info("[Raft node {}] Lost leadership before set request was applied", raftNode.getId());
+                responseObserver.onNext(builder.setOk(false).build());
+                responseObserver.onCompleted();
+                return;
+            }
             try {
                 Thread.sleep(500);
                 mutex.lock();
@@ -99,18 +132,12 @@ public class KvServer extends KvStorageImplBase {
         logger.info("[Raft node {}] Set request completed", raftNode.getId());
     }
     
-    public void start() {
-        Server kvServer = ServerBuilder.forPort(raftNode.getPeers().get(raftNode.getId()).getKvPort()).addService(this).build();
-        try {
-            kvServer.start();
-            kvServer.awaitTermination();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-
     @Synchronized("mutex")
     public void applyLog(String command) {
+        // no-op entry committed by a new leader
+        if (command.isEmpty()) {
+            return;
+        }
         try {
             KvCommand kvCommand = new ObjectMapper().readValue(command, KvCommand.class);
             if (kvCommand.getType() == KvCommand.Type.SET) {
@@ -124,12 +151,43 @@ public class KvServer extends KvStorageImplBase {
     }
 
     @Synchronized("mutex")
-    public void reset(FilePersister persister) {
-        data.clear();
-        persister.readSnapshot();
-        ArrayList<String> commands = persister.getCommands();
+    public void applyLogs(List<String> commands) {
         for (String command : commands) {
             applyLog(command);
         }
     }
+
+    // the value the state machine holds for the key, null if it was never set
+    @Synchronized("mutex")
+    public String getValue(String key) {
+        SimpleEntry<String, String> entry = data.get(key);
+        return entry == null ? null : entry.getKey();
+    }
+
+    // the whole state machine, taken by the applier between two batches so it covers exactly the entries applied
+    @Synchronized("mutex")
+    public byte[] takeSnapshot() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(data);
+        }
+        return baos.toByteArray();
+    }
+
+    // replaces the state machine with the one in the latest snapshot of the persister
+    @SuppressWarnings("unchecked")
+    @Synchronized("mutex")
+    public void reset(FilePersister persister) {
+        data.clear();
+        byte[] bytes = persister.read(0);
+        if (bytes.length == 0) {
+            return;
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            data = (HashMap<String, SimpleEntry<String, String>>) ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            logger.error("[Raft node {}] Failed to load the state machine from the snapshot", raftNode.getId());
+            e.printStackTrace();
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package com.zoecll.persistence;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Creating, deleting or renaming a file only changes its directory, which has to be forced on its own
+ * before the change survives a power loss.
+ */
+final class Directories {
+
+    private Directories() {
+    }
+
+    static void sync(File dir) throws IOException {
+        try (FileChannel channel = FileChannel.open(dir.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+}
@@ -8,12 +8,15 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import protobuf.RaftRPCProto.Member;
+
 public class FilePersister {
 
     private static final Logger logger = LoggerFactory.getLogger(FilePersister.class);
@@ -22,6 +25,7 @@ public class FilePersister {
     private String filename;
     private int id;
     private ReadWriteLock mutex = new ReentrantReadWriteLock();
+    private final Object saveLock = new Object();   // held while a snapshot is written and forced
 
     public FilePersister() {
         this.filename = "default";
@@ -43,16 +47,26 @@ public class FilePersister {
         this.snapshot = new Snapshot(0);
         this.id = id;
     }
+
+    // each raft group hosted by the node keeps snapshots of its own
+    public FilePersister(int id, int groupId) {
+        this.filename = "raft-" + Integer.toString(id) + "-" + Integer.toString(groupId);
+        this.snapshot = new Snapshot(0);
+        this.id = id;
+    }
     
     public void readSnapshot() {
         // read from file
         File folder = new File("snapshots");
         File[] files = folder.listFiles();
+        if (files == null) {
+            return;
+        }
         File latestFile = null;
         for (File file : files) {
             if (file.isFile() 
                 && (latestFile == null || file.getName().compareTo(latestFile.getName()) > 0)
-                && file.getName().startsWith("raft-" + id)) {
+                && file.getName().startsWith(filename + ".")) {
                 latestFile = file;
             }
         }
@@ -77,19 +91,64 @@ public class FilePersister {
         }
     }
     
-    public void saveSnapshot() {
+    // returns true once the snapshot file and its directory entry are on disk, the log it covers may be dropped then
+    public boolean saveSnapshot() {
+        synchronized (mutex.readLock()) {
+            return save(snapshot);
+        }
+    }
+    
+    // saves a snapshot, it replaces the current snapshot once it is on disk. Saves run one at a time and a
+    // snapshot not newer than the current one is dropped, so the latest file is always the newest snapshot
+    public boolean saveSnapshot(Snapshot snapshot) {
+        synchronized (saveLock) {
+            if (snapshot.getLastIncludedIndex() <= getLastIncludedIndex()) {
+                return false;
+            }
+            if (!save(snapshot)) {
+                return false;
+            }
+            synchronized (mutex.writeLock()) {
+                this.snapshot = snapshot;
+            }
+            return true;
+        }
+    }
+
+    private boolean save(Snapshot snapshot) {
         File file = new File("snapshots/" + filename + "." + Long.toString(System.currentTimeMillis()) + ".snapshot");
         try {
-            ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file));
-            synchronized (mutex.readLock()) {
-                oos.writeObject(snapshot);
+            File dir = file.getAbsoluteFile().getParentFile();
+            if (dir.mkdirs()) {
+                Directories.sync(dir.getParentFile());
             }
+            FileOutputStream fos = new FileOutputStream(file);
+            ObjectOutputStream oos = new ObjectOutputStream(fos);
+            oos.writeObject(snapshot);
+            oos.flush();
+            fos.getFD().sync();
             oos.close();
+            Directories.sync(dir);
+            return true;
         } catch (IOException e) {
+            logger.error("Failed to save snapshot {}", file);
             e.printStackTrace();
+            return false;
         }
     }
-    
+
+    public int getLastIncludedIndex() {
+        synchronized (mutex.readLock()) {
+            return snapshot.getLastIncludedIndex();
+        }
+    }
+
+    public int getLastIncludedTerm() {
+        synchronized (mutex.readLock()) {
+            return snapshot.getLastIncludedTerm();
+        }
+    }
+
     public void createSnapshot(int size) {
         snapshot = new Snapshot(size);
     }
@@ -128,9 +187,15 @@ public class FilePersister {
         }
     }
 
-    public ArrayList<String> getCommands() {
+    public void setConfiguration(List<Member> configuration) {
+        synchronized (mutex.writeLock()) {
+            snapshot.setConfiguration(new ArrayList<>(configuration));
+        }
+    }
+
+    public ArrayList<Member> getConfiguration() {
         synchronized (mutex.readLock()) {
-            return snapshot.getCommands();
+            return snapshot.getConfiguration();
         }
     }
 }
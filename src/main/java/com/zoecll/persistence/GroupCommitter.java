@@ -0,0 +1,327 @@
+package com.zoecll.persistence;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import lombok.Getter;
+
+/**
+ * Tracks which appends of one raft group are on disk, the forces themselves are run by the shared committer
+ * of the node, one force covering every append written since the previous one. Appends only write to the
+ * page cache, entries count as persisted once the durability mode says so, and actions waiting for an index
+ * run as soon as it is persisted. Changes of the hard state are forced in the same round as the entries
+ * written along with them.
+ */
+public class GroupCommitter {
+
+    public enum Durability {
+        Batch,      // entries are persisted once a force covering them returned
+        Periodic,   // entries are persisted once written, the log is forced every syncInterval ms
+        Buffered    // entries are persisted once written, flushing is left to the operating system
+    }
+
+    // an append waiting to be covered by a force, for the latency statistics
+    private static class Write {
+        final int lastIndex;
+        final long startNanos;
+
+        Write(int lastIndex, long startNanos) {
+            this.lastIndex = lastIndex;
+            this.startNanos = startNanos;
+        }
+    }
+
+    // an action run once its index and the hard state of its time are persisted, or the other one if the entries are cut off before
+    private static class Waiter {
+        final int index;
+        final int stateVersion;
+        final Runnable persisted;
+        final Runnable dropped;
+
+        Waiter(int index, int stateVersion, Runnable persisted, Runnable dropped) {
+            this.index = index;
+            this.stateVersion = stateVersion;
+            this.persisted = persisted;
+            this.dropped = dropped;
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitter.class);
+    static final long REPORT_INTERVAL = 10000;  // ms between two latency reports
+    private static final int MAX_SAMPLES = 8192;        // latency samples kept per report
+
+    private final int id;
+    private final int groupId;
+    private final WriteAheadLog wal;
+    private final HardState hardState;
+    @Getter
+    private final Durability durability;
+    @Getter
+    private final long syncInterval;
+    private final SharedCommitter shared;
+    private final Runnable onSynced;    // runs after a force advanced the durable index, outside of any lock
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private int writtenIndex;   // last index written to the log
+    private int durableIndex;   // last index covered by a force
+    private int generation = 0; // bumped whenever written entries are cut off, a force in progress no longer counts
+    private final ArrayDeque<Write> writes = new ArrayDeque<>();
+    private int stateVersion = 0;       // bumped whenever the hard state was written
+    private int durableStateVersion = 0;
+    private final ArrayList<Waiter> waiters = new ArrayList<>();
+
+    // persist latencies in microseconds since the last report
+    private final long[] samples = new long[MAX_SAMPLES];
+    private int sampleCount = 0;
+    private long lastReport = System.currentTimeMillis();
+
+    public GroupCommitter(int id, int groupId, WriteAheadLog wal, HardState hardState, Durability durability, long syncInterval, SharedCommitter shared, Runnable onSynced) {
+        this.id = id;
+        this.groupId = groupId;
+        this.wal = wal;
+        this.hardState = hardState;
+        this.durability = durability;
+        this.syncInterval = syncInterval;
+        this.shared = shared;
+        this.onSynced = onSynced;
+        this.writtenIndex = wal.getLastIndex();
+        this.durableIndex = wal.getLastIndex();
+        shared.register(this);
+    }
+
+    // stops forcing the log of this group
+    public void close() {
+        shared.unregister(this);
+    }
+
+    // last index acknowledged as persisted under the durability mode
+    public int getPersistedIndex() {
+        lock.lock();
+        try {
+            return persistedIndex();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // called once entries [firstIndex, lastIndex] were written, startNanos is when the write began
+    public void written(int firstIndex, int lastIndex, long startNanos) {
+        ArrayList<Waiter> ready;
+        ArrayList<Waiter> dropped = new ArrayList<>();
+        lock.lock();
+        try {
+            if (firstIndex <= writtenIndex) {
+                dropped = cutOff(firstIndex - 1);
+            }
+            writtenIndex = lastIndex;
+            if (durability == Durability.Buffered) {
+                sample(startNanos);
+            } else {
+                writes.add(new Write(lastIndex, startNanos));
+            }
+            ready = readyWaiters();
+        } finally {
+            lock.unlock();
+        }
+        if (durability == Durability.Batch) {
+            shared.request();
+        }
+        drop(dropped);
+        runAll(ready);
+    }
+
+    // called once the entries following index were dropped from the log
+    public void truncated(int index) {
+        ArrayList<Waiter> dropped = new ArrayList<>();
+        lock.lock();
+        try {
+            if (index < writtenIndex) {
+                dropped = cutOff(index);
+            }
+        } finally {
+            lock.unlock();
+        }
+        drop(dropped);
+    }
+
+    // called once the log was emptied to continue after index, the entries up to index are covered by a snapshot
+    public void reset(int index) {
+        ArrayList<Waiter> ready;
+        lock.lock();
+        try {
+            generation++;
+            writes.clear();
+            writtenIndex = index;
+            durableIndex = index;
+            ready = readyWaiters();
+        } finally {
+            lock.unlock();
+        }
+        runAll(ready);
+    }
+
+    // called once the hard state was written
+    public void hardStateWritten() {
+        lock.lock();
+        try {
+            stateVersion++;
+        } finally {
+            lock.unlock();
+        }
+        if (durability == Durability.Batch) {
+            shared.request();
+        }
+    }
+
+    // runs persisted once index and the hard state as of now are persisted, right away if they already are,
+    // or dropped if index is cut off before
+    public void whenPersisted(int index, Runnable persisted, Runnable dropped) {
+        lock.lock();
+        try {
+            if (index > persistedIndex() || stateVersion > persistedStateVersion()) {
+                waiters.add(new Waiter(index, stateVersion, persisted, dropped));
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        persisted.run();
+    }
+
+    // runs the action once the hard state as of now is persisted
+    public void whenHardStatePersisted(Runnable action) {
+        whenPersisted(-1, action, () -> {});
+    }
+
+    // whether the log or the hard state was written since the latest force and is to be forced at all
+    boolean needsSync() {
+        lock.lock();
+        try {
+            return durability != Durability.Buffered && (writtenIndex > durableIndex || stateVersion > durableStateVersion);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // forces the log and the hard state, called by the shared committer only
+    void sync() {
+        int target;
+        int syncGeneration;
+        int syncStateVersion;
+        lock.lock();
+        try {
+            target = writtenIndex;
+            syncGeneration = generation;
+            syncStateVersion = stateVersion;
+        } finally {
+            lock.unlock();
+        }
+
+        // appends go on while the force is in progress, they are covered by the next one
+        wal.sync();
+        hardState.sync();
+
+        ArrayList<Waiter> ready;
+        lock.lock();
+        try {
+            durableStateVersion = Math.max(durableStateVersion, syncStateVersion);
+            // unless entries were cut off and rewritten meanwhile, the force may have missed the new ones
+            if (syncGeneration == generation && target > durableIndex) {
+                durableIndex = target;
+                while (!writes.isEmpty() && writes.peek().lastIndex <= durableIndex) {
+                    sample(writes.poll().startNanos);
+                }
+            }
+            ready = readyWaiters();
+        } finally {
+            lock.unlock();
+        }
+        runAll(ready);
+        onSynced.run();
+    }
+
+    private int persistedIndex() {
+        return durability == Durability.Batch ? durableIndex : writtenIndex;
+    }
+
+    private int persistedStateVersion() {
+        return durability == Durability.Batch ? durableStateVersion : stateVersion;
+    }
+
+    private ArrayList<Waiter> cutOff(int index) {
+        generation++;
+        writtenIndex = index;
+        durableIndex = Math.min(durableIndex, index);
+        writes.removeIf(write -> write.lastIndex > index);
+        ArrayList<Waiter> dropped = new ArrayList<>();
+        waiters.removeIf(waiter -> waiter.index > index && dropped.add(waiter));
+        return dropped;
+    }
+
+    private ArrayList<Waiter> readyWaiters() {
+        ArrayList<Waiter> ready = new ArrayList<>();
+        int index = persistedIndex();
+        int version = persistedStateVersion();
+        waiters.removeIf(waiter -> waiter.index <= index && waiter.stateVersion <= version && ready.add(waiter));
+        return ready;
+    }
+
+    private static void runAll(ArrayList<Waiter> ready) {
+        for (Waiter waiter : ready) {
+            waiter.persisted.run();
+        }
+    }
+
+    private static void drop(ArrayList<Waiter> dropped) {
+        for (Waiter waiter : dropped) {
+            waiter.dropped.run();
+        }
+    }
+
+    private void sample(long startNanos) {
+        if (sampleCount < MAX_SAMPLES) {
+            samples[sampleCount++] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        }
+    }
+
+    // persist latency in microseconds at the given percentile of the samples since the last report, -1 if there are none
+    public long getLatency(double percentile) {
+        lock.lock();
+        try {
+            if (sampleCount == 0) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100 * sampleCount);
+            return sorted[Math.max(rank - 1, 0)];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void report() {
+        long now = System.currentTimeMillis();
+        if (now - lastReport < REPORT_INTERVAL) {
+            return;
+        }
+        long p50 = getLatency(50);
+        long p99 = getLatency(99);
+        lock.lock();
+        try {
+            if (sampleCount > 0) {
+                logger.info("[Raft node {}] Persist latency of group {} in {} mode over {} appends: p50 {} us, p99 {} us", id, groupId, durability, sampleCount, p50, p99);
+            }
+            sampleCount = 0;
+            lastReport = now;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.zoecll.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The current term and vote of a raft node, kept in two slots of one file that are written in turns.
+ * A slot is [sequence, term, votedFor, CRC32C of the three], a torn write only damages the slot being
+ * written and the other one still holds the previous state. Writes go to the page cache, sync forces them.
+ */
+public class HardState {
+
+    private static final Logger logger = LoggerFactory.getLogger(HardState.class);
+    private static final int SLOT_SIZE = 512;   // one sector per slot, a write never spans both
+    private static final int RECORD_SIZE = 20;
+
+    private final Path path;
+    private final FileChannel channel;
+    private long sequence = 0;  // sequence number of the latest slot written
+    private int term = 0;
+    private int votedFor = -1;
+    private boolean dirty = false;
+
+    public HardState(String path) {
+        this.path = Paths.get(path);
+        try {
+            boolean created = !Files.exists(this.path);
+            this.channel = FileChannel.open(this.path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (created) {
+                Directories.sync(this.path.toAbsolutePath().getParent().toFile());
+            }
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load hard state " + path, e);
+        }
+    }
+
+    public synchronized int getTerm() {
+        return term;
+    }
+
+    public synchronized int getVotedFor() {
+        return votedFor;
+    }
+
+    // writes the state to the older slot, returns false if it did not change
+    public synchronized boolean save(int term, int votedFor) {
+        if (term == this.term && votedFor == this.votedFor) {
+            return false;
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        record.putLong(sequence + 1);
+        record.putInt(term);
+        record.putInt(votedFor);
+        record.putInt(checksum(record, 16));
+        record.flip();
+        try {
+            long position = (sequence + 1) % 2 * SLOT_SIZE;
+            while (record.hasRemaining()) {
+                position += channel.write(record, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write hard state " + path, e);
+        }
+        sequence++;
+        this.term = term;
+        this.votedFor = votedFor;
+        dirty = true;
+        return true;
+    }
+
+    // forces the slots written since the last sync to disk
+    public void sync() {
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+        }
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sync hard state " + path, e);
+        }
+    }
+
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close hard state {}", path);
+        }
+    }
+
+    // picks the valid slot with the higher sequence number
+    private void load() throws IOException {
+        for (int slot = 0; slot < 2; slot++) {
+            ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+            long position = slot * SLOT_SIZE;
+            while (record.hasRemaining()) {
+                if (channel.read(record, position + record.position()) <= 0) {
+                    break;
+                }
+            }
+            if (record.hasRemaining() || record.getInt(16) != checksum(record, 16)) {
+                continue;
+            }
+            long slotSequence = record.getLong(0);
+            if (slotSequence > sequence) {
+                sequence = slotSequence;
+                term = record.getInt(8);
+                votedFor = record.getInt(12);
+            }
+        }
+        if (sequence > 0) {
+            logger.info("Loaded hard state {}, term: {}, votedFor: {}", path, term, votedFor);
+        }
+    }
+
+    private static int checksum(ByteBuffer record, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(record.duplicate().position(0).limit(length));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,107 @@
+package com.zoecll.persistence;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zoecll.persistence.GroupCommitter.Durability;
+
+/**
+ * Forces the write-ahead logs and hard states of all raft groups of a node on one thread. A round forces
+ * every group written since the previous round, so the groups share one committer instead of running one
+ * each, and appends of all groups arriving while a round is in progress are covered by the next one.
+ */
+public class SharedCommitter extends Thread {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedCommitter.class);
+
+    private final int id;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition signal = lock.newCondition();
+    private final ArrayList<GroupCommitter> committers = new ArrayList<>();
+    private boolean requested = false;  // a group in Batch mode is waiting for a force
+
+    public SharedCommitter(int id) {
+        super("shared-committer-" + id);
+        this.id = id;
+    }
+
+    void register(GroupCommitter committer) {
+        lock.lock();
+        try {
+            committers.add(committer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void unregister(GroupCommitter committer) {
+        lock.lock();
+        try {
+            committers.remove(committer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // called by groups in Batch mode once they wrote something
+    void request() {
+        lock.lock();
+        try {
+            requested = true;
+            signal.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            ArrayList<GroupCommitter> round;
+            try {
+                round = awaitRound();
+            } catch (InterruptedException e) {
+                logger.warn("[Raft node {}] Shared committer interrupted", id);
+                return;
+            }
+            // the group locks are taken one at a time and never along with the lock of this committer
+            for (GroupCommitter committer : round) {
+                if (committer.needsSync()) {
+                    committer.sync();
+                }
+            }
+            for (GroupCommitter committer : round) {
+                committer.report();
+            }
+        }
+    }
+
+    // waits for a request, or until the shortest sync interval of the groups in Periodic mode is up
+    private ArrayList<GroupCommitter> awaitRound() throws InterruptedException {
+        lock.lock();
+        try {
+            if (!requested) {
+                signal.await(interval(), TimeUnit.MILLISECONDS);
+            }
+            requested = false;
+            return new ArrayList<>(committers);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long interval() {
+        long interval = GroupCommitter.REPORT_INTERVAL;
+        for (GroupCommitter committer : committers) {
+            if (committer.getDurability() == Durability.Periodic) {
+                interval = Math.min(interval, committer.getSyncInterval());
+            }
+        }
+        return interval;
+    }
+}
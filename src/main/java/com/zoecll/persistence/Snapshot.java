@@ -1,16 +1,14 @@
 package com.zoecll.persistence;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import lombok.Data;
-import protobuf.RaftRPCProto.LogEntry;
+import protobuf.RaftRPCProto.Member;
 
 @Data
 public class Snapshot implements Serializable {
@@ -21,21 +19,29 @@ public class Snapshot implements Serializable {
     private int lastIncludedIndex;
     private int lastIncludedTerm;
     private int length;
+    private ArrayList<Member> configuration;    // cluster membership as of lastIncludedIndex
 
     public Snapshot(int size) {
         this.lastIncludedIndex = -1;
         this.lastIncludedTerm = -1;
         this.data = new byte[size];
         this.length = 0;
+        this.configuration = new ArrayList<>();
     }
 
+    // the chunks may add up to more than the size guessed when the snapshot was created
     public void write(byte[] data, int offset) {
         if (offset + data.length > this.data.length) {
-            logger.error("Snapshot write failed: out of bound");
-            return;
+            this.data = Arrays.copyOf(this.data, Math.max(offset + data.length, this.data.length * 2));
         }
         System.arraycopy(data, 0, this.data, offset, data.length);
-        this.length += data.length;
+        this.length = Math.max(this.length, offset + data.length);
+    }
+
+    // replaces the contents, read and size cover exactly the given bytes
+    public void setData(byte[] data) {
+        this.data = data;
+        this.length = data.length;
     }
 
     public byte[] read(int offset, int length) {
@@ -51,25 +57,4 @@ public class Snapshot implements Serializable {
     public int size() {
         return this.length;
     }
-
-    public ArrayList<String> getCommands() {
-        try {
-            ObjectInputStream ois;
-            ois = new ObjectInputStream(new ByteArrayInputStream(data));
-            ArrayList<LogEntry> entries = (ArrayList<LogEntry>) ois.readObject();
-            ois.close();
-            ArrayList<String> commands = new ArrayList<>();
-            for (LogEntry entry : entries) {
-                commands.add(entry.getCommand());
-            }
-            return commands;
-        } catch (IOException e) {
-            logger.error("Deserialize failed: IOException");
-            e.printStackTrace();
-        } catch (ClassNotFoundException e) {
-            logger.error("Deserialize failed: ClassNotFoundException");
-            e.printStackTrace();
-        }
-        return null;
-    }
 }
@@ -0,0 +1,715 @@
+package com.zoecll.persistence;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import protobuf.RaftRPCProto.LogEntry;
+
+/**
+ * Durable raft log made of preallocated segment files, each named after the index of its first entry.
+ * A record is a 16 byte header (payload length, log index, term, CRC32C of the other three and the payload)
+ * followed by the serialized entry, and a zero length marks the end of the written part of a segment. The top
+ * bit of the length marks configuration entries, so they can be found without reading every entry.
+ * <p>
+ * A full segment is sealed, and once it is forced a sparse index file next to it records the position of every
+ * INDEX_INTERVAL-th record, the indexes where the term changes and the indexes of the configuration entries.
+ * Recovery trusts the indexed segments and opens them lazily, only the tail and the segments missing an index
+ * file are scanned, in parallel.
+ */
+public class WriteAheadLog {
+
+    // one segment file and the positions of its records
+    static class Segment {
+        final int firstIndex;
+        final File file;
+        FileChannel channel;    // opened on first access for segments recovered from their index file
+        final long capacity;
+        long writePosition = 0;
+        int[] positions = new int[1024];    // position of every record, null until an indexed segment is loaded
+        int[] sparse;                       // position of every INDEX_INTERVAL-th record, read from the index file
+        int count = 0;
+        int[] termIndexes = new int[16];    // first index of every term in the segment
+        int[] terms = new int[16];
+        int termCount = 0;
+        int[] configurations = new int[4];  // index of every configuration entry in the segment
+        int configurationCount = 0;
+        boolean sealed = false;     // full, no more records are appended
+        boolean indexed = false;    // its index file is written
+        boolean intact = true;      // the recovery scan found no damaged record
+
+        Segment(int firstIndex, File file, FileChannel channel, long capacity) {
+            this.firstIndex = firstIndex;
+            this.file = file;
+            this.channel = channel;
+            this.capacity = capacity;
+        }
+
+        int lastIndex() {
+            return firstIndex + count - 1;
+        }
+
+        void addPosition(int position) {
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            positions[count++] = position;
+        }
+
+        void addTerm(int index, int term) {
+            if (termCount > 0 && terms[termCount - 1] == term) {
+                return;
+            }
+            if (termCount == terms.length) {
+                termIndexes = Arrays.copyOf(termIndexes, termCount * 2);
+                terms = Arrays.copyOf(terms, termCount * 2);
+            }
+            termIndexes[termCount] = index;
+            terms[termCount++] = term;
+        }
+
+        int getTerm(int index) {
+            int low = 0;
+            int high = termCount - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (termIndexes[mid] <= index) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return terms[low];
+        }
+
+        void truncateTerms(int index) {
+            while (termCount > 0 && termIndexes[termCount - 1] >= index) {
+                termCount--;
+            }
+        }
+
+        void addConfiguration(int index) {
+            if (configurationCount == configurations.length) {
+                configurations = Arrays.copyOf(configurations, configurationCount * 2);
+            }
+            configurations[configurationCount++] = index;
+        }
+
+        void truncateConfigurations(int index) {
+            while (configurationCount > 0 && configurations[configurationCount - 1] >= index) {
+                configurationCount--;
+            }
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    static final int HEADER_SIZE = 16;
+    static final int INDEX_INTERVAL = 64;   // records between two positions in an index file
+    private static final int CONFIGURATION_FLAG = 0x80000000;
+    private static final int LENGTH_MASK = ~CONFIGURATION_FLAG;
+    private static final int INDEX_MAGIC = 0x57414c49;
+
+    private final File dir;
+    private final int segmentSize;
+    private final ArrayList<Segment> segments = new ArrayList<>();
+    private final ArrayList<Segment> dirty = new ArrayList<>();    // segments written since the last sync
+    private boolean dirDirty = false;   // segment or index files were created, deleted or renamed since the last sync
+    private int nextIndex = 0;  // index of the next entry appended, it starts a new segment if there is none
+
+    public WriteAheadLog(String dir, int segmentSize) {
+        this.dir = new File(dir);
+        this.segmentSize = segmentSize;
+        try {
+            if (this.dir.mkdirs()) {
+                Directories.sync(this.dir.getAbsoluteFile().getParentFile());
+            }
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover write-ahead log " + dir, e);
+        }
+    }
+
+    public synchronized int getFirstIndex() {
+        return segments.isEmpty() ? nextIndex : segments.get(0).firstIndex;
+    }
+
+    public synchronized int getLastIndex() {
+        return nextIndex - 1;
+    }
+
+    public synchronized boolean isEmpty() {
+        return getFirstIndex() == nextIndex;
+    }
+
+    // writes the entries starting at index, replacing whatever was persisted from index on
+    public synchronized void append(int index, List<LogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            if (index < nextIndex) {
+                truncateSuffix(index);
+            } else if (index > nextIndex) {
+                reset(index);
+            }
+            ByteBuffer buffer = null;
+            Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            for (LogEntry entry : entries) {
+                byte[] payload = entry.toByteArray();
+                int recordSize = HEADER_SIZE + payload.length;
+                // a sealed segment stays as it is described by its index file, appends go to a new one
+                if (segment == null || segment.sealed || segment.writePosition + (buffer == null ? 0 : buffer.position()) + recordSize + 4 > segment.capacity) {
+                    flush(segment, buffer);
+                    if (segment != null && !segment.sealed) {
+                        // the next sync writes its index file, even if its last records were forced before
+                        segment.sealed = true;
+                        markDirty(segment);
+                    }
+                    buffer = null;
+                    segment = createSegment(nextIndex, Math.max(segmentSize, recordSize + 4));
+                }
+                if (buffer == null || buffer.remaining() < recordSize) {
+                    buffer = grow(segment, buffer, recordSize);
+                }
+                int length = payload.length;
+                if (entry.getConfigurationCount() > 0) {
+                    length |= CONFIGURATION_FLAG;
+                    segment.addConfiguration(nextIndex);
+                }
+                segment.addPosition((int) (segment.writePosition + buffer.position()));
+                segment.addTerm(nextIndex, entry.getTerm());
+                buffer.putInt(length);
+                buffer.putInt(nextIndex);
+                buffer.putInt(entry.getTerm());
+                buffer.putInt(checksum(length, nextIndex, entry.getTerm(), ByteBuffer.wrap(payload)));
+                buffer.put(payload);
+                nextIndex++;
+            }
+            flush(segment, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to write-ahead log " + dir, e);
+        }
+    }
+
+    // forces everything appended so far to disk, appends may go on while the force is in progress
+    public void sync() {
+        ArrayList<Segment> forced;
+        boolean syncDir;
+        synchronized (this) {
+            forced = new ArrayList<>(dirty);
+            dirty.clear();
+            syncDir = dirDirty;
+            dirDirty = false;
+        }
+        for (Segment segment : forced) {
+            try {
+                segment.channel.force(false);
+            } catch (ClosedChannelException e) {
+                // the segment was dropped meanwhile
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to sync write-ahead log " + dir, e);
+            }
+        }
+        // a new segment is only durable along with its directory entry, and a deleted one must not come back
+        // after a crash to continue the log in place of the entries that replaced it
+        if (syncDir) {
+            try {
+                Directories.sync(dir);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to sync write-ahead log directory " + dir, e);
+            }
+        }
+        // a sealed segment gets its index file once its records are on disk, so an index never describes lost records
+        synchronized (this) {
+            for (Segment segment : forced) {
+                if (segment.sealed && !segment.indexed && !dirty.contains(segment) && segments.contains(segment)) {
+                    writeIndex(segment);
+                }
+            }
+        }
+    }
+
+    // drops the entries from index on
+    public synchronized void truncateSuffix(int index) {
+        try {
+            while (!segments.isEmpty() && segments.get(segments.size() - 1).firstIndex >= index) {
+                deleteSegment(segments.remove(segments.size() - 1));
+            }
+            if (!segments.isEmpty()) {
+                Segment segment = segments.get(segments.size() - 1);
+                if (index <= segment.lastIndex()) {
+                    // the segment takes appends again, its index file no longer describes it
+                    load(segment);
+                    if (segment.sealed) {
+                        segment.sealed = false;
+                        segment.indexed = false;
+                        // a stale index file coming back after a crash would be trusted over the rewritten records
+                        indexFile(segment).delete();
+                        Directories.sync(dir);
+                    }
+                    // zero the dropped records, so recovery can not mistake them for the continuation of the log
+                    long position = segment.positions[index - segment.firstIndex];
+                    zero(segment, position, segment.writePosition - position);
+                    segment.writePosition = position;
+                    segment.count = index - segment.firstIndex;
+                    segment.truncateTerms(index);
+                    segment.truncateConfigurations(index);
+                    markDirty(segment);
+                }
+            }
+            nextIndex = segments.isEmpty() ? index : Math.min(nextIndex, index);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to truncate write-ahead log " + dir, e);
+        }
+    }
+
+    // deletes the segments that only hold entries up through index, called once a snapshot covers them
+    public synchronized void truncatePrefix(int index) {
+        if (index >= getLastIndex()) {
+            reset(index + 1);
+            return;
+        }
+        while (segments.size() > 1 && segments.get(0).lastIndex() <= index) {
+            deleteSegment(segments.remove(0));
+        }
+    }
+
+    // drops every segment, the next entry appended gets firstIndex
+    public synchronized void reset(int firstIndex) {
+        for (Segment segment : segments) {
+            deleteSegment(segment);
+        }
+        segments.clear();
+        dirty.clear();
+        nextIndex = firstIndex;
+    }
+
+    public synchronized LogEntry read(int index) {
+        Segment segment = findSegment(index);
+        if (segment == null) {
+            throw new IndexOutOfBoundsException("log index " + index + " not in the write-ahead log");
+        }
+        try {
+            long position = position(segment, index);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(channel(segment), header, position);
+            ByteBuffer payload = ByteBuffer.allocate(header.getInt(0) & LENGTH_MASK);
+            readFully(channel(segment), payload, position + HEADER_SIZE);
+            return LogEntry.parseFrom(payload.array());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read log index " + index + " from write-ahead log " + dir, e);
+        }
+    }
+
+    // first index of the newest segments that take at most maxBytes on disk, the last segment is always included
+    public synchronized int getTailIndex(long maxBytes) {
+        if (segments.isEmpty()) {
+            return nextIndex;
+        }
+        int i = segments.size() - 1;
+        long bytes = segments.get(i).writePosition;
+        while (i > 0 && bytes + segments.get(i - 1).writePosition <= maxBytes) {
+            i--;
+            bytes += segments.get(i).writePosition;
+        }
+        return segments.get(i).firstIndex;
+    }
+
+    // the term of the entry at index, looked up in the term boundaries without reading the entry
+    public synchronized int getTerm(int index) {
+        Segment segment = findSegment(index);
+        if (segment == null) {
+            throw new IndexOutOfBoundsException("log index " + index + " not in the write-ahead log");
+        }
+        return segment.getTerm(index);
+    }
+
+    // index of the latest configuration entry up through index, -1 if there is none
+    public synchronized int getConfigurationIndex(int index) {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Segment segment = segments.get(i);
+            if (segment.firstIndex > index) {
+                continue;
+            }
+            for (int j = segment.configurationCount - 1; j >= 0; j--) {
+                if (segment.configurations[j] <= index) {
+                    return segment.configurations[j];
+                }
+            }
+        }
+        return -1;
+    }
+
+    // hands the persisted entries from fromIndex on to the consumer in log order, the segments are parsed in parallel
+    public synchronized void replay(int fromIndex, Consumer<LogEntry> consumer) {
+        List<Segment> replayed = segments.stream().filter(segment -> segment.lastIndex() >= fromIndex).collect(Collectors.toList());
+        List<List<LogEntry>> parsed = replayed.parallelStream().map(segment -> parse(segment, fromIndex)).collect(Collectors.toList());
+        for (List<LogEntry> entries : parsed) {
+            entries.forEach(consumer);
+        }
+    }
+
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            if (segment.channel == null) {
+                continue;
+            }
+            try {
+                segment.channel.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close segment {}", segment.file);
+            }
+        }
+    }
+
+    // the log ends at the first record that is torn, corrupt or out of sequence
+    private void recover() throws IOException {
+        File[] files = dir.listFiles((d, name) -> name.matches("\\d{20}\\.wal"));
+        if (files == null || files.length == 0) {
+            return;
+        }
+        Arrays.sort(files);
+        ArrayList<Segment> recovered = new ArrayList<>();
+        for (int i = 0; i < files.length; i++) {
+            int firstIndex = Integer.parseInt(files[i].getName().substring(0, 20));
+            // the tail is always validated, it may end with a torn write
+            Segment segment = i < files.length - 1 ? readIndex(files[i], firstIndex) : null;
+            recovered.add(segment != null ? segment : new Segment(firstIndex, files[i], null, files[i].length()));
+        }
+
+        List<Segment> unindexed = recovered.stream().filter(segment -> !segment.indexed).collect(Collectors.toList());
+        unindexed.parallelStream().forEach(segment -> {
+            try {
+                segment.channel = FileChannel.open(segment.file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+                segment.intact = scan(segment);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to scan write-ahead log segment " + segment.file, e);
+            }
+        });
+
+        boolean broken = false;
+        for (Segment segment : recovered) {
+            if (broken || (!segments.isEmpty() && segment.firstIndex != nextIndex)) {
+                logger.warn("Dropping write-ahead log segment {}, it does not continue the log", segment.file);
+                deleteSegment(segment);
+                broken = true;
+                continue;
+            }
+            broken = !segment.intact;
+            if (segment.count == 0) {
+                deleteSegment(segment);
+                continue;
+            }
+            segments.add(segment);
+            nextIndex = segment.lastIndex() + 1;
+        }
+        if (segments.isEmpty()) {
+            nextIndex = recovered.get(0).firstIndex;
+        }
+        // the segments followed by another one were sealed, the ones missing an index file get it with the next sync
+        for (int i = 0; i < segments.size() - 1; i++) {
+            Segment segment = segments.get(i);
+            segment.sealed = true;
+            if (!segment.indexed) {
+                markDirty(segment);
+            }
+        }
+        logger.info("Recovered write-ahead log {}, entries [{}, {}], {} of {} segments scanned", dir, getFirstIndex(), getLastIndex(), unindexed.size(), files.length);
+    }
+
+    // returns false if the segment ends with a damaged record, which is zeroed along with everything after it
+    private boolean scan(Segment segment) throws IOException {
+        MappedByteBuffer map = segment.channel.map(FileChannel.MapMode.READ_ONLY, 0, segment.capacity);
+        long position = 0;
+        while (position + HEADER_SIZE <= segment.capacity) {
+            int word = map.getInt((int) position);
+            if (word == 0) {
+                break;
+            }
+            int length = word & LENGTH_MASK;
+            int index = map.getInt((int) position + 4);
+            int term = map.getInt((int) position + 8);
+            int crc = map.getInt((int) position + 12);
+            if (position + HEADER_SIZE + length > segment.capacity || index != segment.firstIndex + segment.count
+                    || crc != checksum(word, index, term, map.slice((int) position + HEADER_SIZE, length))) {
+                logger.warn("Damaged record at {} in write-ahead log segment {}, the log ends before it", position, segment.file);
+                zero(segment, position, segment.capacity - position);
+                segment.writePosition = position;
+                return false;
+            }
+            segment.addPosition((int) position);
+            segment.addTerm(index, term);
+            if ((word & CONFIGURATION_FLAG) != 0) {
+                segment.addConfiguration(index);
+            }
+            position += HEADER_SIZE + length;
+        }
+        segment.writePosition = position;
+        return true;
+    }
+
+    // reads the position of every record of an indexed segment, which was opened lazily
+    private void load(Segment segment) throws IOException {
+        if (segment.positions != null) {
+            return;
+        }
+        MappedByteBuffer map = channel(segment).map(FileChannel.MapMode.READ_ONLY, 0, segment.writePosition);
+        int[] positions = new int[Math.max(segment.count, 1)];
+        int position = 0;
+        for (int i = 0; i < segment.count; i++) {
+            positions[i] = position;
+            position += HEADER_SIZE + (map.getInt(position) & LENGTH_MASK);
+        }
+        segment.positions = positions;
+    }
+
+    // position of the record at index, found from the nearest sparse position if the segment is not loaded
+    private long position(Segment segment, int index) throws IOException {
+        int offset = index - segment.firstIndex;
+        if (segment.positions != null) {
+            return segment.positions[offset];
+        }
+        FileChannel channel = channel(segment);
+        long position = segment.sparse[offset / INDEX_INTERVAL];
+        ByteBuffer length = ByteBuffer.allocate(4);
+        for (int i = 0; i < offset % INDEX_INTERVAL; i++) {
+            length.clear();
+            readFully(channel, length, position);
+            position += HEADER_SIZE + (length.getInt(0) & LENGTH_MASK);
+        }
+        return position;
+    }
+
+    // parses the entries of the segment from fromIndex on
+    private List<LogEntry> parse(Segment segment, int fromIndex) {
+        try {
+            int index = Math.max(fromIndex, segment.firstIndex);
+            int position = (int) position(segment, index);
+            MappedByteBuffer map = channel(segment).map(FileChannel.MapMode.READ_ONLY, 0, segment.writePosition);
+            ArrayList<LogEntry> entries = new ArrayList<>(segment.lastIndex() - index + 1);
+            for (; index <= segment.lastIndex(); index++) {
+                int length = map.getInt(position) & LENGTH_MASK;
+                entries.add(LogEntry.parseFrom(map.slice(position + HEADER_SIZE, length)));
+                position += HEADER_SIZE + length;
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replay write-ahead log segment " + segment.file, e);
+        }
+    }
+
+    // [magic, firstIndex, count, writePosition, sparse positions, term boundaries, configuration entries, CRC32C of the rest]
+    private void writeIndex(Segment segment) {
+        int sparseCount = (segment.count + INDEX_INTERVAL - 1) / INDEX_INTERVAL;
+        ByteBuffer buffer = ByteBuffer.allocate(36 + sparseCount * 4 + segment.termCount * 8 + segment.configurationCount * 4);
+        buffer.putInt(INDEX_MAGIC);
+        buffer.putInt(segment.firstIndex);
+        buffer.putInt(segment.count);
+        buffer.putLong(segment.writePosition);
+        buffer.putInt(sparseCount);
+        for (int i = 0; i < segment.count; i += INDEX_INTERVAL) {
+            buffer.putInt(segment.positions[i]);
+        }
+        buffer.putInt(segment.termCount);
+        for (int i = 0; i < segment.termCount; i++) {
+            buffer.putInt(segment.termIndexes[i]);
+            buffer.putInt(segment.terms[i]);
+        }
+        buffer.putInt(segment.configurationCount);
+        for (int i = 0; i < segment.configurationCount; i++) {
+            buffer.putInt(segment.configurations[i]);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+
+        // a crash leaves either no index file or a complete one, a missing one only costs a scan
+        File file = indexFile(segment);
+        File tmp = new File(dir, file.getName() + ".tmp");
+        try {
+            Files.write(tmp.toPath(), buffer.array());
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            segment.indexed = true;
+            // a lost index file only costs a scan, the rename is forced with the next sync
+            dirDirty = true;
+        } catch (IOException e) {
+            logger.warn("Failed to write index file {}, the segment is scanned on recovery", file);
+        }
+    }
+
+    // an indexed segment as described by its index file, null if the file is missing or damaged
+    private Segment readIndex(File file, int firstIndex) {
+        File index = new File(dir, String.format("%020d.idx", firstIndex));
+        if (!index.exists()) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(index.toPath()));
+            if (buffer.limit() < 36) {
+                return null;
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.array(), 0, buffer.limit() - 4);
+            if ((int) crc.getValue() != buffer.getInt(buffer.limit() - 4) || buffer.getInt() != INDEX_MAGIC || buffer.getInt() != firstIndex) {
+                return null;
+            }
+            Segment segment = new Segment(firstIndex, file, null, file.length());
+            segment.count = buffer.getInt();
+            segment.writePosition = buffer.getLong();
+            if (segment.writePosition > segment.capacity) {
+                return null;
+            }
+            segment.positions = null;
+            segment.sparse = new int[buffer.getInt()];
+            for (int i = 0; i < segment.sparse.length; i++) {
+                segment.sparse[i] = buffer.getInt();
+            }
+            int termCount = buffer.getInt();
+            for (int i = 0; i < termCount; i++) {
+                segment.addTerm(buffer.getInt(), buffer.getInt());
+            }
+            int configurationCount = buffer.getInt();
+            for (int i = 0; i < configurationCount; i++) {
+                segment.addConfiguration(buffer.getInt());
+            }
+            if (buffer.position() != buffer.limit() - 4) {
+                return null;
+            }
+            segment.sealed = true;
+            segment.indexed = true;
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring damaged index file {}", index);
+            return null;
+        }
+    }
+
+    private File indexFile(Segment segment) {
+        return new File(dir, String.format("%020d.idx", segment.firstIndex));
+    }
+
+    private FileChannel channel(Segment segment) throws IOException {
+        if (segment.channel == null) {
+            segment.channel = FileChannel.open(segment.file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        return segment.channel;
+    }
+
+    private Segment createSegment(int firstIndex, long capacity) throws IOException {
+        File file = new File(dir, String.format("%020d.wal", firstIndex));
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        Segment segment = new Segment(firstIndex, file, channel, capacity);
+        // the segment is filled with zeros and forced once, so the blocks are allocated up front and the forces of
+        // the appends do not have to write allocation metadata, the zeros beyond the last record mark the end of the log
+        zero(segment, 0, capacity);
+        channel.force(true);
+        segments.add(segment);
+        dirDirty = true;
+        return segment;
+    }
+
+    private void deleteSegment(Segment segment) {
+        if (segment.channel != null) {
+            try {
+                segment.channel.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close segment {}", segment.file);
+            }
+        }
+        dirty.remove(segment);
+        indexFile(segment).delete();
+        if (!segment.file.delete()) {
+            logger.warn("Failed to delete segment {}", segment.file);
+        }
+        dirDirty = true;
+    }
+
+    private Segment findSegment(int index) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Segment segment = segments.get(mid);
+            if (index < segment.firstIndex) {
+                high = mid - 1;
+            } else if (index > segment.lastIndex()) {
+                low = mid + 1;
+            } else {
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    private ByteBuffer grow(Segment segment, ByteBuffer buffer, int recordSize) {
+        int capacity = Math.max(64 * 1024, (buffer == null ? 0 : buffer.position()) + recordSize) * 2;
+        ByteBuffer grown = ByteBuffer.allocate((int) Math.min(capacity, segment.capacity));
+        if (buffer != null) {
+            buffer.flip();
+            grown.put(buffer);
+        }
+        return grown;
+    }
+
+    private void flush(Segment segment, ByteBuffer buffer) throws IOException {
+        if (segment == null || buffer == null || buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        long position = segment.writePosition;
+        while (buffer.hasRemaining()) {
+            position += segment.channel.write(buffer, position);
+        }
+        segment.writePosition = position;
+        markDirty(segment);
+    }
+
+    private void markDirty(Segment segment) {
+        if (!dirty.contains(segment)) {
+            dirty.add(segment);
+        }
+    }
+
+    private static void zero(Segment segment, long position, long length) throws IOException {
+        ByteBuffer zeros = ByteBuffer.allocate((int) Math.min(length, 1024 * 1024));
+        long end = position + length;
+        while (position < end) {
+            zeros.clear();
+            zeros.limit((int) Math.min(zeros.capacity(), end - position));
+            position += segment.channel.write(zeros, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of segment");
+            }
+        }
+    }
+
+    static int checksum(int length, int index, int term, ByteBuffer payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(12).putInt(0, length).putInt(4, index).putInt(8, term));
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+}
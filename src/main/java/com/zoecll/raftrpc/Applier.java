@@ -0,0 +1,106 @@
+package com.zoecll.raftrpc;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zoecll.kvstorage.KvServer;
+
+/**
+ * Applies committed entries to the state machine in a task on the worker threads shared by all groups, so
+ * the raft mutex is only held to pick up the next batch and to publish lastApplied, never while commands
+ * are parsed and applied.
+ */
+class Applier {
+
+    private static final Logger logger = LoggerFactory.getLogger(Applier.class);
+
+    // committed entries picked up for the state machine, or a reset of the state machine to the latest snapshot
+    static class Batch {
+        final int epoch;
+        final int firstIndex;
+        final ArrayList<String> commands;
+        final boolean reset;
+
+        Batch(int epoch, int firstIndex, ArrayList<String> commands) {
+            this.epoch = epoch;
+            this.firstIndex = firstIndex;
+            this.commands = commands;
+            this.reset = false;
+        }
+
+        Batch(int epoch) {
+            this.epoch = epoch;
+            this.firstIndex = -1;
+            this.commands = new ArrayList<>();
+            this.reset = true;
+        }
+
+        int lastIndex() {
+            return firstIndex + commands.size() - 1;
+        }
+    }
+
+    private final RaftNode raftNode;
+    private final KvServer kvServer;
+    private final int maxEntries;
+
+    private final SerialTask task;
+
+    public Applier(RaftNode raftNode, KvServer kvServer, int maxEntries) {
+        this.raftNode = raftNode;
+        this.kvServer = kvServer;
+        this.maxEntries = maxEntries;
+        this.task = new SerialTask(raftNode.getId(), "Applier", raftNode.getWorkers(), this::applyNext);
+    }
+
+    public void start() {
+        task.start();
+    }
+
+    public void stop() {
+        task.stop();
+    }
+
+    public void signal() {
+        task.signal();
+    }
+
+    // applies one batch per run, the next one is queued behind the work of the other groups
+    private void applyNext() {
+        Batch batch = raftNode.nextApplyBatch(maxEntries);
+        if (batch != null) {
+            apply(batch);
+            task.signal();
+        }
+    }
+
+    // resets and batches are handed out in order to this task, which never runs twice at a time, so no batch
+    // can slip in between a snapshot moving lastApplied and the state machine being reloaded from it
+    private void apply(Batch batch) {
+        if (batch.reset) {
+            kvServer.reset(raftNode.getPersister());
+        } else if (raftNode.isApplyEpoch(batch.epoch)) {
+            kvServer.applyLogs(batch.commands);
+        } else {
+            // a snapshot installed since the batch was picked up already covers it
+            return;
+        }
+        raftNode.finishApplyBatch(batch);
+        if (!batch.reset && raftNode.needsSnapshot()) {
+            snapshot(batch);
+        }
+    }
+
+    // the state machine holds exactly the entries up through the batch until this task applies the next one
+    private void snapshot(Batch batch) {
+        try {
+            raftNode.compact(batch, kvServer.takeSnapshot());
+        } catch (IOException e) {
+            logger.error("[Raft node {}] Failed to serialize the state machine", raftNode.getId());
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.zoecll.raftrpc;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zoecll.config.PeerInfo;
+
+import io.grpc.stub.StreamObserver;
+import protobuf.RaftRPCGrpc;
+import protobuf.RaftRPCGrpc.RaftRPCStub;
+import protobuf.RaftRPCProto.GroupHeartbeat;
+import protobuf.RaftRPCProto.GroupHeartbeatResponse;
+import protobuf.RaftRPCProto.HeartbeatRequest;
+import protobuf.RaftRPCProto.HeartbeatResponse;
+
+/**
+ * Collects the heartbeats every group led by this node owes one follower node and sends them as a single
+ * Heartbeat rpc per tick, the responses are handed back to the replicator of each group.
+ */
+class HeartbeatCoalescer {
+
+    // a heartbeat of one group, waiting for the next flush or for its response
+    static class Pending {
+        final RaftNode raftNode;
+        final Replicator replicator;
+        final GroupHeartbeat heartbeat;
+        final long seq;
+        final long sendTime;
+
+        Pending(RaftNode raftNode, Replicator replicator, GroupHeartbeat heartbeat, long seq) {
+            this.raftNode = raftNode;
+            this.replicator = replicator;
+            this.heartbeat = heartbeat;
+            this.seq = seq;
+            this.sendTime = System.currentTimeMillis();
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(HeartbeatCoalescer.class);
+
+    private final int id;
+    private final PeerInfo peer;
+    private final int timeout;
+    private ArrayList<Pending> pending = new ArrayList<>();
+
+    public HeartbeatCoalescer(int id, PeerInfo peer, int timeout) {
+        this.id = id;
+        this.peer = peer;
+        this.timeout = timeout;
+    }
+
+    public synchronized void add(Pending heartbeat) {
+        pending.add(heartbeat);
+    }
+
+    public void flush() {
+        final ArrayList<Pending> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new ArrayList<>();
+        }
+
+        HeartbeatRequest.Builder builder = HeartbeatRequest.newBuilder();
+        builder.setNodeId(id);
+        for (Pending heartbeat : batch) {
+            builder.addHeartbeats(heartbeat.heartbeat);
+        }
+
+        final RaftRPCStub asyncClient = RaftRPCGrpc.newStub(peer.getRpcChannel()).withDeadlineAfter(timeout, TimeUnit.MILLISECONDS);
+        asyncClient.heartbeat(builder.build(), new StreamObserver<HeartbeatResponse>() {
+            @Override
+            public void onNext(HeartbeatResponse response) {
+                for (int i = 0; i < batch.size() && i < response.getResponsesCount(); i++) {
+                    GroupHeartbeatResponse groupResponse = response.getResponses(i);
+                    Pending heartbeat = batch.get(i);
+                    heartbeat.raftNode.handleHeartbeatResponse(heartbeat, groupResponse);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                logger.warn("[Raft node {}] Failed to send {} heartbeats to node {}", id, batch.size(), peer.getId());
+            }
+
+            @Override
+            public void onCompleted() {
+
+            }
+        });
+    }
+}
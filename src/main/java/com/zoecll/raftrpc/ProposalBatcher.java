@@ -0,0 +1,106 @@
+package com.zoecll.raftrpc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces concurrent client proposals into one batch per replication round. A batch is closed
+ * once it reaches maxEntries or maxBytes, or lingerMicros after its first proposal arrived. Batches
+ * are appended by a task on the worker threads shared by all groups, the linger time is kept by the
+ * runtime timer.
+ */
+class ProposalBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProposalBatcher.class);
+
+    private final RaftNode raftNode;
+    private final ScheduledExecutorService timer;
+    private final int maxEntries;
+    private final int maxBytes;
+    private final long lingerMicros;
+
+    private final LinkedBlockingQueue<String> proposals = new LinkedBlockingQueue<>();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicBoolean lingering = new AtomicBoolean(false);  // a flush is scheduled for the end of the linger time
+    private final SerialTask task;
+
+    public ProposalBatcher(RaftNode raftNode, ScheduledExecutorService timer, int maxEntries, int maxBytes, long lingerMicros) {
+        this.raftNode = raftNode;
+        this.timer = timer;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.lingerMicros = lingerMicros;
+        this.task = new SerialTask(raftNode.getId(), "Proposal batcher", raftNode.getWorkers(), this::flush);
+    }
+
+    public void start() {
+        task.start();
+    }
+
+    public void stop() {
+        task.stop();
+    }
+
+    public void propose(String command) {
+        proposals.add(command);
+        long bytes = queuedBytes.addAndGet(size(command));
+        if (proposals.size() >= maxEntries || bytes >= maxBytes) {
+            // a full batch does not wait for the linger time
+            task.signal();
+        } else if (lingering.compareAndSet(false, true)) {
+            try {
+                timer.schedule(task::signal, lingerMicros, TimeUnit.MICROSECONDS);
+            } catch (RejectedExecutionException e) {
+                lingering.set(false);
+            }
+        }
+    }
+
+    private void flush() {
+        // proposals arriving from now on start a linger time of their own
+        lingering.set(false);
+        ArrayList<String> batch = nextBatch();
+        if (batch.isEmpty()) {
+            return;
+        }
+        logger.debug("[Raft node {}] Propose a batch of {} commands", raftNode.getId(), batch.size());
+        if (!raftNode.appendEntries(batch)) {
+            logger.info("[Raft node {}] Drop a batch of {} commands, not leader anymore", raftNode.getId(), batch.size());
+        }
+        // what did not fit lingered long enough already
+        if (!proposals.isEmpty()) {
+            task.signal();
+        }
+    }
+
+    // drains the queued proposals up to one batch, the task is the only consumer
+    private ArrayList<String> nextBatch() {
+        ArrayList<String> batch = new ArrayList<>();
+        int bytes = 0;
+        String command;
+        while (batch.size() < maxEntries && (command = proposals.peek()) != null) {
+            int commandBytes = size(command);
+            if (!batch.isEmpty() && bytes + commandBytes > maxBytes) {
+                break;
+            }
+            proposals.poll();
+            queuedBytes.addAndGet(-commandBytes);
+            batch.add(command);
+            bytes += commandBytes;
+        }
+        return batch;
+    }
+
+    private static int size(String command) {
+        return command.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
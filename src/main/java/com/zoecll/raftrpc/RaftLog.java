@@ -0,0 +1,269 @@
+package com.zoecll.raftrpc;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+import protobuf.RaftRPCProto.LogEntry;
+
+/**
+ * The raft log, addressed by absolute log index. The most recent entries live in fixed-size segments kept in a ring,
+ * so appending, dropping a compacted prefix and cutting off a conflicting suffix never shift the entries in between.
+ * Once the cached entries take more than maxBytes, the oldest segments are evicted and their entries are loaded
+ * from the persisted log on demand.
+ */
+public class RaftLog {
+
+    private final int segmentSize;
+    private final long maxBytes;
+    private final IntFunction<LogEntry> loader;     // reads an evicted entry from disk
+    private final IntUnaryOperator termLoader;      // reads the term of an evicted entry from disk
+    private LogEntry[][] ring = new LogEntry[8][];
+    private int head = 0;       // ring slot of the first segment
+    private int segments = 0;   // number of segments in use
+    private int offset = 0;     // position of the first cached entry within the first segment
+    private int cached = 0;     // number of cached entries
+    private long bytes = 0;     // serialized size of the cached entries
+    private int firstIndex;     // log index of the first entry, the one following the snapshot
+    private int cachedIndex;    // log index of the first cached entry, the entries before it are on disk only
+
+    // a log held in memory as a whole
+    public RaftLog(int segmentSize, int firstIndex) {
+        this(segmentSize, Long.MAX_VALUE, firstIndex, null, null);
+    }
+
+    public RaftLog(int segmentSize, long maxBytes, int firstIndex, IntFunction<LogEntry> loader, IntUnaryOperator termLoader) {
+        this.segmentSize = segmentSize;
+        this.maxBytes = maxBytes;
+        this.loader = loader;
+        this.termLoader = termLoader;
+        this.firstIndex = firstIndex;
+        this.cachedIndex = firstIndex;
+    }
+
+    public int getFirstIndex() {
+        return firstIndex;
+    }
+
+    // index of the last entry, firstIndex - 1 if the log is empty
+    public int getLastIndex() {
+        return cachedIndex + cached - 1;
+    }
+
+    public int size() {
+        return getLastIndex() - firstIndex + 1;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public long getCachedBytes() {
+        return bytes;
+    }
+
+    public LogEntry get(int index) {
+        checkIndex(index);
+        if (index < cachedIndex) {
+            return loader.apply(index);
+        }
+        int position = offset + index - cachedIndex;
+        return segment(position / segmentSize)[position % segmentSize];
+    }
+
+    public int getTerm(int index) {
+        checkIndex(index);
+        if (index < cachedIndex) {
+            return termLoader.applyAsInt(index);
+        }
+        return get(index).getTerm();
+    }
+
+    public void append(LogEntry entry) {
+        int position = offset + cached;
+        if (position / segmentSize == segments) {
+            addSegment();
+        }
+        segment(position / segmentSize)[position % segmentSize] = entry;
+        cached++;
+        bytes += entry.getSerializedSize();
+        evict();
+    }
+
+    public void appendAll(List<LogEntry> entries) {
+        for (LogEntry entry : entries) {
+            append(entry);
+        }
+    }
+
+    // drops the entries up through and including index, whole segments are released without touching the rest
+    public void truncatePrefix(int index) {
+        if (index < firstIndex) {
+            return;
+        }
+        if (index >= getLastIndex()) {
+            clear(index + 1);
+            return;
+        }
+        firstIndex = index + 1;
+        if (index < cachedIndex) {
+            return;
+        }
+        int dropped = index - cachedIndex + 1;
+        int position = offset + dropped;
+        for (int i = 0; i < position / segmentSize; i++) {
+            release(segment(0), i == 0 ? offset : 0, segmentSize);
+            ring[head] = null;
+            head = (head + 1) % ring.length;
+            segments--;
+        }
+        offset = position % segmentSize;
+        // release the dropped entries of the segment that is still partly in use
+        LogEntry[] first = segment(0);
+        release(first, 0, offset);
+        for (int i = 0; i < offset; i++) {
+            first[i] = null;
+        }
+        cached -= dropped;
+        cachedIndex = index + 1;
+    }
+
+    // drops the entries from index on
+    public void truncateSuffix(int index) {
+        if (index > getLastIndex()) {
+            return;
+        }
+        if (index <= firstIndex) {
+            clear(firstIndex);
+            return;
+        }
+        if (index <= cachedIndex) {
+            // only evicted entries are left
+            clearCache(index);
+            return;
+        }
+        int newCached = index - cachedIndex;
+        int end = offset + cached;
+        for (int position = offset + newCached; position < end; position++) {
+            LogEntry[] segment = segment(position / segmentSize);
+            bytes -= segment[position % segmentSize].getSerializedSize();
+            segment[position % segmentSize] = null;
+        }
+        int used = (offset + newCached + segmentSize - 1) / segmentSize;
+        while (segments > used) {
+            segments--;
+            ring[(head + segments) % ring.length] = null;
+        }
+        cached = newCached;
+    }
+
+    // empties the log, the next appended entry gets firstIndex
+    public void clear(int firstIndex) {
+        this.firstIndex = firstIndex;
+        clearCache(firstIndex);
+    }
+
+    // evicts every cached entry before index, if index is past the last entry the entries up to it are
+    // taken to be on disk already, as when a recovered log is only replayed from index on
+    public void uncache(int index) {
+        if (index > getLastIndex()) {
+            clearCache(index);
+            return;
+        }
+        while (segments > 1 && cachedIndex + segmentSize - offset <= index) {
+            evictSegment();
+        }
+    }
+
+    // a view of the entries in [fromIndex, toIndex), valid until the log is modified
+    public List<LogEntry> slice(int fromIndex, int toIndex) {
+        if (fromIndex < firstIndex || toIndex > getLastIndex() + 1 || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("slice [" + fromIndex + ", " + toIndex + ") not in [" + firstIndex + ", " + (getLastIndex() + 1) + ")");
+        }
+        return new Slice(fromIndex, toIndex - fromIndex);
+    }
+
+    private void checkIndex(int index) {
+        if (index < firstIndex || index > getLastIndex()) {
+            throw new IndexOutOfBoundsException("log index " + index + " not in [" + firstIndex + ", " + getLastIndex() + "]");
+        }
+    }
+
+    // drops the oldest segments while over budget, the segment being appended to is always kept
+    private void evict() {
+        while (bytes > maxBytes && segments > 1) {
+            evictSegment();
+        }
+    }
+
+    private void evictSegment() {
+        int evicted = segmentSize - offset;
+        release(segment(0), offset, segmentSize);
+        ring[head] = null;
+        head = (head + 1) % ring.length;
+        segments--;
+        offset = 0;
+        cached -= evicted;
+        cachedIndex += evicted;
+    }
+
+    private void release(LogEntry[] segment, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (segment[i] != null) {
+                bytes -= segment[i].getSerializedSize();
+            }
+        }
+    }
+
+    private void clearCache(int cachedIndex) {
+        ring = new LogEntry[8][];
+        head = 0;
+        segments = 0;
+        offset = 0;
+        cached = 0;
+        bytes = 0;
+        this.cachedIndex = cachedIndex;
+    }
+
+    private LogEntry[] segment(int i) {
+        return ring[(head + i) % ring.length];
+    }
+
+    private void addSegment() {
+        if (segments == ring.length) {
+            LogEntry[][] grown = new LogEntry[ring.length * 2][];
+            for (int i = 0; i < segments; i++) {
+                grown[i] = segment(i);
+            }
+            ring = grown;
+            head = 0;
+        }
+        ring[(head + segments) % ring.length] = new LogEntry[segmentSize];
+        segments++;
+    }
+
+    private class Slice extends AbstractList<LogEntry> implements RandomAccess {
+        private final int fromIndex;
+        private final int size;
+
+        Slice(int fromIndex, int size) {
+            this.fromIndex = fromIndex;
+            this.size = size;
+        }
+
+        @Override
+        public LogEntry get(int i) {
+            if (i < 0 || i >= size) {
+                throw new IndexOutOfBoundsException("slice position " + i + " not in [0, " + size + ")");
+            }
+            return RaftLog.this.get(fromIndex + i);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
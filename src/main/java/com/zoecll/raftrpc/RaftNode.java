@@ -1,30 +1,39 @@
 package com.zoecll.raftrpc;
 
-import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.IOException;
 import java.io.InputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.yaml.snakeyaml.Yaml;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import com.google.protobuf.ByteString;
 import com.zoecll.config.PeerInfo;
 import com.zoecll.kvstorage.KvServer;
 import com.zoecll.persistence.FilePersister;
+import com.zoecll.persistence.GroupCommitter;
+import com.zoecll.persistence.GroupCommitter.Durability;
+import com.zoecll.persistence.HardState;
 import com.zoecll.persistence.Snapshot;
+import com.zoecll.persistence.WriteAheadLog;
 
 import io.grpc.stub.StreamObserver;
 import lombok.Getter;
@@ -34,154 +43,137 @@ import protobuf.RaftRPCGrpc;
 import protobuf.RaftRPCGrpc.RaftRPCStub;
 import protobuf.RaftRPCProto.AppendEntriesRequest;
 import protobuf.RaftRPCProto.AppendEntriesResponse;
+import protobuf.RaftRPCProto.GroupHeartbeat;
+import protobuf.RaftRPCProto.GroupHeartbeatResponse;
 import protobuf.RaftRPCProto.InstallSnapshotRequest;
 import protobuf.RaftRPCProto.InstallSnapshotResponse;
 import protobuf.RaftRPCProto.LogEntry;
+import protobuf.RaftRPCProto.Member;
+import protobuf.RaftRPCProto.PreVoteRequest;
+import protobuf.RaftRPCProto.PreVoteResponse;
+import protobuf.RaftRPCProto.ReadIndexRequest;
+import protobuf.RaftRPCProto.ReadIndexResponse;
 import protobuf.RaftRPCProto.RequestVoteRequest;
 import protobuf.RaftRPCProto.RequestVoteResponse;
+import protobuf.RaftRPCProto.TimeoutNowRequest;
+import protobuf.RaftRPCProto.TimeoutNowResponse;
 
 public class RaftNode {
 
     enum RaftState {
         Follower,
         Candidate,
-        Leader
+        Leader,
+        Learner     // receives the log but never votes or campaigns
     }
 
-    class ElectionTask extends Thread {
-
-        private final int node;
-        private final RequestVoteRequest request;
-
-        public ElectionTask(RequestVoteRequest request, int node) {
-            this.request = request;
-            this.node = node;
-        }
-
-        @Override
-        public void run() {
-            ListenableFuture<RequestVoteResponse> future = sendRequestVote(request, node);
-            try {
-                RequestVoteResponse response = future.get();
-                synchronized (mutex) {
-                    if (response.getTerm() > currentTerm) {
-                        convertToFollower(response.getTerm(), -1);
-                        return;
-                    }
-
-                    if (state != RaftState.Candidate || response.getTerm() != currentTerm) {
-                        return;
-                    }
-                    if (response.getVoteGranted()) {
-                        totalVotes++;
-                        if (state == RaftState.Candidate && totalVotes > peers.size() / 2) {
-                            logger.info("[Raft node {}] Got {}/{} votes, convert to leader", id, totalVotes, peers.size());
-                            convertToLeader();
-                        }
-                    }
-                }
+    public enum ReadMode {
+        Local,      // read the local state machine, no consistency guarantee
+        Lease,      // read on the leader while its lease from the last quorum acknowledgement holds
+        ReadIndex   // read on the leader after a heartbeat round confirmed its leadership
+    }
 
-            } catch (InterruptedException | ExecutionException e) {
-                logger.warn("[Raft node {}] Failed to get response from node {}", id, node);
-            }
+    // a read waiting for a heartbeat round to confirm the leadership
+    static class PendingRead {
+        final int readIndex;
+        final SettableFuture<Integer> future = SettableFuture.create();
 
+        PendingRead(int readIndex) {
+            this.readIndex = readIndex;
         }
     }
 
-    class AppendEntriesTask extends Thread {
+    // asks one peer for its vote, the response is handled on the worker threads of the runtime
+    class ElectionTask implements FutureCallback<RequestVoteResponse> {
 
-        private AppendEntriesRequest request;
         private final int node;
+        private final RequestVoteRequest request;
 
-        public AppendEntriesTask(AppendEntriesRequest request, int node) {
+        public ElectionTask(RequestVoteRequest request, int node) {
             this.request = request;
             this.node = node;
         }
 
+        public void start() {
+            Futures.addCallback(sendRequestVote(request, node), this, getWorkers());
+        }
+
         @Override
-        public void run() {
+        public void onSuccess(RequestVoteResponse response) {
             synchronized (mutex) {
-                if (state != RaftState.Leader) {
+                if (response.getTerm() > currentTerm) {
+                    convertToFollower(response.getTerm(), -1);
                     return;
                 }
-            }
-                
-            while (true) {
-                ListenableFuture<AppendEntriesResponse> future = sendAppendEntries(request, node);
-                try {
-                    AppendEntriesResponse response = future.get();
-                    synchronized (mutex) {
-                        if (response.getTerm() > currentTerm) {
-                            convertToFollower(response.getTerm(), -1);
-                            return;
-                        }
-                        if (state != RaftState.Leader || response.getTerm() != currentTerm) {
-                            return;
-                        }
-                        if (response.getSuccess()) {
-                            matchIndex.set(node, request.getPrevLogIndex() + request.getEntriesCount());
-                            nextIndex.set(node, matchIndex.get(node) + 1);
-                            ArrayList<Integer> sortedMatchIndex = new ArrayList<>(matchIndex);
-                            sortedMatchIndex.set(id, getMaxLogIndex());
-                            Collections.sort(sortedMatchIndex);
-                            int newCommitIndex = sortedMatchIndex.get(peers.size() / 2);
-                            if (newCommitIndex > commitIndex && getLogByIndex(newCommitIndex).getTerm() == currentTerm) {
-                                commitIndex = newCommitIndex;
-                                applyLogs();
-                            }
-                            return;
-                        }
-                        
-                        AppendEntriesRequest.Builder builder = AppendEntriesRequest.newBuilder();
-                        nextIndex.set(node, nextIndex.get(node) - 1);
-                        builder.setTerm(currentTerm);
-                        builder.setLeaderId(id);
-                        builder.setPrevLogIndex(nextIndex.get(node) - 1);
-                        builder.setPrevLogTerm(getLastLogTerm());
-                        builder.addAllEntries(logs.subList(nextIndex.get(node) - lastIncludedIndex - 1, logs.size()));
-                        builder.setLeaderCommit(commitIndex);
-                        request = builder.build();
+
+                if (state != RaftState.Candidate || response.getTerm() != currentTerm) {
+                    return;
+                }
+                if (response.getVoteGranted()) {
+                    totalVotes++;
+                    if (state == RaftState.Candidate && totalVotes > getVoterCount() / 2) {
+                        logger.info("[Raft node {}] Got {}/{} votes, convert to leader", id, totalVotes, getVoterCount());
+                        convertToLeader();
                     }
-                } catch (InterruptedException | ExecutionException e) {
-                    logger.warn("[Raft node {}] Failed to get response from node {}", id, node);
                 }
             }
         }
+
+        @Override
+        public void onFailure(Throwable t) {
+            logger.warn("[Raft node {}] Failed to get response from node {}", id, node);
+        }
     }
 
-    class InstallSnapshotTask extends Thread {
-        private InstallSnapshotRequest request;
+    // asks one peer whether it would vote for this node, the response is handled on the worker threads of the runtime
+    class PreVoteTask implements FutureCallback<PreVoteResponse> {
+
         private final int node;
+        private final PreVoteRequest request;
+        private final int round;
 
-        public InstallSnapshotTask(InstallSnapshotRequest request, int node) {
+        public PreVoteTask(PreVoteRequest request, int node, int round) {
             this.request = request;
             this.node = node;
+            this.round = round;
+        }
+
+        public void start() {
+            Futures.addCallback(sendPreVote(request, node), this, getWorkers());
         }
 
         @Override
-        public void run() {
+        public void onSuccess(PreVoteResponse response) {
             synchronized (mutex) {
-                if (state != RaftState.Leader) {
-                    return;
-                }
-            }
-            ListenableFuture<InstallSnapshotResponse> future = sendInstallSnapshot(request, node);
-            try {
-                InstallSnapshotResponse response = future.get();
                 if (response.getTerm() > currentTerm) {
                     convertToFollower(response.getTerm(), -1);
                     return;
                 }
-            } catch (InterruptedException | ExecutionException e) {
-                logger.warn("[Raft node {}] Failed to get response from node {}", id, node);
+
+                if (state == RaftState.Leader || round != preVoteRound || request.getTerm() != currentTerm + 1) {
+                    return;
+                }
+                if (response.getVoteGranted()) {
+                    totalPreVotes++;
+                    if (totalPreVotes == getVoterCount() / 2 + 1) {
+                        logger.info("[Raft node {}] Got {}/{} pre-votes, start election", id, totalPreVotes, getVoterCount());
+                        startLeaderElection();
+                    }
+                }
             }
         }
+
+        @Override
+        public void onFailure(Throwable t) {
+            logger.warn("[Raft node {}] Failed to get response from node {}", id, node);
+        }
     }
 
     private static final Logger logger = LoggerFactory.getLogger(RaftNode.class);
 
     // server components
-    RaftRPCServer raftRPCServer = new RaftRPCServer(this);
+    private final RaftRuntime runtime;  // shares servers, channels and timer threads with the other groups of this node
+    private boolean ownsRuntime = false;
     @Getter
     KvServer kvServer = new KvServer(this);
 
@@ -189,103 +181,250 @@ public class RaftNode {
     @Getter
     private final int id;
     @Getter
-    private final ArrayList<PeerInfo> peers;
+    private final int groupId;
+    @Getter
+    private volatile ArrayList<PeerInfo> peers;     // the current configuration, replaced as a whole on every change
     private int totalVotes;
+    private int totalPreVotes;
+    private int preVoteRound;   // responses of earlier pre-vote rounds are ignored
     private RaftState state;
+    private int leaderId = -1;  // the leader of the current term as far as this node knows, -1 if unknown
+    private int transferee = -1;        // the follower leadership is being transferred to, -1 if none
+    private long transferDeadline = 0;  // the transfer is aborted if the transferee has not taken over by then
+    private boolean timeoutNowSent = false;
 
     // persistent state on all servers
     private int currentTerm;
     private int votedFor;
-    private ArrayList<LogEntry> logs;
+    private RaftLog logs;   // entries following lastIncludedIndex, the older ones are read from the write-ahead log
+    private WriteAheadLog wal;  // the durable copy of logs, recovered on startup
+    private HardState hardState;    // the durable copy of currentTerm and votedFor
+    private GroupCommitter committer;   // tracks the forces of the write-ahead log, run off the raft mutex by the shared committer
 
     // volatile state on all servers
     private int commitIndex;    // index of highest log entry known to be committed
     private int lastApplied;    // index of highest log entry applied to state machine
+    private Applier applier;    // applies committed entries outside of the raft mutex
+    private volatile int applyEpoch = 0; // bumped whenever a snapshot moves lastApplied, batches of older epochs are dropped
+    private boolean resetPending = false;   // the state machine has to be reloaded from the snapshot before the next batch
 
     // volatile state on leaders
-    private ArrayList<Integer> nextIndex;   // the next log entry the leader will Send to that follower, initialized to 0
-    private ArrayList<Integer> matchIndex;  // the highest log entry known to be replicated on that follower, initialized to -1
+    private HashMap<Integer, Replicator> replicators;   // one long-lived replicator task per follower, owns nextIndex and matchIndex
+    private ProposalBatcher proposalBatcher;            // coalesces client proposals into one append per replication round
+
+    // membership, the latest configuration in the log takes effect as soon as it is appended
+    private ArrayList<Member> snapshotConfiguration;    // the configuration as of lastIncludedIndex
+    private int configurationIndex = -1;                // index of the latest configuration entry
+    private boolean started = false;
 
     // log compression
     private int lastIncludedIndex;  // the snapshot replaces all entries up through and including this index
     private int lastIncludedTerm;   // term of lastIncludedIndex
+    private Snapshot incomingSnapshot;  // the chunks of a snapshot being installed from the leader
     @Getter
     private FilePersister persister;
 
-    private final ReentrantLock mutex = new ReentrantLock();
+    // the one lock of the consensus state: term, vote, role, log, configuration and the progress of the replicators
+    // are all guarded by it, getters included. The replicator and applier signals, the heartbeat coalescers, the
+    // group committer, the write-ahead log, the state machine and the snapshot persister have locks of their own,
+    // which may be taken while holding this one but never the other way round.
+    private final Object mutex = new Object();
+    @Getter
     private int electionTimeoutMin = 150;
     private int electionTimeoutMax = 300;
-    private int electionTimeout = 200;
-    private int heartbeat = 50;
     private int maxLogSize = 1000;
+    private boolean preVote = true; // only start an election after a majority agreed it could be won
+    private boolean checkQuorum = true; // the leader steps down once a majority stopped answering
+    private long leaderSince = 0;
+    @Getter
+    private ReadMode readMode = ReadMode.Lease;
+    private int maxClockDrift = 1000;   // margin taken off the leader lease for clock drift between nodes
+    private boolean followerRead = true;    // followers serve reads after fetching the read index from the leader
+
+    // ReadIndex reads, concurrent reads share one confirmation round
+    private long sendSeq = 0;   // sequence number of the latest AppendEntries request built by this leader
+    private ArrayList<PendingRead> queuedReads = new ArrayList<>();     // reads waiting for the next round
+    private ArrayList<PendingRead> confirmingReads = new ArrayList<>(); // reads waiting for the current round
+    private long confirmingSeq = -1;    // requests from this sequence number on confirm the current round
+    private final ScheduledExecutorService timer;
+    private ScheduledFuture<?> electionTimer;   // fires when no leader was heard of within the election timeout
+    private int maxInflight = 8;    // maximum AppendEntries requests in flight per follower
+    private long maxInflightBytes = 16 * 1024 * 1024;   // maximum bytes in flight per follower
+    private int maxEntries = 512;   // maximum entries per AppendEntries request
+    private int maxBytes = 1024 * 1024; // maximum entry bytes per AppendEntries request
+    private int maxProposalEntries = 256;
+    private int maxProposalBytes = 1024 * 1024;
+    private int proposalLingerMicros = 500;
+    private int maxApplyEntries = 1024; // maximum entries applied to the state machine in one batch
+    private int logSegmentSize = 1024;  // entries per segment of the in-memory log
+    private long logCacheBytes = 64 * 1024 * 1024;  // bytes of recent entries kept in memory
+    private int walSegmentSize = 64 * 1024 * 1024;  // bytes per preallocated segment file of the write-ahead log
+    private Durability durability = Durability.Batch;
+    private int syncInterval = 10;  // ms between two forces of the write-ahead log in Periodic mode
     @Setter
     private long lastReceiveAppendEntries = System.currentTimeMillis();
 
+    // a node hosting a single raft group, with a runtime of its own
     public RaftNode(int id, ArrayList<PeerInfo> peers) {
-        this.id = id;
+        this(new RaftRuntime(id, peers, false), 0);
+        this.ownsRuntime = true;
+        runtime.addGroup(this);
+    }
+
+    public RaftNode(RaftRuntime runtime, int groupId) {
+        this.runtime = runtime;
+        this.id = runtime.getId();
+        this.groupId = groupId;
         this.totalVotes = 0;
-        this.state = RaftState.Follower;
+        ArrayList<PeerInfo> peers = new ArrayList<>(runtime.getPeers());
+        this.state = peers.stream().anyMatch(peer -> peer.getId() == id && !peer.isLearner()) ? RaftState.Follower : RaftState.Learner;
         this.peers = peers;
+        this.snapshotConfiguration = toMembers(peers);
 
         this.currentTerm = 0;
         this.votedFor = -1;
-        this.logs = new ArrayList<>();
 
         this.commitIndex = -1;
         this.lastApplied = -1;
-        this.nextIndex = new ArrayList<>(Collections.nCopies(peers.size(), 0));
-        this.matchIndex = new ArrayList<>(Collections.nCopies(peers.size(), -1));
+        this.replicators = new HashMap<>();
+        for (PeerInfo peer : peers) {
+            if (peer.getId() != id) {
+                replicators.put(peer.getId(), new Replicator(this, peer.getId(), peer.isLearner()));
+            }
+        }
 
         this.lastIncludedIndex = -1;
         this.lastIncludedTerm = -1;
-        this.persister = new FilePersister(id);
+        this.persister = new FilePersister(id, groupId);
+        this.timer = runtime.getTimer();
 
         Yaml yaml = new Yaml();
         try {
             InputStream input = new FileInputStream("src/main/resources/config.yml");
             Map<String, Map<String, Object>> data = yaml.load(input);
             Map<String, Integer> timeout = (Map<String, Integer>) data.get("cluster").get("timeout");
-            this.heartbeat = timeout.get("heartbeat");
             this.electionTimeoutMin = timeout.get("electionTimeoutMin");
             this.electionTimeoutMax = timeout.get("electionTimeoutMax");
             this.maxLogSize = (int) data.get("cluster").get("maxLogSize");
+            Map<String, Boolean> election = (Map<String, Boolean>) data.get("cluster").get("election");
+            this.preVote = election.get("preVote");
+            this.checkQuorum = election.get("checkQuorum");
+            Map<String, Object> read = (Map<String, Object>) data.get("cluster").get("read");
+            this.readMode = ReadMode.valueOf((String) read.get("mode"));
+            this.maxClockDrift = (int) read.get("maxClockDrift");
+            this.followerRead = (boolean) read.get("followerRead");
+            Map<String, Integer> replication = (Map<String, Integer>) data.get("cluster").get("replication");
+            this.maxInflight = replication.get("maxInflight");
+            this.maxInflightBytes = replication.get("maxInflightBytes");
+            this.maxEntries = replication.get("maxEntries");
+            this.maxBytes = replication.get("maxBytes");
+            Map<String, Integer> proposal = (Map<String, Integer>) data.get("cluster").get("proposal");
+            this.maxProposalEntries = proposal.get("maxEntries");
+            this.maxProposalBytes = proposal.get("maxBytes");
+            this.proposalLingerMicros = proposal.get("lingerMicros");
+            Map<String, Integer> apply = (Map<String, Integer>) data.get("cluster").get("apply");
+            this.maxApplyEntries = apply.get("maxEntries");
+            Map<String, Object> log = (Map<String, Object>) data.get("cluster").get("log");
+            this.logSegmentSize = (int) log.get("segmentSize");
+            this.logCacheBytes = ((Number) log.get("cacheBytes")).longValue();
+            this.walSegmentSize = (int) log.get("walSegmentSize");
+            this.durability = Durability.valueOf((String) log.get("durability"));
+            this.syncInterval = (int) log.get("syncInterval");
         } catch (FileNotFoundException e) {
             logger.error("Node config file not found.");
             e.printStackTrace();
         }
+        this.proposalBatcher = new ProposalBatcher(this, timer, maxProposalEntries, maxProposalBytes, proposalLingerMicros);
+        this.applier = new Applier(this, kvServer, maxApplyEntries);
+        String walDir = "wal/raft-" + id + "-" + groupId;
+        this.wal = new WriteAheadLog(walDir, walSegmentSize);
+        this.hardState = new HardState(walDir + "/hardstate");
+        this.logs = new RaftLog(logSegmentSize, logCacheBytes, lastIncludedIndex + 1, wal::read, wal::getTerm);
+        this.currentTerm = hardState.getTerm();
+        this.votedFor = hardState.getVotedFor();
+        recoverLog();
+        this.committer = new GroupCommitter(id, groupId, wal, hardState, durability, syncInterval, runtime.getCommitter(), this::onLogsSynced);
     }
 
-    public void lock() {
-        mutex.lock();
-    }
-
-    public void unlock() {
-        mutex.unlock();
+    // reloads the log persisted before a restart, the entries compacted away are restored from the latest snapshot
+    private void recoverLog() {
+        // an emptied log does not remember where it started, a snapshot installed before may still cover entries
+        boolean compacted = wal.isEmpty() ? new File("snapshots").isDirectory() : wal.getFirstIndex() > 0;
+        if (compacted) {
+            persister.readSnapshot();
+            if (persister.getLastIncludedIndex() >= 0) {
+                lastIncludedIndex = persister.getLastIncludedIndex();
+                lastIncludedTerm = persister.getLastIncludedTerm();
+                snapshotConfiguration = persister.getConfiguration();
+                commitIndex = lastIncludedIndex;
+                lastApplied = lastIncludedIndex;
+                kvServer.reset(persister);
+            }
+        }
+        if (wal.isEmpty() && lastIncludedIndex < 0) {
+            return;
+        }
+        if (wal.getFirstIndex() > lastIncludedIndex + 1 || wal.getLastIndex() <= lastIncludedIndex) {
+            logger.warn("[Raft node {}] Persisted log [{}, {}] does not follow the snapshot at {}, discard it", id, wal.getFirstIndex(), wal.getLastIndex(), lastIncludedIndex);
+            wal.reset(lastIncludedIndex + 1);
+        }
+        // only the tail that fits into the cache is read back, the older entries stay on disk until asked for
+        int tailIndex = Math.max(lastIncludedIndex + 1, wal.getTailIndex(logCacheBytes));
+        logs.clear(lastIncludedIndex + 1);
+        logs.uncache(tailIndex);
+        wal.replay(tailIndex, logs::append);
+        updateConfiguration();
+        logger.info("[Raft node {}] Recovered {} log entries, {} of them cached, last log index: {}", id, logs.size(), getMaxLogIndex() - tailIndex + 1, getMaxLogIndex());
     }
 
     @Synchronized("mutex")
-    public synchronized void convertToFollower(int term, int votedFor) {
+    public void convertToFollower(int term, int votedFor) {
+        if (term > currentTerm) {
+            leaderId = -1;
+            this.votedFor = -1;
+        }
+        if (state == RaftState.Learner) {
+            currentTerm = term;
+            persistHardState();
+            return;
+        }
         if (state != RaftState.Follower) {
             logger.info("[Raft node {}] Convert {} to follower", state.toString(), id);
         }
 
         currentTerm = term;
+        persistHardState();
         state = RaftState.Follower;
-        votedFor = -1;
         totalVotes = 0;
+        failPendingReads();
+        transferee = -1;
+        resetElectionTimer();
     }
 
     @Synchronized("mutex")
-    private synchronized void convertToLeader() {
+    private void convertToLeader() {
         if (state != RaftState.Leader) {
             logger.info("[Raft node {}] Convert {} to leader", id, state.toString());
         }
 
         state = RaftState.Leader;
+        leaderId = id;
+        leaderSince = System.currentTimeMillis();
+        for (Replicator replicator : replicators.values()) {
+            replicator.reset(getMaxLogIndex() + 1);
+        }
+        // commit a no-op entry of the new term, so the leader learns which entries are committed before serving reads
+        appendLeaderLogs(List.of(LogEntry.newBuilder().setTerm(currentTerm).setCommand("").build()));
+        if (electionTimer != null) {
+            electionTimer.cancel(false);
+            electionTimer = null;
+        }
+        // later heartbeats come with the heartbeat tick of the runtime
+        startAppendEntries();
     }
 
     @Synchronized("mutex")
-    private synchronized void convertToCandidate() {
+    private void convertToCandidate() {
         if (state != RaftState.Candidate) {
             logger.info("[Raft node {}] Convert {} to candidate", id, state.toString());
         }
@@ -293,39 +432,140 @@ public class RaftNode {
         state = RaftState.Candidate;
         currentTerm++;
         votedFor = id;
+        persistHardState();
         totalVotes = 1;
-        electionTimeout = new Random().nextInt(2000) + 3000;
+        resetElectionTimer();
+    }
+
+    // pushes the election deadline back by a new random timeout
+    @Synchronized("mutex")
+    public void resetElectionTimer() {
+        if (electionTimer != null) {
+            electionTimer.cancel(false);
+        }
+        if (state == RaftState.Learner) {
+            return;
+        }
+        int electionTimeout = electionTimeoutMin + new Random().nextInt(electionTimeoutMax - electionTimeoutMin);
+        electionTimer = timer.schedule(this::onElectionTimeout, electionTimeout, TimeUnit.MILLISECONDS);
+    }
+
+    private void onElectionTimeout() {
+        synchronized (mutex) {
+            // a node removed from the configuration must not disrupt the cluster
+            if (state == RaftState.Leader || !isVoter(id)) {
+                return;
+            }
+            logger.info("[Raft node {}] No AppendEntriesRequest received within election timeout, start election task", id);
+            if (preVote) {
+                startPreVote();
+                return;
+            }
+        }
+        startLeaderElection();
     }
 
+    // called by the runtime every heartbeat interval
+    void onHeartbeatTimeout() {
+        synchronized (mutex) {
+            if (state != RaftState.Leader) {
+                return;
+            }
+            if (checkQuorum && !hasQuorum()) {
+                logger.info("[Raft node {}] Lost contact with a majority, step down", id);
+                convertToFollower(currentTerm, -1);
+                return;
+            }
+            if (transferee != -1 && System.currentTimeMillis() > transferDeadline) {
+                logger.info("[Raft node {}] Leadership transfer to node {} timed out", id, transferee);
+                transferee = -1;
+            }
+            sendHeartbeats();
+        }
+    }
+
+    // hands newly committed entries to the applier
     @Synchronized("mutex")
     public void applyLogs() {
-        int applied = commitIndex - lastApplied;
-        while (lastApplied < commitIndex) {
-            lastApplied++;
-            kvServer.applyLog(getLogByIndex(lastApplied).getCommand());
+        if (lastApplied < commitIndex) {
+            applier.signal();
+        }
+    }
+
+    // the committed entries following lastApplied, null if there are none, a reset of the state machine goes first
+    @Synchronized("mutex")
+    Applier.Batch nextApplyBatch(int maxEntries) {
+        if (resetPending) {
+            return new Applier.Batch(applyEpoch);
+        }
+        if (lastApplied >= commitIndex) {
+            return null;
+        }
+        ArrayList<String> commands = new ArrayList<>();
+        for (int index = lastApplied + 1; index <= commitIndex && commands.size() < maxEntries; index++) {
+            commands.add(getLogByIndex(index).getCommand());
+        }
+        return new Applier.Batch(applyEpoch, lastApplied + 1, commands);
+    }
+
+    // read without the mutex, the applier asks right before it applies a batch
+    boolean isApplyEpoch(int epoch) {
+        return applyEpoch == epoch;
+    }
+
+    @Synchronized("mutex")
+    void finishApplyBatch(Applier.Batch batch) {
+        if (batch.epoch != applyEpoch) {
+            return;
         }
-        if (applied > 0) {
-            logger.debug("[Raft node {}] Apply {} logs to state machine, lastApplied: {}", id, applied, lastApplied);
+        if (batch.reset) {
+            // a snapshot installed meanwhile bumped the epoch and needs another reset
+            resetPending = false;
+            mutex.notifyAll();
+            logger.info("[Raft node {}] Reset state machine to the snapshot, lastApplied: {}", id, lastApplied);
+            return;
         }
+        lastApplied = batch.lastIndex();
+        mutex.notifyAll();
+        logger.debug("[Raft node {}] Apply {} logs to state machine, lastApplied: {}", id, batch.commands.size(), lastApplied);
     }
 
+    // queues the command for the next proposal batch, returns false if this node is not the leader
     @Synchronized("mutex")
     public boolean appendEntry(String command) {
+        if (state != RaftState.Leader || transferee != -1) {
+            return false;
+        }
+        proposalBatcher.propose(command);
+        return true;
+    }
+
+    // appends a batch of the proposal batcher, proposals accepted before a leadership transfer started are still
+    // appended, the transfer waits for the transferee to catch up with them
+    @Synchronized("mutex")
+    boolean appendEntries(List<String> commands) {
         if (state != RaftState.Leader) {
             return false;
         }
-        LogEntry.Builder builder = LogEntry.newBuilder();
-        builder.setTerm(currentTerm);
-        builder.setCommand(command);
-        logs.add(builder.build());
-        nextIndex.set(id, getMaxLogIndex() + 1);
-        matchIndex.set(id, getMaxLogIndex());
+        ArrayList<LogEntry> entries = new ArrayList<>();
+        for (String command : commands) {
+            LogEntry.Builder builder = LogEntry.newBuilder();
+            builder.setTerm(currentTerm);
+            builder.setCommand(command);
+            entries.add(builder.build());
+        }
+        appendLeaderLogs(entries);
         startAppendEntries();
         return true;
     }
 
     @Synchronized("mutex")
     private void startLeaderElection() {
+        startLeaderElection(false);
+    }
+
+    @Synchronized("mutex")
+    private void startLeaderElection(boolean leadershipTransfer) {
         logger.info("[Raft node {}] Starting leader election", id);
 
         convertToCandidate();
@@ -333,254 +573,1267 @@ public class RaftNode {
         int lastLogTerm = getLastLogTerm();
 
         RequestVoteRequest.Builder builder = RequestVoteRequest.newBuilder();
+        builder.setGroupId(groupId);
         builder.setTerm(currentTerm);
         builder.setCandidateId(id);
         builder.setLastLogIndex(lastLogIndex);
         builder.setLastLogTerm(lastLogTerm);
-        for (int i = 0; i < peers.size(); i++) {
-            if (i == id) {
+        builder.setLeadershipTransfer(leadershipTransfer);
+        ArrayList<ElectionTask> tasks = new ArrayList<>();
+        for (PeerInfo peer : peers) {
+            if (peer.getId() == id || peer.isLearner()) {
                 continue;
             }
-            new ElectionTask(builder.build(), i).start();
+            tasks.add(new ElectionTask(builder.build(), peer.getId()));
         }
+        // votes are only asked for once the vote for this node is persisted
+        committer.whenHardStatePersisted(() -> tasks.forEach(ElectionTask::start));
     }
 
+    // hands leadership over to the given follower: proposals are refused from now on, the follower is brought
+    // up to date and then told to start an election at once, returns false if this node is not the leader
     @Synchronized("mutex")
-    private void startAppendEntries() {
-        logger.info("[Raft node {}] Starting appendEntries, current term: {}, log size: {}, commit index: {}", id, currentTerm, logs.size(), commitIndex);
+    public boolean transferLeadership(int target) {
+        if (state != RaftState.Leader || target == id || !replicators.containsKey(target) || replicators.get(target).isLearner()) {
+            return false;
+        }
+        logger.info("[Raft node {}] Transfer leadership to node {}", id, target);
+        transferee = target;
+        transferDeadline = System.currentTimeMillis() + electionTimeoutMin;
+        timeoutNowSent = false;
+        replicators.get(target).signal();
+        checkTransfer();
+        return true;
+    }
 
-        for (int i = 0; i < peers.size(); i++) {
-            if (i == id) {
+    // transfers leadership to the most up-to-date follower
+    @Synchronized("mutex")
+    public boolean transferLeadership() {
+        Replicator target = null;
+        for (Replicator replicator : replicators.values()) {
+            if (replicator.isLearner()) {
                 continue;
             }
-
-            AppendEntriesRequest.Builder builder = AppendEntriesRequest.newBuilder();
-            builder.setTerm(currentTerm);
-            builder.setLeaderId(id);
-            builder.setPrevLogIndex(nextIndex.get(i) - 1);
-            if (nextIndex.get(i) - lastIncludedIndex - 2 < 0) {
-                builder.setPrevLogTerm(lastIncludedTerm);
-            } else {
-                builder.setPrevLogTerm(getLogByIndex(nextIndex.get(i) - 1).getTerm());
+            if (target == null || replicator.getMatchIndex() > target.getMatchIndex()) {
+                target = replicator;
             }
-            builder.addAllEntries(logs.subList(nextIndex.get(i) - lastIncludedIndex - 1, logs.size()));
-            builder.setLeaderCommit(commitIndex);
-            new AppendEntriesTask(builder.build(), i).start();
         }
+        return target != null && transferLeadership(target.getNode());
     }
 
     @Synchronized("mutex")
-    private void startInstallSnapshot() {
-        Snapshot snapshot = new Snapshot(1024 * 1024);
-        int installIndex = Math.min(Math.min(commitIndex, Collections.min(nextIndex) - 1), lastApplied);
-        snapshot.setLastIncludedIndex(installIndex);
-        snapshot.setLastIncludedTerm(getLogByIndex(installIndex).getTerm());
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ObjectOutputStream oos;
-        try {
-            oos = new ObjectOutputStream(baos);
-            ArrayList<LogEntry> entries = new ArrayList<>(logs.subList(0, installIndex - lastIncludedIndex));
-            oos.writeObject(entries);
-        } catch (IOException e) {
-            logger.error("Snapshot serialization failed");
-            e.printStackTrace();
+    private void checkTransfer() {
+        if (transferee == -1 || timeoutNowSent || replicators.get(transferee).getMatchIndex() < getMaxLogIndex()) {
             return;
         }
-        snapshot.setData(baos.toByteArray());
-        logger.info("[Raft node {}] Starting installSnapshot, it will clear {} logs", id, installIndex - lastIncludedIndex);
-        logs.subList(0, installIndex - lastIncludedIndex).clear();
-        lastIncludedIndex = installIndex;
-        lastIncludedTerm = currentTerm;
-
-        InstallSnapshotRequest.Builder builder = InstallSnapshotRequest.newBuilder();
-        builder.setTerm(currentTerm);
-        builder.setLeaderId(id);
-        builder.setLastIncludedIndex(snapshot.getLastIncludedIndex());
-        builder.setLastIncludedTerm(snapshot.getLastIncludedTerm());
-        builder.setOffset(0);
-        builder.setData(ByteString.copyFrom(snapshot.getData()));
-        builder.setDone(true);
-
-
-        for (int i = 0; i < peers.size(); i++) {
-            if (i == id) {
-                continue;
-            }
-            new InstallSnapshotTask(builder.build(), i).start();
-        }
-    }
-
-    private ListenableFuture<RequestVoteResponse> sendRequestVote(RequestVoteRequest request, int node) {
-        logger.debug("[Raft node {}] Send requestVote request to node {}", id, node);
-
-        final RaftRPCStub asyncClient = RaftRPCGrpc.newStub(peers.get(node).getRpcChannel());
-        SettableFuture<RequestVoteResponse> futureResponse = SettableFuture.create();
-        asyncClient.requestVote(request, new StreamObserver<RequestVoteResponse>() {
-            @Override
-            public void onNext(RequestVoteResponse response) {
-                futureResponse.set(response);
-            }
-
+        timeoutNowSent = true;
+        TimeoutNowRequest request = TimeoutNowRequest.newBuilder().setGroupId(groupId).setTerm(currentTerm).setLeaderId(id).build();
+        Futures.addCallback(sendTimeoutNow(request, transferee), new FutureCallback<TimeoutNowResponse>() {
             @Override
-            public void onError(Throwable t) {
-                logger.warn("[Raft node {}] Failed to sending requestVote request to node {}", id, node);
-                futureResponse.setException(t);
+            public void onSuccess(TimeoutNowResponse response) {
+                if (response.getTerm() > getCurrentTerm()) {
+                    convertToFollower(response.getTerm(), -1);
+                }
             }
 
             @Override
-            public void onCompleted() {
-
+            public void onFailure(Throwable t) {
+                logger.warn("[Raft node {}] Failed to get timeoutNow response", id);
             }
-        });
-        return futureResponse;
+        }, MoreExecutors.directExecutor());
     }
 
-    private ListenableFuture<AppendEntriesResponse> sendAppendEntries(AppendEntriesRequest request, int node) {
-        logger.debug("[Raft node {}] Send appendEntries request to node {}", id, node);
-
-        final RaftRPCStub asyncClient = RaftRPCGrpc.newStub(peers.get(node).getRpcChannel());
-        SettableFuture<AppendEntriesResponse> futureResponse = SettableFuture.create();
-        asyncClient.appendEntries(request, new StreamObserver<AppendEntriesResponse>() {
-            @Override
-            public void onNext(AppendEntriesResponse response) {
-                futureResponse.set(response);
-            }
+    // called on the transferee, campaigns at once without waiting for the election timeout or a pre-vote
+    @Synchronized("mutex")
+    public void timeoutNow(int term) {
+        if (term != currentTerm || state != RaftState.Follower) {
+            return;
+        }
+        logger.info("[Raft node {}] Received timeoutNow, start election", id);
+        startLeaderElection(true);
+    }
 
-            @Override
-            public void onError(Throwable t) {
-                logger.warn("[Raft node {}] Failed to sending appendEntries request to node {}", id, node);
-                futureResponse.setException(t);
+    // gives leadership away before this node goes down, so the cluster does not wait for an election timeout
+    public void shutdown() {
+        if (!transferLeadership()) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + electionTimeoutMin;
+        while (System.currentTimeMillis() < deadline) {
+            synchronized (mutex) {
+                if (state != RaftState.Leader) {
+                    return;
+                }
             }
-
-            @Override
-            public void onCompleted() {
-
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                return;
             }
-        });
-
-        return futureResponse;
+        }
     }
 
-    private ListenableFuture<InstallSnapshotResponse> sendInstallSnapshot(InstallSnapshotRequest request, int node) {
-        logger.debug("[Raft node {}] Send installSnapshot request to node {}", id, node);
-
-        final RaftRPCStub asyncClient = RaftRPCGrpc.newStub(peers.get(node).getRpcChannel());
-        SettableFuture<InstallSnapshotResponse> futureResponse = SettableFuture.create();
-        asyncClient.installSnapshot(request, new StreamObserver<InstallSnapshotResponse>() {
-            @Override
-            public void onNext(InstallSnapshotResponse response) {
-                futureResponse.set(response);
-            }
-
-            @Override
-            public void onError(Throwable t) {
-                logger.warn("[Raft node {}] Failed to sending installSnapshot request to node {}", id, node);
-                futureResponse.setException(t);
-            }
+    // asks the peers whether they would vote for this node in the next term, without incrementing currentTerm,
+    // so a node that was partitioned away can not disrupt a healthy leader
+    @Synchronized("mutex")
+    private void startPreVote() {
+        logger.info("[Raft node {}] Starting pre-vote", id);
 
-            @Override
-            public void onCompleted() {
+        preVoteRound++;
+        totalPreVotes = 1;
+        if (totalPreVotes > getVoterCount() / 2) {
+            startLeaderElection();
+            return;
+        }
+        resetElectionTimer();
 
+        PreVoteRequest.Builder builder = PreVoteRequest.newBuilder();
+        builder.setGroupId(groupId);
+        builder.setTerm(currentTerm + 1);
+        builder.setCandidateId(id);
+        builder.setLastLogIndex(getMaxLogIndex());
+        builder.setLastLogTerm(getLastLogTerm());
+        for (PeerInfo peer : peers) {
+            if (peer.getId() == id || peer.isLearner()) {
+                continue;
             }
-        });
-
-        return futureResponse;
+            new PreVoteTask(builder.build(), peer.getId(), preVoteRound).start();
+        }
     }
 
+    // a node still hearing from a live leader, or a leader holding its lease, refuses (pre-)votes,
+    // so no other leader can be elected while the lease of the current one holds
     @Synchronized("mutex")
-    public int getCurrentTerm() {
-        return currentTerm;
+    public boolean isLeaderAlive() {
+        if (state == RaftState.Leader) {
+            return isLeaseValid();
+        }
+        return System.currentTimeMillis() - lastReceiveAppendEntries < electionTimeoutMin;
     }
 
+    // the lease starts when the latest request acknowledged by a majority was sent, and lasts for the minimum
+    // election timeout minus the clock drift margin, as no follower can start an election before that
     @Synchronized("mutex")
-    public int getCommitIndex() {
-        return commitIndex;
+    private boolean isLeaseValid() {
+        long now = System.currentTimeMillis();
+        long leaseStart = getQuorumValue(now, Replicator::getLastAckTime);
+        return now < leaseStart + electionTimeoutMin - maxClockDrift;
     }
 
+    // true if a majority answered within the last election timeout, counting from when this node became leader
     @Synchronized("mutex")
-    public void setCommitIndex(int index) {
-        commitIndex = index;
+    private boolean hasQuorum() {
+        long now = System.currentTimeMillis();
+        return now - getQuorumValue(now, replicator -> Math.max(replicator.getLastAckTime(), leaderSince)) < electionTimeoutMin;
     }
 
+    // the highest value reached by a majority of the voters, given the value of this node and of each follower,
+    // learners are left out
     @Synchronized("mutex")
-    public int getLastApplied() {
-        return lastApplied;
+    private long getQuorumValue(long self, ToLongFunction<Replicator> value) {
+        ArrayList<Long> sortedValue = new ArrayList<>();
+        // a leader that is removing itself keeps replicating but does not count itself
+        if (isVoter(id)) {
+            sortedValue.add(self);
+        }
+        for (Replicator replicator : replicators.values()) {
+            if (!replicator.isLearner()) {
+                sortedValue.add(value.applyAsLong(replicator));
+            }
+        }
+        Collections.sort(sortedValue);
+        return sortedValue.get((sortedValue.size() - 1) / 2);
     }
 
     @Synchronized("mutex")
-    public void setLastApplied(int index) {
-        lastApplied = index;
+    private boolean isVoter(int node) {
+        PeerInfo peer = getPeer(node);
+        return peer != null && !peer.isLearner();
     }
 
     @Synchronized("mutex")
-    public LogEntry getLogByIndex(int index) {
-        return logs.get(index - lastIncludedIndex - 1);
+    private int getVoterCount() {
+        int voters = 0;
+        for (PeerInfo peer : peers) {
+            if (!peer.isLearner()) {
+                voters++;
+            }
+        }
+        return voters;
     }
 
     @Synchronized("mutex")
-    public int getLastIncludedIndex() {
-        return lastIncludedIndex;
+    public boolean isLeader() {
+        return state == RaftState.Leader;
     }
 
     @Synchronized("mutex")
-    public ArrayList<LogEntry> getLogs() {
-        return logs;
+    public boolean isLearner() {
+        return state == RaftState.Learner;
     }
 
+    // returns the index reads have to wait for if they can be served under the leader lease, -1 otherwise
     @Synchronized("mutex")
-    public void setLastIncludedIndex(int index) {
-        lastIncludedIndex = index;
-    }
-    
-    @Synchronized("mutex")
-    public int getLastIncludedTerm() {
-        return lastIncludedTerm;
+    public int getLeaseReadIndex() {
+        // the transferee may be elected before the lease runs out
+        if (state != RaftState.Leader || transferee != -1 || !isLeaseValid()) {
+            return -1;
+        }
+        // the no-op entry of this term must be committed, otherwise commitIndex may lag behind the previous leader
+        if (commitIndex <= lastIncludedIndex || getLogTerm(commitIndex) != currentTerm) {
+            return -1;
+        }
+        return commitIndex;
     }
 
-    @Synchronized("mutex")
-    public void setLastIncludedTerm(int term) {
-        lastIncludedTerm = term;
-    }
+    // returns the index a linearizable read has to wait for according to the read mode, completes with -1 if
+    // this node can not serve reads right now
+    public ListenableFuture<Integer> getReadIndex() {
+        final int leader;
+        synchronized (mutex) {
+            if (state == RaftState.Leader) {
+                return getLeaderReadIndex();
+            }
+            if (!followerRead || leaderId == -1) {
+                return Futures.immediateFuture(-1);
+            }
+            leader = leaderId;
+        }
 
-    @Synchronized("mutex")
-    public int getVotedFor() {
-        return votedFor;
+        // ask the leader for its read index, the caller waits until it is applied locally
+        ReadIndexRequest request = ReadIndexRequest.newBuilder().setGroupId(groupId).setNodeId(id).build();
+        return Futures.transform(sendReadIndex(request, leader), response -> {
+            if (response.getTerm() > getCurrentTerm()) {
+                convertToFollower(response.getTerm(), -1);
+            }
+            return response.getSuccess() ? response.getReadIndex() : -1;
+        }, MoreExecutors.directExecutor());
     }
 
+    // the read index of the leader according to the read mode, completes with -1 if this node is not the leader
     @Synchronized("mutex")
-    public void setVotedFor(int votedFor) {
-        this.votedFor = votedFor;
+    public ListenableFuture<Integer> getLeaderReadIndex() {
+        if (readMode == ReadMode.Lease) {
+            return Futures.immediateFuture(getLeaseReadIndex());
+        }
+        return readIndex();
     }
 
+    // returns the index a read has to wait for once a heartbeat round confirmed this node is still the leader,
+    // the future completes with -1 if it is not
     @Synchronized("mutex")
-    public int getMaxLogIndex() {
-        return logs.size() + lastIncludedIndex;
+    public ListenableFuture<Integer> readIndex() {
+        if (state != RaftState.Leader || commitIndex <= lastIncludedIndex || getLogTerm(commitIndex) != currentTerm) {
+            return Futures.immediateFuture(-1);
+        }
+        PendingRead read = new PendingRead(commitIndex);
+        queuedReads.add(read);
+        if (confirmingReads.isEmpty()) {
+            startReadRound();
+        }
+        return read.future;
     }
 
     @Synchronized("mutex")
-    public void clearLogs(int beginIndex, int endIndex) {
-        logs.subList(beginIndex - lastIncludedIndex - 1, endIndex - lastIncludedIndex - 1).clear();
+    private void startReadRound() {
+        confirmingReads = queuedReads;
+        queuedReads = new ArrayList<>();
+        confirmingSeq = sendSeq + 1;
+        logger.debug("[Raft node {}] Starting read round for {} reads", id, confirmingReads.size());
+        for (Replicator replicator : replicators.values()) {
+            replicator.signal();
+        }
+        checkReadRound();
+    }
+
+    // completes the current read round once a majority answered a request sent after it started
+    @Synchronized("mutex")
+    private void checkReadRound() {
+        if (confirmingReads.isEmpty()) {
+            return;
+        }
+        if (getQuorumValue(Long.MAX_VALUE, Replicator::getLastAckSeq) < confirmingSeq) {
+            return;
+        }
+        for (PendingRead read : confirmingReads) {
+            read.future.set(read.readIndex);
+        }
+        confirmingReads = new ArrayList<>();
+        if (!queuedReads.isEmpty()) {
+            startReadRound();
+        }
+    }
+
+    @Synchronized("mutex")
+    private boolean needsConfirmation(Replicator replicator) {
+        return !confirmingReads.isEmpty() && replicator.getLastSentSeq() < confirmingSeq;
+    }
+
+    @Synchronized("mutex")
+    private void failPendingReads() {
+        for (PendingRead read : confirmingReads) {
+            read.future.set(-1);
+        }
+        for (PendingRead read : queuedReads) {
+            read.future.set(-1);
+        }
+        confirmingReads = new ArrayList<>();
+        queuedReads = new ArrayList<>();
+    }
+
+    // lastApplied runs ahead of the state machine until a pending reset to the snapshot is done, returns false if
+    // the state machine did not get up through index within timeoutMillis
+    @Synchronized("mutex")
+    public boolean awaitApplied(int index, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (lastApplied < index || resetPending) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            mutex.wait(remaining);
+        }
+        return true;
+    }
+
+    @Synchronized("mutex")
+    private void startAppendEntries() {
+        logger.info("[Raft node {}] Starting appendEntries, current term: {}, log size: {}, commit index: {}", id, currentTerm, logs.size(), commitIndex);
+
+        for (Replicator replicator : replicators.values()) {
+            replicator.signal();
+        }
+    }
+
+    // followers with requests in flight or entries to catch up on get them from their replicator, the others
+    // get a coalesced heartbeat that the runtime sends together with the heartbeats of the other groups
+    @Synchronized("mutex")
+    private void sendHeartbeats() {
+        for (Replicator replicator : replicators.values()) {
+            if (replicator.getNextIndex() <= getMaxLogIndex() || replicator.getInflight() > 0 || needsConfirmation(replicator)) {
+                replicator.signal();
+                continue;
+            }
+            PeerInfo peer = getPeer(replicator.getNode());
+            if (peer == null) {
+                continue;
+            }
+            GroupHeartbeat.Builder builder = GroupHeartbeat.newBuilder();
+            builder.setGroupId(groupId);
+            builder.setTerm(currentTerm);
+            builder.setCommitIndex(Math.min(commitIndex, replicator.getMatchIndex()));
+            HeartbeatCoalescer.Pending heartbeat = new HeartbeatCoalescer.Pending(this, replicator, builder.build(), ++sendSeq);
+            replicator.setLastSentSeq(heartbeat.seq);
+            runtime.getCoalescer(peer).add(heartbeat);
+        }
+    }
+
+    @Synchronized("mutex")
+    void handleHeartbeatResponse(HeartbeatCoalescer.Pending heartbeat, GroupHeartbeatResponse response) {
+        Replicator replicator = heartbeat.replicator;
+        if (response.getTerm() > currentTerm) {
+            convertToFollower(response.getTerm(), -1);
+            return;
+        }
+        if (state != RaftState.Leader || heartbeat.heartbeat.getTerm() != currentTerm || replicators.get(replicator.getNode()) != replicator) {
+            return;
+        }
+        if (!response.getSuccess()) {
+            return;
+        }
+        replicator.setLastAckTime(Math.max(replicator.getLastAckTime(), heartbeat.sendTime));
+        replicator.setLastAckSeq(Math.max(replicator.getLastAckSeq(), heartbeat.seq));
+        checkReadRound();
+        // the follower lost entries it had acknowledged, e.g. after a restart, resend them from the last known match
+        if (replicator.getInflight() == 0 && response.getLastLogIndex() < replicator.getNextIndex() - 1) {
+            replicator.setNextIndex(Math.max(response.getLastLogIndex() + 1, replicator.getMatchIndex() + 1));
+            replicator.signal();
+        }
+    }
+
+    // the rpc handlers below evaluate a request against the state of one critical section
+
+    @Synchronized("mutex")
+    AppendEntriesResponse handleAppendEntries(AppendEntriesRequest request) {
+        AppendEntriesResponse.Builder builder = AppendEntriesResponse.newBuilder();
+        if (request.getTerm() < currentTerm) {
+            logger.debug("[Raft node {}] Reject appendEntries request from node {} with lower term {} < current node term {}", id, request.getLeaderId(), request.getTerm(), currentTerm);
+            return builder.setTerm(currentTerm).setSuccess(false).build();
+        }
+
+        convertToFollower(request.getTerm(), request.getLeaderId());
+        leaderId = request.getLeaderId();
+        lastReceiveAppendEntries = System.currentTimeMillis();
+        builder.setTerm(currentTerm);
+
+        int prevLogIndex = request.getPrevLogIndex();
+        if (prevLogIndex > getMaxLogIndex()) {
+            logger.debug("[Raft node {}] Reject appendEntries request from node {} with prevLogIndex {} > current node log index {}", id, request.getLeaderId(), prevLogIndex, getMaxLogIndex());
+            return builder.setSuccess(false).setConflictIndex(getMaxLogIndex() + 1).setConflictTerm(-1).build();
+        }
+        // entries covered by the snapshot are committed, they match the log of any leader
+        if (prevLogIndex > lastIncludedIndex) {
+            int prevLogTerm = getLogTerm(prevLogIndex);
+            if (request.getPrevLogTerm() != prevLogTerm) {
+                logger.debug("[Raft node {}] Reject appendEntries request from node {} with prevLogTerm {} != current node log term {}", id, request.getLeaderId(), request.getPrevLogTerm(), prevLogTerm);
+                return builder.setSuccess(false).setConflictIndex(getFirstIndexOfTerm(prevLogTerm, prevLogIndex)).setConflictTerm(prevLogTerm).build();
+            }
+        }
+
+        mergeLogs(prevLogIndex, request.getEntriesList());
+        // entries past this request may be stale ones that were never checked against the leader's log
+        int lastNewIndex = prevLogIndex + request.getEntriesCount();
+        if (request.getLeaderCommit() > commitIndex && lastNewIndex > commitIndex) {
+            commitIndex = Math.min(request.getLeaderCommit(), lastNewIndex);
+        }
+        if (request.getEntriesCount() > 0) {
+            logger.info("[Raft node {}] Append {} entries, log index: {}, log size: {}", id, request.getEntriesCount(), getMaxLogIndex(), logs.size());
+        }
+        applyLogs();
+        return builder.setSuccess(true).build();
+    }
+
+    @Synchronized("mutex")
+    RequestVoteResponse handleRequestVote(RequestVoteRequest request) {
+        RequestVoteResponse.Builder builder = RequestVoteResponse.newBuilder().setVoteGranted(false);
+
+        // a live leader may be serving lease reads, it must not be deposed before its lease runs out,
+        // unless it handed over leadership itself, and learners never vote
+        if ((!request.getLeadershipTransfer() && isLeaderAlive()) || state == RaftState.Learner) {
+            logger.debug("[Raft node {}] Reject requestVote request from candidate {}, leader is alive", id, request.getCandidateId());
+            return builder.setTerm(currentTerm).build();
+        }
+        if (request.getTerm() < currentTerm) {
+            return builder.setTerm(currentTerm).build();
+        }
+        if (request.getTerm() > currentTerm) {
+            logger.info("[Raft node {}] Received requestVote request from candidate {} with higher term {} > {}", id, request.getCandidateId(), request.getTerm(), currentTerm);
+            convertToFollower(request.getTerm(), -1);
+        }
+        builder.setTerm(currentTerm);
+
+        if (votedFor != -1 && votedFor != request.getCandidateId()) {
+            return builder.build();
+        }
+        if (!isLogUpToDate(request.getLastLogIndex(), request.getLastLogTerm())) {
+            return builder.build();
+        }
+        votedFor = request.getCandidateId();
+        persistHardState();
+        logger.debug("[Raft node {}] Voted for candidate {}", id, request.getCandidateId());
+        return builder.setVoteGranted(true).build();
+    }
+
+    // a pre-vote never changes the term, the vote or the state of this node
+    @Synchronized("mutex")
+    PreVoteResponse handlePreVote(PreVoteRequest request) {
+        PreVoteResponse.Builder builder = PreVoteResponse.newBuilder().setTerm(currentTerm);
+        if (request.getTerm() < currentTerm || isLeaderAlive() || state == RaftState.Learner) {
+            return builder.setVoteGranted(false).build();
+        }
+        if (!isLogUpToDate(request.getLastLogIndex(), request.getLastLogTerm())) {
+            return builder.setVoteGranted(false).build();
+        }
+        logger.debug("[Raft node {}] Granted pre-vote for candidate {}", id, request.getCandidateId());
+        return builder.setVoteGranted(true).build();
+    }
+
+    // true if a log ending at lastLogIndex and lastLogTerm is at least as up-to-date as the log of this node
+    @Synchronized("mutex")
+    private boolean isLogUpToDate(int lastLogIndex, int lastLogTerm) {
+        return lastLogTerm > getLastLogTerm() || (lastLogTerm == getLastLogTerm() && lastLogIndex >= getMaxLogIndex());
+    }
+
+    InstallSnapshotResponse handleInstallSnapshot(InstallSnapshotRequest request) {
+        InstallSnapshotResponse.Builder builder = InstallSnapshotResponse.newBuilder();
+        synchronized (mutex) {
+            builder.setTerm(currentTerm);
+
+            // 1. Reply immediately if term < currentTerm
+            if (request.getTerm() < currentTerm || request.getLastIncludedIndex() <= lastIncludedIndex) {
+                return builder.build();
+            }
+            convertToFollower(request.getTerm(), request.getLeaderId());
+            leaderId = request.getLeaderId();
+            lastReceiveAppendEntries = System.currentTimeMillis();
+            builder.setTerm(currentTerm);
+
+            // the entries the snapshot covers are applied here already, this node compacts them itself, and a
+            // snapshot the applier is saving meanwhile is never older than the installed one
+            if (request.getLastIncludedIndex() <= lastApplied) {
+                return builder.build();
+            }
+
+            // 2. Create new snapshot file if first chunk (offset is 0)
+            if (request.getOffset() == 0 || incomingSnapshot == null) {
+                incomingSnapshot = new Snapshot(1024 * 1024);
+            }
+
+            // 3. Write data into snapshot file at given offset
+            incomingSnapshot.write(request.getData().toByteArray(), request.getOffset());
+
+            // 4. Reply and wait for more data chunks if done is false
+            if (!request.getDone()) {
+                return builder.build();
+            }
+
+            // 5. Save snapshot file, discard any existing or partial snapshot with a smaller index
+            Snapshot snapshot = incomingSnapshot;
+            incomingSnapshot = null;
+            snapshot.setLastIncludedIndex(request.getLastIncludedIndex());
+            snapshot.setLastIncludedTerm(request.getLastIncludedTerm());
+            snapshot.setConfiguration(new ArrayList<>(request.getConfigurationList()));
+            if (!persister.saveSnapshot(snapshot)) {
+                return builder.build();
+            }
+
+            // 6. If existing log entry has same index and term as snapshot's last included entry, retain log entries following it,
+            // 7. otherwise discard the entire log
+            int index = request.getLastIncludedIndex();
+            if (index <= getMaxLogIndex() && getLogTerm(index) == request.getLastIncludedTerm()) {
+                logs.truncatePrefix(index);
+                wal.truncatePrefix(index);
+            } else {
+                logs.clear(index + 1);
+                wal.reset(index + 1);
+                committer.reset(index);
+            }
+            lastIncludedIndex = index;
+            lastIncludedTerm = request.getLastIncludedTerm();
+            commitIndex = Math.max(commitIndex, index);
+            setSnapshotConfiguration(request.getConfigurationList());
+
+            // 8. Reset state machine using snapshot contents if it has not applied the snapshot's entries yet,
+            // the applier does so before it picks up any entry following the snapshot
+            if (lastApplied < index) {
+                setLastApplied(index);
+                resetPending = true;
+                applier.signal();
+            }
+        }
+        return builder.build();
+    }
+
+    // applies a coalesced heartbeat from the leader of this group
+    @Synchronized("mutex")
+    GroupHeartbeatResponse handleHeartbeat(int leader, GroupHeartbeat heartbeat) {
+        GroupHeartbeatResponse.Builder builder = GroupHeartbeatResponse.newBuilder();
+        builder.setGroupId(groupId);
+        if (heartbeat.getTerm() < currentTerm) {
+            return builder.setTerm(currentTerm).setSuccess(false).build();
+        }
+        convertToFollower(heartbeat.getTerm(), leader);
+        leaderId = leader;
+        lastReceiveAppendEntries = System.currentTimeMillis();
+        if (heartbeat.getCommitIndex() > commitIndex) {
+            commitIndex = Math.min(heartbeat.getCommitIndex(), getMaxLogIndex());
+            applyLogs();
+        }
+        return builder.setTerm(currentTerm).setSuccess(true).setLastLogIndex(getMaxLogIndex()).build();
+    }
+
+    // builds the next pipelined request for the follower and advances its nextIndex optimistically,
+    // returns null if the in-flight window is full or there is nothing to send
+    @Synchronized("mutex")
+    Replicator.Inflight buildAppendEntries(Replicator replicator) {
+        if (replicators.get(replicator.getNode()) != replicator) {
+            return null;
+        }
+        if (state != RaftState.Leader || replicator.getInflight() >= maxInflight || replicator.getInflightBytes() >= maxInflightBytes) {
+            return null;
+        }
+        // the entries the follower needs are compacted away, it gets the snapshot from buildInstallSnapshot instead
+        if (replicator.isSnapshotting() || replicator.getNextIndex() <= lastIncludedIndex) {
+            return null;
+        }
+        // requests already in flight double as heartbeats, unless they were sent before the current read round
+        if (replicator.getNextIndex() > getMaxLogIndex() && replicator.getInflight() > 0 && !needsConfirmation(replicator)) {
+            return null;
+        }
+
+        int prevLogIndex = replicator.getNextIndex() - 1;
+        AppendEntriesRequest.Builder builder = AppendEntriesRequest.newBuilder();
+        builder.setGroupId(groupId);
+        builder.setTerm(currentTerm);
+        builder.setLeaderId(id);
+        builder.setPrevLogIndex(prevLogIndex);
+        if (prevLogIndex == lastIncludedIndex) {
+            builder.setPrevLogTerm(lastIncludedTerm);
+        } else {
+            builder.setPrevLogTerm(getLogTerm(prevLogIndex));
+        }
+        // the remainder beyond maxEntries or maxBytes goes out in follow-up requests
+        int bytes = 0;
+        for (int index = prevLogIndex + 1; index <= getMaxLogIndex() && builder.getEntriesCount() < maxEntries; index++) {
+            LogEntry entry = logs.get(index);
+            if (builder.getEntriesCount() > 0 && bytes + entry.getSerializedSize() > maxBytes) {
+                break;
+            }
+            builder.addEntries(entry);
+            bytes += entry.getSerializedSize();
+        }
+        builder.setLeaderCommit(commitIndex);
+        AppendEntriesRequest request = builder.build();
+
+        Replicator.Inflight inflight = new Replicator.Inflight(request, replicator.getEpoch(), ++sendSeq);
+        replicator.setLastSentSeq(inflight.seq);
+        replicator.setNextIndex(prevLogIndex + request.getEntriesCount() + 1);
+        replicator.setInflight(replicator.getInflight() + 1);
+        replicator.setInflightBytes(replicator.getInflightBytes() + inflight.bytes);
+        return inflight;
+    }
+
+    // builds an InstallSnapshot request carrying the latest snapshot if the follower needs entries it covers,
+    // returns null otherwise or if one is in flight already
+    @Synchronized("mutex")
+    InstallSnapshotRequest buildInstallSnapshot(Replicator replicator) {
+        if (replicators.get(replicator.getNode()) != replicator || state != RaftState.Leader) {
+            return null;
+        }
+        if (replicator.isSnapshotting() || replicator.getNextIndex() > lastIncludedIndex) {
+            return null;
+        }
+        replicator.setSnapshotting(true);
+        return getSnapshotRequest();
+    }
+
+    // the latest snapshot in a single chunk
+    @Synchronized("mutex")
+    InstallSnapshotRequest getSnapshotRequest() {
+        InstallSnapshotRequest.Builder builder = InstallSnapshotRequest.newBuilder();
+        builder.setGroupId(groupId);
+        builder.setTerm(currentTerm);
+        builder.setLeaderId(id);
+        builder.setLastIncludedIndex(lastIncludedIndex);
+        builder.setLastIncludedTerm(lastIncludedTerm);
+        builder.setOffset(0);
+        builder.setData(ByteString.copyFrom(persister.read(0)));
+        builder.setDone(true);
+        builder.addAllConfiguration(snapshotConfiguration);
+        return builder.build();
+    }
+
+    // returns true if the replicator should be signalled to go on with AppendEntries from the snapshot on
+    @Synchronized("mutex")
+    boolean handleInstallSnapshotResponse(Replicator replicator, InstallSnapshotRequest request, InstallSnapshotResponse response) {
+        if (response.getTerm() > currentTerm) {
+            convertToFollower(response.getTerm(), -1);
+            return false;
+        }
+        if (replicators.get(replicator.getNode()) != replicator) {
+            return false;
+        }
+        replicator.setSnapshotting(false);
+        if (state != RaftState.Leader || request.getTerm() != currentTerm) {
+            return false;
+        }
+        // the follower holds everything up through the snapshot now, or a later snapshot it already had
+        replicator.setMatchIndex(Math.max(replicator.getMatchIndex(), request.getLastIncludedIndex()));
+        replicator.setNextIndex(Math.max(replicator.getNextIndex(), replicator.getMatchIndex() + 1));
+        updateCommitIndex();
+        checkTransfer();
+        return true;
+    }
+
+    // the snapshot is sent again once the next heartbeat tick signals the replicator
+    @Synchronized("mutex")
+    void handleInstallSnapshotFailure(Replicator replicator) {
+        replicator.setSnapshotting(false);
+    }
+
+    // returns true if the replicator should be signalled again, either to retry after a rejection
+    // or because the window has room for entries that are still waiting
+    @Synchronized("mutex")
+    boolean handleAppendEntriesResponse(Replicator replicator, Replicator.Inflight inflight, AppendEntriesResponse response) {
+        AppendEntriesRequest request = inflight.request;
+        if (response.getTerm() > currentTerm) {
+            convertToFollower(response.getTerm(), -1);
+            return false;
+        }
+        if (state != RaftState.Leader || request.getTerm() != currentTerm) {
+            return false;
+        }
+        // any answer within the term acknowledges the leadership, even a rejection or a stale one
+        replicator.setLastAckTime(Math.max(replicator.getLastAckTime(), inflight.sendTime));
+        replicator.setLastAckSeq(Math.max(replicator.getLastAckSeq(), inflight.seq));
+        checkReadRound();
+        if (inflight.epoch != replicator.getEpoch()) {
+            return false;
+        }
+        replicator.setInflight(replicator.getInflight() - 1);
+        replicator.setInflightBytes(replicator.getInflightBytes() - inflight.bytes);
+
+        if (response.getSuccess()) {
+            int matchIndex = request.getPrevLogIndex() + request.getEntriesCount();
+            if (matchIndex > replicator.getMatchIndex()) {
+                replicator.setMatchIndex(matchIndex);
+            }
+            replicator.setNextIndex(Math.max(replicator.getNextIndex(), replicator.getMatchIndex() + 1));
+            updateCommitIndex();
+            checkTransfer();
+            return replicator.getNextIndex() <= getMaxLogIndex() || needsConfirmation(replicator);
+        }
+
+        // roll back the optimistic nextIndex, everything still in flight was sent past the mismatch and is dropped
+        replicator.setNextIndex(Math.max(getConflictNextIndex(request, response), replicator.getMatchIndex() + 1));
+        replicator.setInflight(0);
+        replicator.setInflightBytes(0);
+        replicator.setEpoch(replicator.getEpoch() + 1);
+        return true;
+    }
+
+    // skips the whole conflicting term at once instead of backing off one entry per round trip
+    @Synchronized("mutex")
+    private int getConflictNextIndex(AppendEntriesRequest request, AppendEntriesResponse response) {
+        if (response.getConflictTerm() == -1) {
+            return Math.min(response.getConflictIndex(), request.getPrevLogIndex());
+        }
+        // if the leader has entries of conflictTerm, resend from just past its last one
+        for (int index = Math.min(request.getPrevLogIndex(), getMaxLogIndex()); index > lastIncludedIndex; index--) {
+            int term = getLogTerm(index);
+            if (term == response.getConflictTerm()) {
+                return Math.min(index + 1, request.getPrevLogIndex());
+            }
+            if (term < response.getConflictTerm()) {
+                break;
+            }
+        }
+        return response.getConflictIndex();
+    }
+
+    @Synchronized("mutex")
+    void handleAppendEntriesFailure(Replicator replicator, Replicator.Inflight inflight) {
+        if (state != RaftState.Leader || inflight.epoch != replicator.getEpoch()) {
+            return;
+        }
+        // the follower may have missed the entries, resend from the last known match on the next round
+        replicator.setNextIndex(replicator.getMatchIndex() + 1);
+        replicator.setInflight(0);
+        replicator.setInflightBytes(0);
+        replicator.setEpoch(replicator.getEpoch() + 1);
+    }
+
+    @Synchronized("mutex")
+    private void updateCommitIndex() {
+        // the leader's own entries only count once they are persisted
+        int newCommitIndex = (int) getQuorumValue(committer.getPersistedIndex(), Replicator::getMatchIndex);
+        if (newCommitIndex > commitIndex && newCommitIndex > lastIncludedIndex && getLogTerm(newCommitIndex) == currentTerm) {
+            commitIndex = newCommitIndex;
+            applyLogs();
+            // a leader removed from the configuration steps down once its removal is committed
+            if (getPeer(id) == null && configurationIndex <= commitIndex) {
+                logger.info("[Raft node {}] Removed from the configuration, step down", id);
+                convertToFollower(currentTerm, -1);
+            }
+        }
+    }
+
+    // true once more than maxLogSize applied entries follow the snapshot, asked by the applier after each batch
+    @Synchronized("mutex")
+    boolean needsSnapshot() {
+        return lastApplied - lastIncludedIndex > maxLogSize;
+    }
+
+    // replaces the entries up through the batch with the state machine the applier serialized right after applying
+    // it, every node compacts its own log this way, a follower that falls behind the snapshot is sent it by its replicator.
+    // The snapshot is taken under the raft mutex but written and forced on the applier without it.
+    void compact(Applier.Batch batch, byte[] data) {
+        Snapshot snapshot = takeSnapshot(batch, data);
+        if (snapshot == null) {
+            return;
+        }
+        logger.info("[Raft node {}] Save snapshot up through {}", id, snapshot.getLastIncludedIndex());
+        // the persisted log is only compacted once the snapshot covering it is on disk
+        if (!persister.saveSnapshot(snapshot)) {
+            return;
+        }
+        truncateToSnapshot(batch, snapshot);
+    }
+
+    @Synchronized("mutex")
+    private Snapshot takeSnapshot(Applier.Batch batch, byte[] data) {
+        int index = batch.lastIndex();
+        // a snapshot installed since the batch was applied is newer than the state machine the data was taken from
+        if (batch.epoch != applyEpoch || index <= lastIncludedIndex) {
+            return null;
+        }
+        Snapshot snapshot = new Snapshot(0);
+        snapshot.setLastIncludedIndex(index);
+        snapshot.setLastIncludedTerm(getLogTerm(index));
+        snapshot.setData(data);
+        snapshot.setConfiguration(getConfigurationAt(index));
+        return snapshot;
+    }
+
+    @Synchronized("mutex")
+    private void truncateToSnapshot(Applier.Batch batch, Snapshot snapshot) {
+        int index = snapshot.getLastIncludedIndex();
+        if (batch.epoch != applyEpoch || index <= lastIncludedIndex) {
+            return;
+        }
+        logger.info("[Raft node {}] Compact log up through {}, it will clear {} logs", id, index, index - lastIncludedIndex);
+        logs.truncatePrefix(index);
+        wal.truncatePrefix(index);
+        lastIncludedIndex = index;
+        lastIncludedTerm = snapshot.getLastIncludedTerm();
+        snapshotConfiguration = snapshot.getConfiguration();
+    }
+
+    // single-server membership change: adds or updates the member, or removes it, by appending a configuration
+    // entry, only one change may be in progress at a time
+    @Synchronized("mutex")
+    public boolean changeMember(Member member, boolean remove) {
+        if (state != RaftState.Leader || transferee != -1) {
+            return false;
+        }
+        // the previous change must be committed, and so must an entry of this term, before a new change starts
+        if (configurationIndex > commitIndex || commitIndex <= lastIncludedIndex || getLogTerm(commitIndex) != currentTerm) {
+            return false;
+        }
+
+        ArrayList<Member> members = new ArrayList<>();
+        for (PeerInfo peer : peers) {
+            if (peer.getId() != member.getId()) {
+                members.add(toMember(peer));
+            }
+        }
+        if (!remove) {
+            members.add(member);
+        }
+        if (members.stream().allMatch(Member::getLearner)) {
+            return false;
+        }
+
+        logger.info("[Raft node {}] {} member {}", id, remove ? "Remove" : "Add", member.getId());
+        appendLeaderLogs(List.of(LogEntry.newBuilder().setTerm(currentTerm).addAllConfiguration(members).build()));
+        updateConfiguration();
+        startAppendEntries();
+        return true;
+    }
+
+    // the configuration in effect once the log up through index is applied, the write-ahead log knows where the
+    // configuration entries are, so only the one in effect is read even if the entries before index were evicted
+    @Synchronized("mutex")
+    private ArrayList<Member> getConfigurationAt(int index) {
+        int entryIndex = wal.getConfigurationIndex(index);
+        if (entryIndex > lastIncludedIndex) {
+            return new ArrayList<>(getLogByIndex(entryIndex).getConfigurationList());
+        }
+        return snapshotConfiguration;
+    }
+
+    // switches to the latest configuration in the log, called whenever configuration entries were appended or truncated
+    @Synchronized("mutex")
+    private void updateConfiguration() {
+        configurationIndex = Math.max(wal.getConfigurationIndex(getMaxLogIndex()), lastIncludedIndex);
+        applyConfiguration(getConfigurationAt(configurationIndex));
+    }
+
+    @Synchronized("mutex")
+    private void applyConfiguration(List<Member> members) {
+        if (toMembers(peers).equals(members)) {
+            return;
+        }
+        logger.info("[Raft node {}] Switch to configuration of {} members", id, members.size());
+
+        // keep the channels of members whose address did not change
+        ArrayList<PeerInfo> newPeers = new ArrayList<>();
+        for (Member member : members) {
+            PeerInfo peer = getPeer(member.getId());
+            if (peer == null || !toMember(peer).equals(member)) {
+                peer = new PeerInfo(member.getId(), member.getAddress(), member.getRpcPort(), member.getKvPort(), member.getLearner());
+            }
+            newPeers.add(peer);
+        }
+        ArrayList<PeerInfo> removed = new ArrayList<>(peers);
+        removed.removeAll(newPeers);
+        peers = newPeers;
+        runtime.releasePeers(removed);
+
+        for (PeerInfo peer : peers) {
+            if (peer.getId() == id) {
+                continue;
+            }
+            Replicator replicator = replicators.get(peer.getId());
+            if (replicator == null) {
+                replicator = new Replicator(this, peer.getId(), peer.isLearner());
+                replicator.reset(getMaxLogIndex() + 1);
+                replicators.put(peer.getId(), replicator);
+                if (started) {
+                    replicator.start();
+                }
+            }
+            replicator.setLearner(peer.isLearner());
+        }
+        replicators.values().removeIf(replicator -> {
+            if (getPeer(replicator.getNode()) == null) {
+                replicator.stop();
+                return true;
+            }
+            return false;
+        });
+
+        // this node may have been promoted from or demoted to a learner
+        if (state == RaftState.Learner && isVoter(id)) {
+            state = RaftState.Follower;
+            resetElectionTimer();
+        } else if (state == RaftState.Follower && getPeer(id) != null && getPeer(id).isLearner()) {
+            state = RaftState.Learner;
+        }
+    }
+
+    // called on followers after a snapshot was installed
+    @Synchronized("mutex")
+    public void setSnapshotConfiguration(List<Member> members) {
+        snapshotConfiguration = new ArrayList<>(members);
+        updateConfiguration();
+    }
+
+    public PeerInfo getPeer(int node) {
+        for (PeerInfo peer : peers) {
+            if (peer.getId() == node) {
+                return peer;
+            }
+        }
+        return null;
+    }
+
+    private static Member toMember(PeerInfo peer) {
+        Member.Builder builder = Member.newBuilder();
+        builder.setId(peer.getId());
+        builder.setAddress(peer.getHost());
+        builder.setRpcPort(peer.getRpcPort());
+        builder.setKvPort(peer.getKvPort());
+        builder.setLearner(peer.isLearner());
+        return builder.build();
+    }
+
+    private static ArrayList<Member> toMembers(List<PeerInfo> peers) {
+        ArrayList<Member> members = new ArrayList<>();
+        for (PeerInfo peer : peers) {
+            members.add(toMember(peer));
+        }
+        return members;
+    }
+
+    private ListenableFuture<RequestVoteResponse> sendRequestVote(RequestVoteRequest request, int node) {
+        logger.debug("[Raft node {}] Send requestVote request to node {}", id, node);
+
+        final RaftRPCStub asyncClient = RaftRPCGrpc.newStub(getPeer(node).getRpcChannel());
+        SettableFuture<RequestVoteResponse> futureResponse = SettableFuture.create();
+        asyncClient.requestVote(request, new StreamObserver<RequestVoteResponse>() {
+            @Override
+            public void onNext(RequestVoteResponse response) {
+                futureResponse.set(response);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                logger.warn("[Raft node {}] Failed to sending requestVote request to node {}", id, node);
+                futureResponse.setException(t);
+            }
+
+            @Override
+            public void onCompleted() {
+
+            }
+        });
+        return futureResponse;
+    }
+
+    private ListenableFuture<PreVoteResponse> sendPreVote(PreVoteRequest request, int node) {
+        logger.debug("[Raft node {}] Send preVote request to node {}", id, node);
+
+        final RaftRPCStub asyncClient = RaftRPCGrpc.newStub(getPeer(node).getRpcChannel());
+        SettableFuture<PreVoteResponse> futureResponse = SettableFuture.create();
+        asyncClient.preVote(request, new StreamObserver<PreVoteResponse>() {
+            @Override
+            public void onNext(PreVoteResponse response) {
+                futureResponse.set(response);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                logger.warn("[Raft node {}] Failed to sending preVote request to node {}", id, node);
+                futureResponse.setException(t);
+            }
+
+            @Override
+            public void onCompleted() {
+
+            }
+        });
+        return futureResponse;
+    }
+
+    private ListenableFuture<TimeoutNowResponse> sendTimeoutNow(TimeoutNowRequest request, int node) {
+        logger.debug("[Raft node {}] Send timeoutNow request to node {}", id, node);
+
+        final RaftRPCStub asyncClient = RaftRPCGrpc.newStub(getPeer(node).getRpcChannel());
+        SettableFuture<TimeoutNowResponse> futureResponse = SettableFuture.create();
+        asyncClient.timeoutNow(request, new StreamObserver<TimeoutNowResponse>() {
+            @Override
+            public void onNext(TimeoutNowResponse response) {
+                futureResponse.set(response);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                logger.warn("[Raft node {}] Failed to sending timeoutNow request to node {}", id, node);
+                futureResponse.setException(t);
+            }
+
+            @Override
+            public void onCompleted() {
+
+            }
+        });
+        return futureResponse;
+    }
+
+    private ListenableFuture<ReadIndexResponse> sendReadIndex(ReadIndexRequest request, int node) {
+        logger.debug("[Raft node {}] Send readIndex request to node {}", id, node);
+
+        final RaftRPCStub asyncClient = RaftRPCGrpc.newStub(getPeer(node).getRpcChannel());
+        SettableFuture<ReadIndexResponse> futureResponse = SettableFuture.create();
+        asyncClient.readIndex(request, new StreamObserver<ReadIndexResponse>() {
+            @Override
+            public void onNext(ReadIndexResponse response) {
+                futureResponse.set(response);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                logger.warn("[Raft node {}] Failed to sending readIndex request to node {}", id, node);
+                futureResponse.setException(t);
+            }
+
+            @Override
+            public void onCompleted() {
+
+            }
+        });
+        return futureResponse;
+    }
+
+    ListenableFuture<AppendEntriesResponse> sendAppendEntries(AppendEntriesRequest request, int node) {
+        logger.debug("[Raft node {}] Send appendEntries request to node {}", id, node);
+
+        // a deadline makes sure a lost response frees its slot in the in-flight window
+        final RaftRPCStub asyncClient = RaftRPCGrpc.newStub(getPeer(node).getRpcChannel()).withDeadlineAfter(electionTimeoutMin, TimeUnit.MILLISECONDS);
+        SettableFuture<AppendEntriesResponse> futureResponse = SettableFuture.create();
+        asyncClient.appendEntries(request, new StreamObserver<AppendEntriesResponse>() {
+            @Override
+            public void onNext(AppendEntriesResponse response) {
+                futureResponse.set(response);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                logger.warn("[Raft node {}] Failed to sending appendEntries request to node {}", id, node);
+                futureResponse.setException(t);
+            }
+
+            @Override
+            public void onCompleted() {
+
+            }
+        });
+
+        return futureResponse;
+    }
+
+    ListenableFuture<InstallSnapshotResponse> sendInstallSnapshot(InstallSnapshotRequest request, int node) {
+        logger.debug("[Raft node {}] Send installSnapshot request to node {}", id, node);
+
+        // a lost response must not leave the replicator waiting for it forever
+        final RaftRPCStub asyncClient = RaftRPCGrpc.newStub(getPeer(node).getRpcChannel()).withDeadlineAfter(electionTimeoutMin, TimeUnit.MILLISECONDS);
+        SettableFuture<InstallSnapshotResponse> futureResponse = SettableFuture.create();
+        asyncClient.installSnapshot(request, new StreamObserver<InstallSnapshotResponse>() {
+            @Override
+            public void onNext(InstallSnapshotResponse response) {
+                futureResponse.set(response);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                logger.warn("[Raft node {}] Failed to sending installSnapshot request to node {}", id, node);
+                futureResponse.setException(t);
+            }
+
+            @Override
+            public void onCompleted() {
+
+            }
+        });
+
+        return futureResponse;
+    }
+
+    @Synchronized("mutex")
+    public int getCurrentTerm() {
+        return currentTerm;
+    }
+
+    @Synchronized("mutex")
+    public int getCommitIndex() {
+        return commitIndex;
+    }
+
+    @Synchronized("mutex")
+    public void setCommitIndex(int index) {
+        commitIndex = index;
+    }
+
+    @Synchronized("mutex")
+    public int getLastApplied() {
+        return lastApplied;
+    }
+
+    @Synchronized("mutex")
+    public void setLastApplied(int index) {
+        lastApplied = index;
+        applyEpoch++;
+        mutex.notifyAll();
+    }
+
+    @Synchronized("mutex")
+    public LogEntry getLogByIndex(int index) {
+        return logs.get(index);
+    }
+
+    // the term of the entry at index, without reading the entry from disk if it was evicted
+    @Synchronized("mutex")
+    public int getLogTerm(int index) {
+        return logs.getTerm(index);
+    }
+
+    @Synchronized("mutex")
+    public int getLastIncludedIndex() {
+        return lastIncludedIndex;
+    }
+
+    @Synchronized("mutex")
+    public RaftLog getLogs() {
+        return logs;
+    }
+
+    @Synchronized("mutex")
+    public int getLastIncludedTerm() {
+        return lastIncludedTerm;
+    }
+
+    @Synchronized("mutex")
+    public int getLeaderId() {
+        return leaderId;
+    }
+
+    @Synchronized("mutex")
+    public void setLeaderId(int leaderId) {
+        this.leaderId = leaderId;
+    }
+
+    @Synchronized("mutex")
+    public int getVotedFor() {
+        return votedFor;
+    }
+
+    @Synchronized("mutex")
+    public void setVotedFor(int votedFor) {
+        this.votedFor = votedFor;
+        persistHardState();
+    }
+
+    // writes currentTerm and votedFor to the hard state file, the group committer forces it with the next batch
+    @Synchronized("mutex")
+    private void persistHardState() {
+        if (hardState.save(currentTerm, votedFor)) {
+            committer.hardStateWritten();
+        }
+    }
+
+    // runs the action once the current term and vote are persisted, used to hold back vote replies
+    public void whenHardStatePersisted(Runnable action) {
+        committer.whenHardStatePersisted(action);
+    }
+
+    @Synchronized("mutex")
+    public int getMaxLogIndex() {
+        return logs.getLastIndex();
     }
 
     @Synchronized("mutex")
     public void clearLogs(int beginIndex) {
-        logs.subList(beginIndex - lastIncludedIndex - 1, logs.size()).clear();
+        logs.truncateSuffix(beginIndex);
+        wal.truncateSuffix(beginIndex);
+        committer.truncated(beginIndex - 1);
     }
 
+    // appends the entries following prevLogIndex, truncating the log only from the first conflicting entry,
+    // so that a delayed pipelined request can not cut off entries appended by a later one
     @Synchronized("mutex")
-    public void clearLogs() {
-        logs.clear();
+    public void mergeLogs(int prevLogIndex, List<LogEntry> entries) {
+        int index = prevLogIndex + 1;
+        for (int i = 0; i < entries.size(); i++, index++) {
+            if (index <= lastIncludedIndex) {
+                continue;
+            }
+            if (index > getMaxLogIndex()) {
+                appendLogs(entries.subList(i, entries.size()), false);
+                return;
+            }
+            if (getLogTerm(index) != entries.get(i).getTerm()) {
+                // a truncated configuration entry has to be rolled back as well
+                boolean truncated = configurationIndex >= index;
+                clearLogs(index);
+                appendLogs(entries.subList(i, entries.size()), truncated);
+                return;
+            }
+        }
+    }
+
+    // the entries are written before they are cached, so an evicted entry can always be read back
+    @Synchronized("mutex")
+    private void appendLeaderLogs(List<LogEntry> entries) {
+        persistLogs(getMaxLogIndex() + 1, entries);
+        logs.appendAll(entries);
+    }
+
+    // writes the entries from index on to the write-ahead log, the group committer forces them to disk later on
+    @Synchronized("mutex")
+    private void persistLogs(int index, List<LogEntry> entries) {
+        long start = System.nanoTime();
+        wal.append(index, entries);
+        committer.written(index, index + entries.size() - 1, start);
     }
 
+    // a force of the write-ahead log may have made the leader's own entries count for a quorum
     @Synchronized("mutex")
-    public void addLogs(List<LogEntry> entries) {
-        logs.addAll(entries);
+    private void onLogsSynced() {
+        if (state == RaftState.Leader) {
+            updateCommitIndex();
+        }
+    }
+
+    // runs persisted once the entries up through index and the current term are persisted, used to hold back
+    // acknowledgements, or dropped if the entries are cut off by a later leader before
+    public void whenPersisted(int index, Runnable persisted, Runnable dropped) {
+        committer.whenPersisted(index, persisted, dropped);
+    }
+
+    @Synchronized("mutex")
+    private void appendLogs(List<LogEntry> entries, boolean configurationChanged) {
+        persistLogs(getMaxLogIndex() + 1, entries);
+        logs.appendAll(entries);
+        if (configurationChanged || entries.stream().anyMatch(entry -> entry.getConfigurationCount() > 0)) {
+            updateConfiguration();
+        }
     }
 
     @Synchronized("mutex")
     public int getLastLogTerm() {
-        if (logs.size() != 0) {
-            return logs.get(logs.size() - 1).getTerm();
+        if (!logs.isEmpty()) {
+            return logs.getTerm(logs.getLastIndex());
         }
         if (lastIncludedIndex != -1) {
             return lastIncludedTerm;
@@ -588,70 +1841,54 @@ public class RaftNode {
         return -1;
     }
 
+    // first index of the run of entries with the given term that ends at index
     @Synchronized("mutex")
-    public void setRandomElectionTimeout() {
-        electionTimeout = electionTimeoutMin + new Random().nextInt(electionTimeoutMax - electionTimeoutMin);
+    public int getFirstIndexOfTerm(int term, int index) {
+        while (index - 1 > lastIncludedIndex && getLogTerm(index - 1) == term) {
+            index--;
+        }
+        return index;
+    }
+
+    // stops the tasks of this group and closes its persisted state, along with the runtime if this node owns it
+    public void close() {
+        synchronized (mutex) {
+            if (electionTimer != null) {
+                electionTimer.cancel(false);
+            }
+            for (Replicator replicator : replicators.values()) {
+                replicator.stop();
+            }
+        }
+        proposalBatcher.stop();
+        applier.stop();
+        committer.close();
+        wal.close();
+        hardState.close();
+        if (ownsRuntime) {
+            runtime.close();
+        }
     }
 
     public void start() {
-        // start rpc server
-        new Thread(() -> {
-            raftRPCServer.start();
-        }).start();
-
-        // start kvstorage server
-        new Thread(() -> {
-            kvServer.start();
-        }).start();
-
-        // start raft server
-        new Thread(() -> {
-            while (true) {
-                try {
-                    final RaftState loopState;
-                    synchronized (mutex) {
-                        loopState = this.state;
-                    }
-                    switch (loopState) {
-                        case Leader:
-                            startAppendEntries();
-                            synchronized (mutex) {
-                                if (lastApplied - lastIncludedIndex > maxLogSize) {
-                                    startInstallSnapshot();
-                                }
-                            }
-                            try {
-                                Thread.sleep(this.heartbeat);
-                            } catch (InterruptedException e) {
-                                e.printStackTrace();
-                            }
-                            break;
-                        case Candidate:
-                            startLeaderElection();
-                            try {
-                                Thread.sleep(electionTimeout);
-                            } catch (InterruptedException e) {
-                                e.printStackTrace();
-                            }
-                            break;
-                        case Follower:
-                            long now = System.currentTimeMillis();
-                            if (now - lastReceiveAppendEntries > heartbeat * 3) {
-                                try {
-                                    Thread.sleep(new Random().nextInt(this.heartbeat));
-                                    logger.info("[Raft node {}] No AppendEntriesRequest received, start election task", id);
-                                    startLeaderElection();
-                                    lastReceiveAppendEntries = System.currentTimeMillis();
-                                } catch (InterruptedException e) {
-                                    e.printStackTrace();
-                                }
-                            }
-                            break;
-                    }
-                } catch (IllegalStateException e) {
+        if (ownsRuntime) {
+            runtime.startServers();
+        }
 
-                }
+        // start replicators and raft timers
+        synchronized (mutex) {
+            started = true;
+            for (Replicator replicator : replicators.values()) {
+                replicator.start();
             }
-        }).start();
+            resetElectionTimer();
+        }
+        proposalBatcher.start();
+        applier.start();
+    }
+
+    // the worker threads shared by all groups of the runtime
+    Executor getWorkers() {
+        return runtime.getWorkers();
     }
 }
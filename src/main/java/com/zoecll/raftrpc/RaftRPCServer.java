@@ -1,243 +1,223 @@
 package com.zoecll.raftrpc;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
+import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import protobuf.RaftRPCGrpc.RaftRPCImplBase;
 import protobuf.RaftRPCProto.AppendEntriesRequest;
 import protobuf.RaftRPCProto.AppendEntriesResponse;
+import protobuf.RaftRPCProto.ChangeMemberRequest;
+import protobuf.RaftRPCProto.ChangeMemberResponse;
+import protobuf.RaftRPCProto.GroupHeartbeat;
+import protobuf.RaftRPCProto.GroupHeartbeatResponse;
+import protobuf.RaftRPCProto.HeartbeatRequest;
+import protobuf.RaftRPCProto.HeartbeatResponse;
 import protobuf.RaftRPCProto.InstallSnapshotRequest;
 import protobuf.RaftRPCProto.InstallSnapshotResponse;
+import protobuf.RaftRPCProto.Member;
+import protobuf.RaftRPCProto.PreVoteRequest;
+import protobuf.RaftRPCProto.PreVoteResponse;
+import protobuf.RaftRPCProto.ReadIndexRequest;
+import protobuf.RaftRPCProto.ReadIndexResponse;
 import protobuf.RaftRPCProto.RequestVoteRequest;
 import protobuf.RaftRPCProto.RequestVoteResponse;
+import protobuf.RaftRPCProto.TimeoutNowRequest;
+import protobuf.RaftRPCProto.TimeoutNowResponse;
 
 public class RaftRPCServer extends RaftRPCImplBase {
 
     private final static Logger logger = LoggerFactory.getLogger(RaftRPCServer.class);
 
-    private RaftNode raftNode;
+    private final RaftRuntime runtime;
+
+    public RaftRPCServer(RaftRuntime runtime) {
+        this.runtime = runtime;
+    }
 
-    public RaftRPCServer(RaftNode raftNode) {
-        this.raftNode = raftNode;
+    // the group a request is addressed to, the request fails with NOT_FOUND if this node does not host it
+    private RaftNode getGroup(int groupId, StreamObserver<?> responseObserver) {
+        RaftNode raftNode = runtime.getGroup(groupId);
+        if (raftNode == null) {
+            logger.warn("[Raft node {}] Received request for unknown group {}", runtime.getId(), groupId);
+            responseObserver.onError(Status.NOT_FOUND.withDescription("unknown raft group " + groupId).asRuntimeException());
+        }
+        return raftNode;
     }
 
     @Override
     public void appendEntries(AppendEntriesRequest request, StreamObserver<AppendEntriesResponse> responseObserver) {
-        logger.debug("[Raft node {}] Received appendEntries request from node {}", raftNode.getId(), request.getLeaderId());
-
-        AppendEntriesResponse.Builder builder = AppendEntriesResponse.newBuilder();
-
-        if (request.getTerm() < raftNode.getCurrentTerm()) {
-            builder.setTerm(raftNode.getCurrentTerm());
-            builder.setSuccess(false);
-            responseObserver.onNext(builder.build());
-            responseObserver.onCompleted();
-            logger.debug("[Raft node {}] Reject appendEntries request from node {} with lower term {} < current node term {}", raftNode.getId(), request.getLeaderId(), request.getTerm(), raftNode.getCurrentTerm());
+        RaftNode raftNode = getGroup(request.getGroupId(), responseObserver);
+        if (raftNode == null) {
             return;
         }
+        logger.debug("[Raft node {}] Received appendEntries request from node {}", raftNode.getId(), request.getLeaderId());
 
-        raftNode.setRandomElectionTimeout();
-        raftNode.convertToFollower(request.getTerm(), request.getLeaderId());
-        raftNode.setLastReceiveAppendEntries(System.currentTimeMillis());
-        
-        if (request.getPrevLogIndex() == -1) {
-            builder.setTerm(raftNode.getCurrentTerm());
-            builder.setSuccess(true);
-            responseObserver.onNext(builder.build());
+        // the entries are only acknowledged once they are persisted
+        AppendEntriesResponse response = raftNode.handleAppendEntries(request);
+        int index = response.getSuccess() ? request.getPrevLogIndex() + request.getEntriesCount() : -1;
+        raftNode.whenPersisted(index, () -> {
+            responseObserver.onNext(response);
             responseObserver.onCompleted();
-            raftNode.clearLogs();
-            raftNode.addLogs(request.getEntriesList());
-            if (request.getLeaderCommit() > raftNode.getCommitIndex()) {
-                raftNode.setCommitIndex(Math.min(request.getLeaderCommit(), raftNode.getMaxLogIndex()));
-            }
-            raftNode.applyLogs();
-            return;
-        }
+        }, () -> responseObserver.onError(Status.ABORTED.withDescription("entries cut off before they were persisted").asRuntimeException()));
+    }
 
-        if (request.getPrevLogIndex() > raftNode.getMaxLogIndex()) {
-            builder.setTerm(raftNode.getCurrentTerm());
-            builder.setSuccess(false);
-            responseObserver.onNext(builder.build());
-            responseObserver.onCompleted();
-            logger.debug("[Raft node {}] Reject appendEntries request from node {} with prevLogIndex {} > current node log index {}", raftNode.getId(), request.getLeaderId(), request.getPrevLogIndex(), raftNode.getMaxLogIndex());
+    @Override
+    public void requestVote(RequestVoteRequest request, StreamObserver<RequestVoteResponse> responseObserver) {
+        RaftNode raftNode = getGroup(request.getGroupId(), responseObserver);
+        if (raftNode == null) {
             return;
         }
+        logger.debug("[Raft node {}] Received requestVote request from candidate {}", raftNode.getId(), request.getCandidateId());
 
-        // if (request.getPrevLogIndex() <= logs.size() - 1)
-        int prevLogTerm = raftNode.getLastIncludedTerm();
-        if (request.getPrevLogIndex() - raftNode.getLastIncludedIndex() - 1 >= 0) {
-            prevLogTerm = raftNode.getLogByIndex(request.getPrevLogIndex()).getTerm();
-        }
-        if (request.getPrevLogTerm() != prevLogTerm) {
-            builder.setTerm(raftNode.getCurrentTerm());
-            builder.setSuccess(false);
-            responseObserver.onNext(builder.build());
+        // a granted vote must survive a restart, or the node could vote twice in the term
+        RequestVoteResponse response = raftNode.handleRequestVote(request);
+        raftNode.whenHardStatePersisted(() -> {
+            responseObserver.onNext(response);
             responseObserver.onCompleted();
-            logger.debug("[Raft node {}] Reject appendEntries request from node {} with prevLogTerm {} != current node log term {}", raftNode.getId(), request.getLeaderId(), request.getPrevLogTerm(), raftNode.getLogByIndex(request.getPrevLogIndex()).getTerm());
+        });
+    }
+
+    @Override
+    public void preVote(PreVoteRequest request, StreamObserver<PreVoteResponse> responseObserver) {
+        RaftNode raftNode = getGroup(request.getGroupId(), responseObserver);
+        if (raftNode == null) {
             return;
         }
+        logger.debug("[Raft node {}] Received preVote request from candidate {}", raftNode.getId(), request.getCandidateId());
 
-        // if index and term are all correct, the log entry is correct
-        builder.setTerm(raftNode.getCurrentTerm());
-        builder.setSuccess(true);
-        responseObserver.onNext(builder.build());
+        responseObserver.onNext(raftNode.handlePreVote(request));
         responseObserver.onCompleted();
-        raftNode.clearLogs(request.getPrevLogIndex() + 1);
-        raftNode.addLogs(request.getEntriesList());
-        if (request.getLeaderCommit() > raftNode.getCommitIndex()) {
-            raftNode.setCommitIndex(Math.min(request.getLeaderCommit(), raftNode.getMaxLogIndex()));
-        }
-        if (request.getEntriesList().size() > 0) {
-            logger.info("[Raft node {}] Append {} entries, log index: {}, log size: {}", raftNode.getId(), request.getEntriesList().size(), raftNode.getMaxLogIndex(), raftNode.getLogs().size());
-        }
-        raftNode.applyLogs();
     }
 
     @Override
-    public void requestVote(RequestVoteRequest request, StreamObserver<RequestVoteResponse> responseObserver) {
-        logger.debug("[Raft node {}] Received requestVote request from candidate {}", raftNode.getId(), request.getCandidateId());
-
-        RequestVoteResponse.Builder builder = RequestVoteResponse.newBuilder();
-
-        if (request.getTerm() < raftNode.getCurrentTerm()) {
-            builder.setVoteGranted(false);
-            builder.setTerm(raftNode.getCurrentTerm());
-            responseObserver.onNext(builder.build());
-            responseObserver.onCompleted();
+    public void readIndex(ReadIndexRequest request, StreamObserver<ReadIndexResponse> responseObserver) {
+        RaftNode raftNode = getGroup(request.getGroupId(), responseObserver);
+        if (raftNode == null) {
             return;
         }
+        logger.debug("[Raft node {}] Received readIndex request from node {}", raftNode.getId(), request.getNodeId());
 
-        if (request.getTerm() == raftNode.getCurrentTerm()) {
-            if (raftNode.getVotedFor() != -1 && raftNode.getVotedFor() != request.getCandidateId()) {
-                builder.setVoteGranted(false);
-                builder.setTerm(raftNode.getCurrentTerm());
-                responseObserver.onNext(builder.build());
-                responseObserver.onCompleted();
-                return;
-            }
-
-            int lastLogIndex = raftNode.getMaxLogIndex();
-            int lastLogTerm = raftNode.getLastLogTerm();
-            if (request.getLastLogTerm() < lastLogTerm) {
-                builder.setVoteGranted(false);
+        // answer once the leadership is confirmed, without blocking the rpc thread
+        Futures.addCallback(raftNode.getLeaderReadIndex(), new FutureCallback<Integer>() {
+            @Override
+            public void onSuccess(Integer readIndex) {
+                ReadIndexResponse.Builder builder = ReadIndexResponse.newBuilder();
                 builder.setTerm(raftNode.getCurrentTerm());
+                builder.setSuccess(readIndex != -1);
+                builder.setReadIndex(readIndex);
                 responseObserver.onNext(builder.build());
                 responseObserver.onCompleted();
-                return;
             }
 
-            if (request.getLastLogTerm() == lastLogTerm && request.getLastLogIndex() < lastLogIndex) {
-                builder.setVoteGranted(false);
-                builder.setTerm(raftNode.getCurrentTerm());
-                responseObserver.onNext(builder.build());
-                responseObserver.onCompleted();
-                return;
+            @Override
+            public void onFailure(Throwable t) {
+                responseObserver.onError(t);
             }
+        }, MoreExecutors.directExecutor());
+    }
 
-            // if (request.getLastLogTerm() > lastLogTerm)
-            builder.setVoteGranted(true);
-            builder.setTerm(raftNode.getCurrentTerm());
-            responseObserver.onNext(builder.build());
-            responseObserver.onCompleted();
-            raftNode.setVotedFor(request.getCandidateId());
-            logger.debug("[Raft node {}] Voted for candidate {}", raftNode.getId(), request.getCandidateId());
-            return;
-        }
-
-        // if (request.getTerm() > currentTerm)
-        logger.info("[Raft node {}] Received requestVote request from candidate {} with higher term {} > {}", raftNode.getId(), request.getCandidateId(), request.getTerm(), raftNode.getCurrentTerm());
-        raftNode.convertToFollower(request.getTerm(), -1);   // update currentTerm, state, votedFor, etc.
-        int lastLogIndex = raftNode.getMaxLogIndex();
-        int lastLogTerm = raftNode.getLastLogTerm();
-        if (request.getLastLogTerm() < lastLogTerm) {
-            builder.setVoteGranted(false);
-            builder.setTerm(raftNode.getCurrentTerm());
-            responseObserver.onNext(builder.build());
-            responseObserver.onCompleted();
-            return;
-        }
-
-        if (request.getLastLogTerm() == lastLogTerm && request.getLastLogIndex() < lastLogIndex) {
-            builder.setVoteGranted(false);
-            builder.setTerm(raftNode.getCurrentTerm());
-            responseObserver.onNext(builder.build());
-            responseObserver.onCompleted();
+    @Override
+    public void timeoutNow(TimeoutNowRequest request, StreamObserver<TimeoutNowResponse> responseObserver) {
+        RaftNode raftNode = getGroup(request.getGroupId(), responseObserver);
+        if (raftNode == null) {
             return;
         }
+        logger.debug("[Raft node {}] Received timeoutNow request from node {}", raftNode.getId(), request.getLeaderId());
 
-        // if (request.getLastLogTerm() > lastLogTerm)
-        builder.setVoteGranted(true);
+        TimeoutNowResponse.Builder builder = TimeoutNowResponse.newBuilder();
         builder.setTerm(raftNode.getCurrentTerm());
         responseObserver.onNext(builder.build());
         responseObserver.onCompleted();
-        raftNode.setVotedFor(request.getCandidateId());
-        logger.debug("[Raft node {}] Voted for candidate {}", raftNode.getId(), request.getCandidateId());
+        raftNode.timeoutNow(request.getTerm());
     }
 
     @Override
-    public void installSnapshot(InstallSnapshotRequest request, StreamObserver<InstallSnapshotResponse> responseObserver) {
-        InstallSnapshotResponse.Builder builder = InstallSnapshotResponse.newBuilder();
-        builder.setTerm(raftNode.getCurrentTerm());
-        
-        // 1. Reply immediately if term < currentTerm
-        if (request.getTerm() < raftNode.getCurrentTerm()) {
-            responseObserver.onNext(builder.build());
-            responseObserver.onCompleted();
+    public void changeMember(ChangeMemberRequest request, StreamObserver<ChangeMemberResponse> responseObserver) {
+        RaftNode raftNode = getGroup(request.getGroupId(), responseObserver);
+        if (raftNode == null) {
             return;
         }
-        
-        if (request.getLastIncludedIndex() <= raftNode.getLastIncludedIndex()) {
-            responseObserver.onNext(builder.build());
-            responseObserver.onCompleted();
-            return;
-        }
-        
-        // 2. Create new snapshot file if first chunk (offset is 0)
-        if (request.getOffset() == 0) {
-            raftNode.getPersister().createSnapshot(1024 * 1024);
-        }
+        logger.info("[Raft node {}] Received changeMember request for node {}, remove: {}", raftNode.getId(), request.getId(), request.getRemove());
+
+        Member.Builder member = Member.newBuilder();
+        member.setId(request.getId());
+        member.setAddress(request.getAddress());
+        member.setRpcPort(request.getRpcPort());
+        member.setKvPort(request.getKvPort());
+        member.setLearner(request.getLearner());
+
+        ChangeMemberResponse.Builder builder = ChangeMemberResponse.newBuilder();
+        builder.setSuccess(raftNode.changeMember(member.build(), request.getRemove()));
+        builder.setLeaderId(raftNode.getLeaderId());
+        responseObserver.onNext(builder.build());
+        responseObserver.onCompleted();
+    }
 
-        // 3. Write data into snapshot file at given offset
-        raftNode.getPersister().write(request.getData().toByteArray(), request.getOffset());
-        
-        // 4. Reply and wait for more data chunks if done is false
-        if (!request.getDone()) {
+    @Override
+    public void heartbeat(HeartbeatRequest request, StreamObserver<HeartbeatResponse> responseObserver) {
+        logger.debug("[Raft node {}] Received {} heartbeats from node {}", runtime.getId(), request.getHeartbeatsCount(), request.getNodeId());
+
+        int count = request.getHeartbeatsCount();
+        GroupHeartbeatResponse[] responses = new GroupHeartbeatResponse[count];
+        // one count per group plus one for this loop, the reply goes out once the last of them is done
+        AtomicInteger pending = new AtomicInteger(count + 1);
+        Runnable reply = () -> {
+            HeartbeatResponse.Builder builder = HeartbeatResponse.newBuilder();
+            builder.setNodeId(runtime.getId());
+            for (GroupHeartbeatResponse response : responses) {
+                builder.addResponses(response);
+            }
             responseObserver.onNext(builder.build());
             responseObserver.onCompleted();
-            return;
+        };
+        for (int i = 0; i < count; i++) {
+            GroupHeartbeat heartbeat = request.getHeartbeats(i);
+            int position = i;
+            // a group missing here must not fail the heartbeats of the other groups
+            RaftNode raftNode = runtime.getGroup(heartbeat.getGroupId());
+            if (raftNode == null) {
+                responses[position] = GroupHeartbeatResponse.newBuilder().setGroupId(heartbeat.getGroupId()).setSuccess(false).build();
+                pending.decrementAndGet();
+                continue;
+            }
+            GroupHeartbeatResponse response = raftNode.handleHeartbeat(request.getNodeId(), heartbeat);
+            // a heartbeat that raised the term is answered once the new term is persisted, like appendEntries
+            raftNode.whenHardStatePersisted(() -> {
+                responses[position] = response;
+                if (pending.decrementAndGet() == 0) {
+                    reply.run();
+                }
+            });
+        }
+        if (pending.decrementAndGet() == 0) {
+            reply.run();
         }
+    }
 
-        // 5. Save snapshot file, discard any existing or partial snapshot with a smaller index
-        raftNode.getPersister().setLastIncludedIndex(request.getLastIncludedIndex());
-        raftNode.getPersister().setLastIncludedTerm(request.getLastIncludedTerm());
-        raftNode.setLastIncludedIndex(request.getLastIncludedIndex());
-        raftNode.setLastIncludedTerm(request.getLastIncludedTerm());
-        raftNode.setLastApplied(request.getLastIncludedIndex());
-        raftNode.getPersister().saveSnapshot();
-
-        // 6. If existing log entry has same index and term as snapshot’s last included entry, retain log entries following it and reply
-        int requestLastIncludedTerm = request.getLastIncludedTerm();
-        int localLastIncludedTerm = raftNode.getLastIncludedTerm();
-        
-        if (request.getLastIncludedIndex() < raftNode.getMaxLogIndex() && requestLastIncludedTerm == localLastIncludedTerm) {
-            raftNode.clearLogs(request.getLastIncludedIndex() + 1, request.getLastIncludedIndex() + 1);
-            responseObserver.onNext(builder.build());
-            responseObserver.onCompleted();
+    @Override
+    public void installSnapshot(InstallSnapshotRequest request, StreamObserver<InstallSnapshotResponse> responseObserver) {
+        RaftNode raftNode = getGroup(request.getGroupId(), responseObserver);
+        if (raftNode == null) {
             return;
         }
-        
-        // 7. Discard the entire log
-        raftNode.clearLogs();
+        logger.debug("[Raft node {}] Received installSnapshot request from node {}", raftNode.getId(), request.getLeaderId());
 
-        // 8. Reset state machine using snapshot contents (and load snapshot’s cluster configuration)
-        raftNode.getKvServer().reset(raftNode.getPersister());
+        responseObserver.onNext(raftNode.handleInstallSnapshot(request));
+        responseObserver.onCompleted();
     }
 
     void start() {
-        Server rpcServer = ServerBuilder.forPort(raftNode.getPeers().get(raftNode.getId()).getRpcPort()).addService(this).build();
+        Server rpcServer = ServerBuilder.forPort(runtime.getPeer(runtime.getId()).getRpcPort()).addService(this).build();
         try {
             rpcServer.start();
             rpcServer.awaitTermination();
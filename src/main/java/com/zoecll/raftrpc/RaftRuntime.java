@@ -0,0 +1,222 @@
+package com.zoecll.raftrpc;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.Yaml;
+
+import com.zoecll.config.PeerInfo;
+import com.zoecll.kvstorage.KvRouter;
+import com.zoecll.persistence.SharedCommitter;
+
+import lombok.Getter;
+
+/**
+ * Hosts all raft groups of one node. The groups share the peer channels, the rpc and kvstorage servers,
+ * the timer threads, the worker threads running their replicators, appliers and proposal batchers, and the
+ * committer forcing their logs. Each group owns the range of keys between two split keys.
+ */
+public class RaftRuntime {
+
+    private static final Logger logger = LoggerFactory.getLogger(RaftRuntime.class);
+
+    @Getter
+    private final int id;
+    @Getter
+    private final ArrayList<PeerInfo> peers;
+    @Getter
+    private final ScheduledExecutorService timer;
+    @Getter
+    private final ExecutorService workers;
+    @Getter
+    private final SharedCommitter committer;
+
+    private final HashMap<Integer, RaftNode> groups = new HashMap<>();
+    private final TreeMap<String, Integer> ranges = new TreeMap<>();   // first key of the range -> group owning it
+    private final RaftRPCServer raftRPCServer = new RaftRPCServer(this);
+    private final KvRouter kvRouter = new KvRouter(this);
+    private final HashMap<String, HeartbeatCoalescer> coalescers = new HashMap<>();   // one per follower address
+
+    private int heartbeat = 50;
+    private int electionTimeoutMin = 150;
+    private int timerThreads = 4;
+    private int workerThreads = 8;
+    private ArrayList<String> splitKeys = new ArrayList<>();
+
+    public RaftRuntime(int id, ArrayList<PeerInfo> peers) {
+        this(id, peers, true);
+    }
+
+    RaftRuntime(int id, ArrayList<PeerInfo> peers, boolean createGroups) {
+        this.id = id;
+        this.peers = peers;
+
+        Yaml yaml = new Yaml();
+        try {
+            InputStream input = new FileInputStream("src/main/resources/config.yml");
+            Map<String, Map<String, Object>> data = yaml.load(input);
+            Map<String, Integer> timeout = (Map<String, Integer>) data.get("cluster").get("timeout");
+            this.heartbeat = timeout.get("heartbeat");
+            this.electionTimeoutMin = timeout.get("electionTimeoutMin");
+            Map<String, Object> groupConfig = (Map<String, Object>) data.get("cluster").get("groups");
+            this.timerThreads = (int) groupConfig.get("timerThreads");
+            this.workerThreads = (int) groupConfig.get("workerThreads");
+            this.splitKeys = new ArrayList<>((List<String>) groupConfig.get("splitKeys"));
+        } catch (FileNotFoundException e) {
+            logger.error("Node config file not found.");
+            e.printStackTrace();
+        }
+
+        AtomicInteger threads = new AtomicInteger();
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(timerThreads, r -> new Thread(r, "raft-timer-" + id + "-" + threads.getAndIncrement()));
+        // election timers are cancelled on every AppendEntries, they must not stay queued until they would have fired
+        timer.setRemoveOnCancelPolicy(true);
+        this.timer = timer;
+        AtomicInteger workerCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, r -> new Thread(r, "raft-worker-" + id + "-" + workerCount.getAndIncrement()));
+        this.committer = new SharedCommitter(id);
+
+        ranges.put("", 0);
+        if (createGroups) {
+            for (int i = 0; i < splitKeys.size(); i++) {
+                ranges.put(splitKeys.get(i), i + 1);
+            }
+            for (int groupId = 0; groupId <= splitKeys.size(); groupId++) {
+                addGroup(new RaftNode(this, groupId));
+            }
+            logger.info("[Raft node {}] Hosting {} raft groups", id, groups.size());
+        }
+    }
+
+    void addGroup(RaftNode raftNode) {
+        groups.put(raftNode.getGroupId(), raftNode);
+    }
+
+    public RaftNode getGroup(int groupId) {
+        return groups.get(groupId);
+    }
+
+    public RaftNode getGroupByKey(String key) {
+        return groups.get(ranges.floorEntry(key).getValue());
+    }
+
+    public Collection<RaftNode> getGroups() {
+        return groups.values();
+    }
+
+    // keyed by address, so a member that moved through a configuration change gets a coalescer of its own
+    synchronized HeartbeatCoalescer getCoalescer(PeerInfo peer) {
+        return coalescers.computeIfAbsent(peer.getRpcAddress(), address -> new HeartbeatCoalescer(id, peer, electionTimeoutMin));
+    }
+
+    // called by a group that dropped the given peers from its configuration, closes the channels no group uses
+    // anymore and the coalescers of addresses no group sends to
+    synchronized void releasePeers(List<PeerInfo> removed) {
+        for (PeerInfo peer : removed) {
+            if (!isReferenced(peer)) {
+                logger.info("[Raft node {}] Close channels to node {} at {}", id, peer.getId(), peer.getRpcAddress());
+                peer.shutdown();
+            }
+            if (!isAddressInUse(peer.getRpcAddress())) {
+                coalescers.remove(peer.getRpcAddress());
+            }
+        }
+    }
+
+    private boolean isReferenced(PeerInfo peer) {
+        if (peers.contains(peer)) {
+            return true;
+        }
+        for (RaftNode raftNode : groups.values()) {
+            if (raftNode.getPeers().contains(peer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAddressInUse(String address) {
+        for (RaftNode raftNode : groups.values()) {
+            for (PeerInfo peer : raftNode.getPeers()) {
+                if (peer.getId() != id && peer.getRpcAddress().equals(address)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // one tick for all groups, the heartbeats of idle groups go out as one rpc per follower node
+    private void onHeartbeatTimeout() {
+        for (RaftNode raftNode : groups.values()) {
+            raftNode.onHeartbeatTimeout();
+        }
+        ArrayList<HeartbeatCoalescer> targets;
+        synchronized (this) {
+            targets = new ArrayList<>(coalescers.values());
+        }
+        for (HeartbeatCoalescer coalescer : targets) {
+            coalescer.flush();
+        }
+    }
+
+    public PeerInfo getPeer(int node) {
+        for (PeerInfo peer : peers) {
+            if (peer.getId() == node) {
+                return peer;
+            }
+        }
+        return null;
+    }
+
+    void startServers() {
+        // start rpc server
+        new Thread(() -> {
+            raftRPCServer.start();
+        }).start();
+
+        // start kvstorage server
+        new Thread(() -> {
+            kvRouter.start();
+        }).start();
+
+        committer.start();
+        timer.scheduleAtFixedRate(this::onHeartbeatTimeout, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+
+        // hand over leadership of every group before going down
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            for (RaftNode raftNode : groups.values()) {
+                raftNode.shutdown();
+            }
+        }));
+    }
+
+    // stops the timer, worker and committer threads, the groups are closed on their own
+    void close() {
+        timer.shutdownNow();
+        workers.shutdownNow();
+        committer.interrupt();
+    }
+
+    public void start() {
+        startServers();
+        for (RaftNode raftNode : groups.values()) {
+            raftNode.start();
+        }
+    }
+}
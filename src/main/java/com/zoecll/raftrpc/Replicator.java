@@ -0,0 +1,190 @@
+package com.zoecll.raftrpc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import lombok.Getter;
+import lombok.Setter;
+import protobuf.RaftRPCProto.AppendEntriesRequest;
+import protobuf.RaftRPCProto.AppendEntriesResponse;
+import protobuf.RaftRPCProto.InstallSnapshotRequest;
+import protobuf.RaftRPCProto.InstallSnapshotResponse;
+
+/**
+ * Long-lived replication task for a single follower, run on the worker threads shared by all groups.
+ * It runs once it is signalled, either by new entries appended to the leader's log or by the heartbeat
+ * timer, and then pipelines AppendEntries requests to the follower up to the in-flight window.
+ */
+class Replicator {
+
+    // an AppendEntries request that has been sent but not answered yet
+    static class Inflight {
+        final AppendEntriesRequest request;
+        final int epoch;
+        final long seq;
+        final int bytes;
+        final long sendTime;
+
+        Inflight(AppendEntriesRequest request, int epoch, long seq) {
+            this.request = request;
+            this.epoch = epoch;
+            this.seq = seq;
+            this.bytes = request.getSerializedSize();
+            this.sendTime = System.currentTimeMillis();
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(Replicator.class);
+
+    private final RaftNode raftNode;
+    @Getter
+    private final int node;
+    @Getter
+    @Setter
+    private volatile boolean learner;   // learners get the log but are left out of every quorum
+
+    private final SerialTask task;
+
+    // replication progress of the follower, guarded by the raft node mutex
+    @Getter
+    @Setter
+    private int nextIndex;      // the next log entry the leader will send to the follower, advanced optimistically
+    @Getter
+    @Setter
+    private int matchIndex;     // the highest log entry known to be replicated on the follower
+    @Getter
+    @Setter
+    private int inflight;       // number of requests sent but not answered yet
+    @Getter
+    @Setter
+    private long inflightBytes; // serialized size of the requests sent but not answered yet
+    @Getter
+    @Setter
+    private int epoch;          // bumped on every rollback of nextIndex, responses of older epochs are ignored
+    @Getter
+    @Setter
+    private long lastAckTime;   // send time of the latest request the follower answered in the current term
+    @Getter
+    @Setter
+    private long lastSentSeq;   // sequence number of the latest request sent to the follower
+    @Getter
+    @Setter
+    private long lastAckSeq;    // sequence number of the latest request the follower answered in the current term
+    @Getter
+    @Setter
+    private boolean snapshotting;   // an InstallSnapshot request is in flight, no AppendEntries are sent meanwhile
+
+    // replication latency of the follower, in milliseconds
+    @Getter
+    private volatile long lastLatency = -1;
+    private long totalLatency = 0;
+    private long totalRounds = 0;
+
+    public Replicator(RaftNode raftNode, int node, boolean learner) {
+        this.raftNode = raftNode;
+        this.node = node;
+        this.learner = learner;
+        this.nextIndex = 0;
+        this.matchIndex = -1;
+        this.inflight = 0;
+        this.inflightBytes = 0;
+        this.epoch = 0;
+        this.lastAckTime = 0;
+        this.lastSentSeq = 0;
+        this.lastAckSeq = 0;
+        this.snapshotting = false;
+        this.task = new SerialTask(raftNode.getId(), "Replicator of node " + node, raftNode.getWorkers(), this::replicate);
+    }
+
+    // resets the progress of the follower, in-flight requests of the previous epoch are dropped
+    public void reset(int nextIndex) {
+        this.nextIndex = nextIndex;
+        this.matchIndex = -1;
+        this.inflight = 0;
+        this.inflightBytes = 0;
+        this.epoch++;
+        this.lastAckTime = 0;
+        this.lastSentSeq = 0;
+        this.lastAckSeq = 0;
+        this.snapshotting = false;
+    }
+
+    public void start() {
+        task.start();
+    }
+
+    public void stop() {
+        task.stop();
+    }
+
+    public void signal() {
+        task.signal();
+    }
+
+    public synchronized double getAverageLatency() {
+        return totalRounds == 0 ? -1 : (double) totalLatency / totalRounds;
+    }
+
+    private synchronized void recordLatency(long latency) {
+        lastLatency = latency;
+        totalLatency += latency;
+        totalRounds++;
+    }
+
+    // one round of replication, run on a worker thread whenever the replicator was signalled
+    private void replicate() {
+        // a follower behind the leader's snapshot can not be caught up from the log
+        InstallSnapshotRequest snapshot = raftNode.buildInstallSnapshot(this);
+        if (snapshot != null) {
+            installSnapshot(snapshot);
+            return;
+        }
+        // fill the in-flight window, buildAppendEntries returns null once it is full or nothing is left to send
+        Inflight inflight;
+        while ((inflight = raftNode.buildAppendEntries(this)) != null) {
+            send(inflight);
+        }
+    }
+
+    private void send(Inflight inflight) {
+        Futures.addCallback(raftNode.sendAppendEntries(inflight.request, node), new FutureCallback<AppendEntriesResponse>() {
+            @Override
+            public void onSuccess(AppendEntriesResponse response) {
+                long latency = System.currentTimeMillis() - inflight.sendTime;
+                recordLatency(latency);
+                logger.debug("[Raft node {}] AppendEntries to node {} took {} ms, {} entries", raftNode.getId(), node, latency, inflight.request.getEntriesCount());
+                if (raftNode.handleAppendEntriesResponse(Replicator.this, inflight, response)) {
+                    signal();
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                logger.warn("[Raft node {}] Failed to get response from node {}", raftNode.getId(), node);
+                raftNode.handleAppendEntriesFailure(Replicator.this, inflight);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void installSnapshot(InstallSnapshotRequest request) {
+        logger.info("[Raft node {}] Send snapshot up through {} to node {}", raftNode.getId(), request.getLastIncludedIndex(), node);
+        Futures.addCallback(raftNode.sendInstallSnapshot(request, node), new FutureCallback<InstallSnapshotResponse>() {
+            @Override
+            public void onSuccess(InstallSnapshotResponse response) {
+                if (raftNode.handleInstallSnapshotResponse(Replicator.this, request, response)) {
+                    signal();
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                logger.warn("[Raft node {}] Failed to send snapshot to node {}", raftNode.getId(), node);
+                raftNode.handleInstallSnapshotFailure(Replicator.this);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+}
@@ -0,0 +1,106 @@
+package com.zoecll.raftrpc;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the work of one component of a raft group on the worker threads shared by all groups of the node.
+ * A signal queues a run unless one is queued already, and a signal arriving while it runs queues one more
+ * afterwards, so the work never runs twice at a time and no signal is lost. Signals before start are kept
+ * until the task is started.
+ */
+class SerialTask implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SerialTask.class);
+
+    private final int id;
+    private final String name;
+    private final Executor executor;
+    private final Runnable action;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean started = false;
+    private boolean stopped = false;
+    private boolean pending = false;    // signalled since the latest run began
+    private boolean scheduled = false;  // queued on the executor or running
+
+    public SerialTask(int id, String name, Executor executor, Runnable action) {
+        this.id = id;
+        this.name = name;
+        this.executor = executor;
+        this.action = action;
+    }
+
+    public void start() {
+        lock.lock();
+        try {
+            started = true;
+            schedule();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void stop() {
+        lock.lock();
+        try {
+            stopped = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void signal() {
+        lock.lock();
+        try {
+            pending = true;
+            schedule();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void schedule() {
+        if (!started || stopped || !pending || scheduled) {
+            return;
+        }
+        scheduled = true;
+        try {
+            executor.execute(this);
+        } catch (RejectedExecutionException e) {
+            // the runtime is shutting down
+            scheduled = false;
+        }
+    }
+
+    @Override
+    public void run() {
+        lock.lock();
+        try {
+            if (stopped) {
+                scheduled = false;
+                return;
+            }
+            pending = false;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            logger.error("[Raft node {}] {} failed", id, name, e);
+        }
+        // queue the next run behind the work of the other groups instead of looping on this thread
+        lock.lock();
+        try {
+            scheduled = false;
+            schedule();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
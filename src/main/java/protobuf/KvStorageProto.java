@@ -553,6 +553,12 @@ public final class KvStorageProto {
      */
     com.google.protobuf.ByteString
         getValueBytes();
+
+    /**
+     * <code>bool found = 3;</code>
+     * @return The found.
+     */
+    boolean getFound();
   }
   /**
    * Protobuf type {@code raftrpc.GetResponse}
@@ -640,6 +646,17 @@ public final class KvStorageProto {
       }
     }
 
+    public static final int FOUND_FIELD_NUMBER = 3;
+    private boolean found_ = false;
+    /**
+     * <code>bool found = 3;</code>
+     * @return The found.
+     */
+    @java.lang.Override
+    public boolean getFound() {
+      return found_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -660,6 +677,9 @@ public final class KvStorageProto {
       if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(value_)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, value_);
       }
+      if (found_ != false) {
+        output.writeBool(3, found_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -676,6 +696,10 @@ public final class KvStorageProto {
       if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(value_)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, value_);
       }
+      if (found_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, found_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -695,6 +719,8 @@ public final class KvStorageProto {
           != other.getOk()) return false;
       if (!getValue()
           .equals(other.getValue())) return false;
+      if (getFound()
+          != other.getFound()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -711,6 +737,9 @@ public final class KvStorageProto {
           getOk());
       hash = (37 * hash) + VALUE_FIELD_NUMBER;
       hash = (53 * hash) + getValue().hashCode();
+      hash = (37 * hash) + FOUND_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getFound());
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -842,6 +871,7 @@ public final class KvStorageProto {
         bitField0_ = 0;
         ok_ = false;
         value_ = "";
+        found_ = false;
         return this;
       }
 
@@ -881,6 +911,9 @@ public final class KvStorageProto {
         if (((from_bitField0_ & 0x00000002) != 0)) {
           result.value_ = value_;
         }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.found_ = found_;
+        }
       }
 
       @java.lang.Override
@@ -903,6 +936,9 @@ public final class KvStorageProto {
           bitField0_ |= 0x00000002;
           onChanged();
         }
+        if (other.getFound() != false) {
+          setFound(other.getFound());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -939,6 +975,11 @@ public final class KvStorageProto {
                 bitField0_ |= 0x00000002;
                 break;
               } // case 18
+              case 24: {
+                found_ = input.readBool();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -1059,6 +1100,38 @@ public final class KvStorageProto {
         onChanged();
         return this;
       }
+
+      private boolean found_ ;
+      /**
+       * <code>bool found = 3;</code>
+       * @return The found.
+       */
+      @java.lang.Override
+      public boolean getFound() {
+        return found_;
+      }
+      /**
+       * <code>bool found = 3;</code>
+       * @param value The found to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFound(boolean value) {
+
+        found_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool found = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFound() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        found_ = false;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -2262,8 +2335,9 @@ public final class KvStorageProto {
   static {
     java.lang.String[] descriptorData = {
       "\n\017kvstorage.proto\022\007raftrpc\"\031\n\nGetRequest" +
-      "\022\013\n\003key\030\001 \001(\t\"(\n\013GetResponse\022\n\n\002ok\030\001 \001(\010" +
-      "\022\r\n\005value\030\002 \001(\t\"(\n\nSetRequest\022\013\n\003key\030\001 \001" +
+      "\022\013\n\003key\030\001 \001(\t\"7\n\013GetResponse\022\n\n\002ok\030\001 \001(\010" +
+      "\022\r\n\005value\030\002 \001(\t\022\r\n\005found\030\003 \001(\010\"(\n\nSetReq" +
+      "uest\022\013\n\003key\030\001 \001" +
       "(\t\022\r\n\005value\030\002 \001(\t\"\031\n\013SetResponse\022\n\n\002ok\030\001" +
       " \001(\0102o\n\tKvStorage\0220\n\003Get\022\023.raftrpc.GetRe" +
       "quest\032\024.raftrpc.GetResponse\0220\n\003Set\022\023.raf" +
@@ -2285,7 +2359,7 @@ public final class KvStorageProto {
     internal_static_raftrpc_GetResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_raftrpc_GetResponse_descriptor,
-        new java.lang.String[] { "Ok", "Value", });
+        new java.lang.String[] { "Ok", "Value", "Found", });
     internal_static_raftrpc_SetRequest_descriptor =
       getDescriptor().getMessageTypes().get(2);
     internal_static_raftrpc_SetRequest_fieldAccessorTable = new
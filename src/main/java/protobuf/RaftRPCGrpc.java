@@ -108,6 +108,161 @@ public final class RaftRPCGrpc {
     return getInstallSnapshotMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<protobuf.RaftRPCProto.PreVoteRequest,
+      protobuf.RaftRPCProto.PreVoteResponse> getPreVoteMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "PreVote",
+      requestType = protobuf.RaftRPCProto.PreVoteRequest.class,
+      responseType = protobuf.RaftRPCProto.PreVoteResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<protobuf.RaftRPCProto.PreVoteRequest,
+      protobuf.RaftRPCProto.PreVoteResponse> getPreVoteMethod() {
+    io.grpc.MethodDescriptor<protobuf.RaftRPCProto.PreVoteRequest, protobuf.RaftRPCProto.PreVoteResponse> getPreVoteMethod;
+    if ((getPreVoteMethod = RaftRPCGrpc.getPreVoteMethod) == null) {
+      synchronized (RaftRPCGrpc.class) {
+        if ((getPreVoteMethod = RaftRPCGrpc.getPreVoteMethod) == null) {
+          RaftRPCGrpc.getPreVoteMethod = getPreVoteMethod =
+              io.grpc.MethodDescriptor.<protobuf.RaftRPCProto.PreVoteRequest, protobuf.RaftRPCProto.PreVoteResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "PreVote"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.RaftRPCProto.PreVoteRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.RaftRPCProto.PreVoteResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RaftRPCMethodDescriptorSupplier("PreVote"))
+              .build();
+        }
+      }
+    }
+    return getPreVoteMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<protobuf.RaftRPCProto.ReadIndexRequest,
+      protobuf.RaftRPCProto.ReadIndexResponse> getReadIndexMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ReadIndex",
+      requestType = protobuf.RaftRPCProto.ReadIndexRequest.class,
+      responseType = protobuf.RaftRPCProto.ReadIndexResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<protobuf.RaftRPCProto.ReadIndexRequest,
+      protobuf.RaftRPCProto.ReadIndexResponse> getReadIndexMethod() {
+    io.grpc.MethodDescriptor<protobuf.RaftRPCProto.ReadIndexRequest, protobuf.RaftRPCProto.ReadIndexResponse> getReadIndexMethod;
+    if ((getReadIndexMethod = RaftRPCGrpc.getReadIndexMethod) == null) {
+      synchronized (RaftRPCGrpc.class) {
+        if ((getReadIndexMethod = RaftRPCGrpc.getReadIndexMethod) == null) {
+          RaftRPCGrpc.getReadIndexMethod = getReadIndexMethod =
+              io.grpc.MethodDescriptor.<protobuf.RaftRPCProto.ReadIndexRequest, protobuf.RaftRPCProto.ReadIndexResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ReadIndex"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.RaftRPCProto.ReadIndexRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.RaftRPCProto.ReadIndexResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RaftRPCMethodDescriptorSupplier("ReadIndex"))
+              .build();
+        }
+      }
+    }
+    return getReadIndexMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<protobuf.RaftRPCProto.TimeoutNowRequest,
+      protobuf.RaftRPCProto.TimeoutNowResponse> getTimeoutNowMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "TimeoutNow",
+      requestType = protobuf.RaftRPCProto.TimeoutNowRequest.class,
+      responseType = protobuf.RaftRPCProto.TimeoutNowResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<protobuf.RaftRPCProto.TimeoutNowRequest,
+      protobuf.RaftRPCProto.TimeoutNowResponse> getTimeoutNowMethod() {
+    io.grpc.MethodDescriptor<protobuf.RaftRPCProto.TimeoutNowRequest, protobuf.RaftRPCProto.TimeoutNowResponse> getTimeoutNowMethod;
+    if ((getTimeoutNowMethod = RaftRPCGrpc.getTimeoutNowMethod) == null) {
+      synchronized (RaftRPCGrpc.class) {
+        if ((getTimeoutNowMethod = RaftRPCGrpc.getTimeoutNowMethod) == null) {
+          RaftRPCGrpc.getTimeoutNowMethod = getTimeoutNowMethod =
+              io.grpc.MethodDescriptor.<protobuf.RaftRPCProto.TimeoutNowRequest, protobuf.RaftRPCProto.TimeoutNowResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "TimeoutNow"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.RaftRPCProto.TimeoutNowRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.RaftRPCProto.TimeoutNowResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RaftRPCMethodDescriptorSupplier("TimeoutNow"))
+              .build();
+        }
+      }
+    }
+    return getTimeoutNowMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<protobuf.RaftRPCProto.ChangeMemberRequest,
+      protobuf.RaftRPCProto.ChangeMemberResponse> getChangeMemberMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ChangeMember",
+      requestType = protobuf.RaftRPCProto.ChangeMemberRequest.class,
+      responseType = protobuf.RaftRPCProto.ChangeMemberResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<protobuf.RaftRPCProto.ChangeMemberRequest,
+      protobuf.RaftRPCProto.ChangeMemberResponse> getChangeMemberMethod() {
+    io.grpc.MethodDescriptor<protobuf.RaftRPCProto.ChangeMemberRequest, protobuf.RaftRPCProto.ChangeMemberResponse> getChangeMemberMethod;
+    if ((getChangeMemberMethod = RaftRPCGrpc.getChangeMemberMethod) == null) {
+      synchronized (RaftRPCGrpc.class) {
+        if ((getChangeMemberMethod = RaftRPCGrpc.getChangeMemberMethod) == null) {
+          RaftRPCGrpc.getChangeMemberMethod = getChangeMemberMethod =
+              io.grpc.MethodDescriptor.<protobuf.RaftRPCProto.ChangeMemberRequest, protobuf.RaftRPCProto.ChangeMemberResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ChangeMember"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.RaftRPCProto.ChangeMemberRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.RaftRPCProto.ChangeMemberResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RaftRPCMethodDescriptorSupplier("ChangeMember"))
+              .build();
+        }
+      }
+    }
+    return getChangeMemberMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<protobuf.RaftRPCProto.HeartbeatRequest,
+      protobuf.RaftRPCProto.HeartbeatResponse> getHeartbeatMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "Heartbeat",
+      requestType = protobuf.RaftRPCProto.HeartbeatRequest.class,
+      responseType = protobuf.RaftRPCProto.HeartbeatResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<protobuf.RaftRPCProto.HeartbeatRequest,
+      protobuf.RaftRPCProto.HeartbeatResponse> getHeartbeatMethod() {
+    io.grpc.MethodDescriptor<protobuf.RaftRPCProto.HeartbeatRequest, protobuf.RaftRPCProto.HeartbeatResponse> getHeartbeatMethod;
+    if ((getHeartbeatMethod = RaftRPCGrpc.getHeartbeatMethod) == null) {
+      synchronized (RaftRPCGrpc.class) {
+        if ((getHeartbeatMethod = RaftRPCGrpc.getHeartbeatMethod) == null) {
+          RaftRPCGrpc.getHeartbeatMethod = getHeartbeatMethod =
+              io.grpc.MethodDescriptor.<protobuf.RaftRPCProto.HeartbeatRequest, protobuf.RaftRPCProto.HeartbeatResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "Heartbeat"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.RaftRPCProto.HeartbeatRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.RaftRPCProto.HeartbeatResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RaftRPCMethodDescriptorSupplier("Heartbeat"))
+              .build();
+        }
+      }
+    }
+    return getHeartbeatMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -176,6 +331,41 @@ public final class RaftRPCGrpc {
         io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.InstallSnapshotResponse> responseObserver) {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getInstallSnapshotMethod(), responseObserver);
     }
+
+    /**
+     */
+    default void preVote(protobuf.RaftRPCProto.PreVoteRequest request,
+        io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.PreVoteResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getPreVoteMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void readIndex(protobuf.RaftRPCProto.ReadIndexRequest request,
+        io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.ReadIndexResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getReadIndexMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void timeoutNow(protobuf.RaftRPCProto.TimeoutNowRequest request,
+        io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.TimeoutNowResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getTimeoutNowMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void changeMember(protobuf.RaftRPCProto.ChangeMemberRequest request,
+        io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.ChangeMemberResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getChangeMemberMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void heartbeat(protobuf.RaftRPCProto.HeartbeatRequest request,
+        io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.HeartbeatResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getHeartbeatMethod(), responseObserver);
+    }
   }
 
   /**
@@ -228,6 +418,46 @@ public final class RaftRPCGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getInstallSnapshotMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     */
+    public void preVote(protobuf.RaftRPCProto.PreVoteRequest request,
+        io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.PreVoteResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getPreVoteMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void readIndex(protobuf.RaftRPCProto.ReadIndexRequest request,
+        io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.ReadIndexResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getReadIndexMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void timeoutNow(protobuf.RaftRPCProto.TimeoutNowRequest request,
+        io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.TimeoutNowResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getTimeoutNowMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void changeMember(protobuf.RaftRPCProto.ChangeMemberRequest request,
+        io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.ChangeMemberResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getChangeMemberMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void heartbeat(protobuf.RaftRPCProto.HeartbeatRequest request,
+        io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.HeartbeatResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getHeartbeatMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -266,6 +496,41 @@ public final class RaftRPCGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getInstallSnapshotMethod(), getCallOptions(), request);
     }
+
+    /**
+     */
+    public protobuf.RaftRPCProto.PreVoteResponse preVote(protobuf.RaftRPCProto.PreVoteRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getPreVoteMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public protobuf.RaftRPCProto.ReadIndexResponse readIndex(protobuf.RaftRPCProto.ReadIndexRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getReadIndexMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public protobuf.RaftRPCProto.TimeoutNowResponse timeoutNow(protobuf.RaftRPCProto.TimeoutNowRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getTimeoutNowMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public protobuf.RaftRPCProto.ChangeMemberResponse changeMember(protobuf.RaftRPCProto.ChangeMemberRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getChangeMemberMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public protobuf.RaftRPCProto.HeartbeatResponse heartbeat(protobuf.RaftRPCProto.HeartbeatRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getHeartbeatMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -307,11 +572,56 @@ public final class RaftRPCGrpc {
       return io.grpc.stub.ClientCalls.futureUnaryCall(
           getChannel().newCall(getInstallSnapshotMethod(), getCallOptions()), request);
     }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<protobuf.RaftRPCProto.PreVoteResponse> preVote(
+        protobuf.RaftRPCProto.PreVoteRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getPreVoteMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<protobuf.RaftRPCProto.ReadIndexResponse> readIndex(
+        protobuf.RaftRPCProto.ReadIndexRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getReadIndexMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<protobuf.RaftRPCProto.TimeoutNowResponse> timeoutNow(
+        protobuf.RaftRPCProto.TimeoutNowRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getTimeoutNowMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<protobuf.RaftRPCProto.ChangeMemberResponse> changeMember(
+        protobuf.RaftRPCProto.ChangeMemberRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getChangeMemberMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<protobuf.RaftRPCProto.HeartbeatResponse> heartbeat(
+        protobuf.RaftRPCProto.HeartbeatRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getHeartbeatMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_REQUEST_VOTE = 0;
   private static final int METHODID_APPEND_ENTRIES = 1;
   private static final int METHODID_INSTALL_SNAPSHOT = 2;
+  private static final int METHODID_PRE_VOTE = 3;
+  private static final int METHODID_READ_INDEX = 4;
+  private static final int METHODID_TIMEOUT_NOW = 5;
+  private static final int METHODID_CHANGE_MEMBER = 6;
+  private static final int METHODID_HEARTBEAT = 7;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -342,6 +652,26 @@ public final class RaftRPCGrpc {
           serviceImpl.installSnapshot((protobuf.RaftRPCProto.InstallSnapshotRequest) request,
               (io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.InstallSnapshotResponse>) responseObserver);
           break;
+        case METHODID_PRE_VOTE:
+          serviceImpl.preVote((protobuf.RaftRPCProto.PreVoteRequest) request,
+              (io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.PreVoteResponse>) responseObserver);
+          break;
+        case METHODID_READ_INDEX:
+          serviceImpl.readIndex((protobuf.RaftRPCProto.ReadIndexRequest) request,
+              (io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.ReadIndexResponse>) responseObserver);
+          break;
+        case METHODID_TIMEOUT_NOW:
+          serviceImpl.timeoutNow((protobuf.RaftRPCProto.TimeoutNowRequest) request,
+              (io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.TimeoutNowResponse>) responseObserver);
+          break;
+        case METHODID_CHANGE_MEMBER:
+          serviceImpl.changeMember((protobuf.RaftRPCProto.ChangeMemberRequest) request,
+              (io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.ChangeMemberResponse>) responseObserver);
+          break;
+        case METHODID_HEARTBEAT:
+          serviceImpl.heartbeat((protobuf.RaftRPCProto.HeartbeatRequest) request,
+              (io.grpc.stub.StreamObserver<protobuf.RaftRPCProto.HeartbeatResponse>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -381,6 +711,41 @@ public final class RaftRPCGrpc {
               protobuf.RaftRPCProto.InstallSnapshotRequest,
               protobuf.RaftRPCProto.InstallSnapshotResponse>(
                 service, METHODID_INSTALL_SNAPSHOT)))
+        .addMethod(
+          getPreVoteMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              protobuf.RaftRPCProto.PreVoteRequest,
+              protobuf.RaftRPCProto.PreVoteResponse>(
+                service, METHODID_PRE_VOTE)))
+        .addMethod(
+          getReadIndexMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              protobuf.RaftRPCProto.ReadIndexRequest,
+              protobuf.RaftRPCProto.ReadIndexResponse>(
+                service, METHODID_READ_INDEX)))
+        .addMethod(
+          getTimeoutNowMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              protobuf.RaftRPCProto.TimeoutNowRequest,
+              protobuf.RaftRPCProto.TimeoutNowResponse>(
+                service, METHODID_TIMEOUT_NOW)))
+        .addMethod(
+          getChangeMemberMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              protobuf.RaftRPCProto.ChangeMemberRequest,
+              protobuf.RaftRPCProto.ChangeMemberResponse>(
+                service, METHODID_CHANGE_MEMBER)))
+        .addMethod(
+          getHeartbeatMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              protobuf.RaftRPCProto.HeartbeatRequest,
+              protobuf.RaftRPCProto.HeartbeatResponse>(
+                service, METHODID_HEARTBEAT)))
         .build();
   }
 
@@ -432,6 +797,11 @@ public final class RaftRPCGrpc {
               .addMethod(getRequestVoteMethod())
               .addMethod(getAppendEntriesMethod())
               .addMethod(getInstallSnapshotMethod())
+              .addMethod(getPreVoteMethod())
+              .addMethod(getReadIndexMethod())
+              .addMethod(getTimeoutNowMethod())
+              .addMethod(getChangeMemberMethod())
+              .addMethod(getHeartbeatMethod())
               .build();
         }
       }
@@ -43,6 +43,18 @@ public final class RaftRPCProto {
      * @return The lastLogTerm.
      */
     int getLastLogTerm();
+
+    /**
+     * <code>bool leadershipTransfer = 5;</code>
+     * @return The leadershipTransfer.
+     */
+    boolean getLeadershipTransfer();
+
+    /**
+     * <code>int32 groupId = 6;</code>
+     * @return The groupId.
+     */
+    int getGroupId();
   }
   /**
    * Protobuf type {@code raftrpc.RequestVoteRequest}
@@ -123,6 +135,28 @@ public final class RaftRPCProto {
       return lastLogTerm_;
     }
 
+    public static final int LEADERSHIPTRANSFER_FIELD_NUMBER = 5;
+    private boolean leadershipTransfer_ = false;
+    /**
+     * <code>bool leadershipTransfer = 5;</code>
+     * @return The leadershipTransfer.
+     */
+    @java.lang.Override
+    public boolean getLeadershipTransfer() {
+      return leadershipTransfer_;
+    }
+
+    public static final int GROUPID_FIELD_NUMBER = 6;
+    private int groupId_ = 0;
+    /**
+     * <code>int32 groupId = 6;</code>
+     * @return The groupId.
+     */
+    @java.lang.Override
+    public int getGroupId() {
+      return groupId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -149,6 +183,12 @@ public final class RaftRPCProto {
       if (lastLogTerm_ != 0) {
         output.writeInt32(4, lastLogTerm_);
       }
+      if (leadershipTransfer_ != false) {
+        output.writeBool(5, leadershipTransfer_);
+      }
+      if (groupId_ != 0) {
+        output.writeInt32(6, groupId_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -174,6 +214,14 @@ public final class RaftRPCProto {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(4, lastLogTerm_);
       }
+      if (leadershipTransfer_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, leadershipTransfer_);
+      }
+      if (groupId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, groupId_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -197,6 +245,10 @@ public final class RaftRPCProto {
           != other.getLastLogIndex()) return false;
       if (getLastLogTerm()
           != other.getLastLogTerm()) return false;
+      if (getLeadershipTransfer()
+          != other.getLeadershipTransfer()) return false;
+      if (getGroupId()
+          != other.getGroupId()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -216,6 +268,11 @@ public final class RaftRPCProto {
       hash = (53 * hash) + getLastLogIndex();
       hash = (37 * hash) + LASTLOGTERM_FIELD_NUMBER;
       hash = (53 * hash) + getLastLogTerm();
+      hash = (37 * hash) + LEADERSHIPTRANSFER_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getLeadershipTransfer());
+      hash = (37 * hash) + GROUPID_FIELD_NUMBER;
+      hash = (53 * hash) + getGroupId();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -349,6 +406,8 @@ public final class RaftRPCProto {
         candidateId_ = 0;
         lastLogIndex_ = 0;
         lastLogTerm_ = 0;
+        leadershipTransfer_ = false;
+        groupId_ = 0;
         return this;
       }
 
@@ -394,6 +453,12 @@ public final class RaftRPCProto {
         if (((from_bitField0_ & 0x00000008) != 0)) {
           result.lastLogTerm_ = lastLogTerm_;
         }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.leadershipTransfer_ = leadershipTransfer_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.groupId_ = groupId_;
+        }
       }
 
       @java.lang.Override
@@ -420,6 +485,12 @@ public final class RaftRPCProto {
         if (other.getLastLogTerm() != 0) {
           setLastLogTerm(other.getLastLogTerm());
         }
+        if (other.getLeadershipTransfer() != false) {
+          setLeadershipTransfer(other.getLeadershipTransfer());
+        }
+        if (other.getGroupId() != 0) {
+          setGroupId(other.getGroupId());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -466,6 +537,16 @@ public final class RaftRPCProto {
                 bitField0_ |= 0x00000008;
                 break;
               } // case 32
+              case 40: {
+                leadershipTransfer_ = input.readBool();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                groupId_ = input.readInt32();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -610,6 +691,70 @@ public final class RaftRPCProto {
         onChanged();
         return this;
       }
+
+      private boolean leadershipTransfer_ ;
+      /**
+       * <code>bool leadershipTransfer = 5;</code>
+       * @return The leadershipTransfer.
+       */
+      @java.lang.Override
+      public boolean getLeadershipTransfer() {
+        return leadershipTransfer_;
+      }
+      /**
+       * <code>bool leadershipTransfer = 5;</code>
+       * @param value The leadershipTransfer to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLeadershipTransfer(boolean value) {
+
+        leadershipTransfer_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool leadershipTransfer = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLeadershipTransfer() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        leadershipTransfer_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int groupId_ ;
+      /**
+       * <code>int32 groupId = 6;</code>
+       * @return The groupId.
+       */
+      @java.lang.Override
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>int32 groupId = 6;</code>
+       * @param value The groupId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroupId(int value) {
+
+        groupId_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 groupId = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -1246,6 +1391,12 @@ public final class RaftRPCProto {
      * @return The leaderCommit.
      */
     int getLeaderCommit();
+
+    /**
+     * <code>int32 groupId = 7;</code>
+     * @return The groupId.
+     */
+    int getGroupId();
   }
   /**
    * Protobuf type {@code raftrpc.AppendEntriesRequest}
@@ -1379,6 +1530,17 @@ public final class RaftRPCProto {
       return leaderCommit_;
     }
 
+    public static final int GROUPID_FIELD_NUMBER = 7;
+    private int groupId_ = 0;
+    /**
+     * <code>int32 groupId = 7;</code>
+     * @return The groupId.
+     */
+    @java.lang.Override
+    public int getGroupId() {
+      return groupId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -1411,6 +1573,9 @@ public final class RaftRPCProto {
       if (leaderCommit_ != 0) {
         output.writeInt32(6, leaderCommit_);
       }
+      if (groupId_ != 0) {
+        output.writeInt32(7, groupId_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1444,6 +1609,10 @@ public final class RaftRPCProto {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(6, leaderCommit_);
       }
+      if (groupId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, groupId_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -1471,6 +1640,8 @@ public final class RaftRPCProto {
           .equals(other.getEntriesList())) return false;
       if (getLeaderCommit()
           != other.getLeaderCommit()) return false;
+      if (getGroupId()
+          != other.getGroupId()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -1496,6 +1667,8 @@ public final class RaftRPCProto {
       }
       hash = (37 * hash) + LEADERCOMMIT_FIELD_NUMBER;
       hash = (53 * hash) + getLeaderCommit();
+      hash = (37 * hash) + GROUPID_FIELD_NUMBER;
+      hash = (53 * hash) + getGroupId();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -1637,6 +1810,7 @@ public final class RaftRPCProto {
         }
         bitField0_ = (bitField0_ & ~0x00000010);
         leaderCommit_ = 0;
+        groupId_ = 0;
         return this;
       }
 
@@ -1698,6 +1872,9 @@ public final class RaftRPCProto {
         if (((from_bitField0_ & 0x00000020) != 0)) {
           result.leaderCommit_ = leaderCommit_;
         }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.groupId_ = groupId_;
+        }
       }
 
       @java.lang.Override
@@ -1753,6 +1930,9 @@ public final class RaftRPCProto {
         if (other.getLeaderCommit() != 0) {
           setLeaderCommit(other.getLeaderCommit());
         }
+        if (other.getGroupId() != 0) {
+          setGroupId(other.getGroupId());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -1817,6 +1997,11 @@ public final class RaftRPCProto {
                 bitField0_ |= 0x00000020;
                 break;
               } // case 48
+              case 56: {
+                groupId_ = input.readInt32();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -2233,6 +2418,38 @@ public final class RaftRPCProto {
         onChanged();
         return this;
       }
+
+      private int groupId_ ;
+      /**
+       * <code>int32 groupId = 7;</code>
+       * @return The groupId.
+       */
+      @java.lang.Override
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>int32 groupId = 7;</code>
+       * @param value The groupId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroupId(int value) {
+
+        groupId_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 groupId = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -2312,6 +2529,18 @@ public final class RaftRPCProto {
      * @return The success.
      */
     boolean getSuccess();
+
+    /**
+     * <code>int32 conflictIndex = 3;</code>
+     * @return The conflictIndex.
+     */
+    int getConflictIndex();
+
+    /**
+     * <code>int32 conflictTerm = 4;</code>
+     * @return The conflictTerm.
+     */
+    int getConflictTerm();
   }
   /**
    * Protobuf type {@code raftrpc.AppendEntriesResponse}
@@ -2370,6 +2599,28 @@ public final class RaftRPCProto {
       return success_;
     }
 
+    public static final int CONFLICTINDEX_FIELD_NUMBER = 3;
+    private int conflictIndex_ = 0;
+    /**
+     * <code>int32 conflictIndex = 3;</code>
+     * @return The conflictIndex.
+     */
+    @java.lang.Override
+    public int getConflictIndex() {
+      return conflictIndex_;
+    }
+
+    public static final int CONFLICTTERM_FIELD_NUMBER = 4;
+    private int conflictTerm_ = 0;
+    /**
+     * <code>int32 conflictTerm = 4;</code>
+     * @return The conflictTerm.
+     */
+    @java.lang.Override
+    public int getConflictTerm() {
+      return conflictTerm_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -2390,6 +2641,12 @@ public final class RaftRPCProto {
       if (success_ != false) {
         output.writeBool(2, success_);
       }
+      if (conflictIndex_ != 0) {
+        output.writeInt32(3, conflictIndex_);
+      }
+      if (conflictTerm_ != 0) {
+        output.writeInt32(4, conflictTerm_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2407,6 +2664,14 @@ public final class RaftRPCProto {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(2, success_);
       }
+      if (conflictIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, conflictIndex_);
+      }
+      if (conflictTerm_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, conflictTerm_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2426,6 +2691,10 @@ public final class RaftRPCProto {
           != other.getTerm()) return false;
       if (getSuccess()
           != other.getSuccess()) return false;
+      if (getConflictIndex()
+          != other.getConflictIndex()) return false;
+      if (getConflictTerm()
+          != other.getConflictTerm()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -2442,6 +2711,10 @@ public final class RaftRPCProto {
       hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
           getSuccess());
+      hash = (37 * hash) + CONFLICTINDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getConflictIndex();
+      hash = (37 * hash) + CONFLICTTERM_FIELD_NUMBER;
+      hash = (53 * hash) + getConflictTerm();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -2573,6 +2846,8 @@ public final class RaftRPCProto {
         bitField0_ = 0;
         term_ = 0;
         success_ = false;
+        conflictIndex_ = 0;
+        conflictTerm_ = 0;
         return this;
       }
 
@@ -2612,6 +2887,12 @@ public final class RaftRPCProto {
         if (((from_bitField0_ & 0x00000002) != 0)) {
           result.success_ = success_;
         }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.conflictIndex_ = conflictIndex_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.conflictTerm_ = conflictTerm_;
+        }
       }
 
       @java.lang.Override
@@ -2632,6 +2913,12 @@ public final class RaftRPCProto {
         if (other.getSuccess() != false) {
           setSuccess(other.getSuccess());
         }
+        if (other.getConflictIndex() != 0) {
+          setConflictIndex(other.getConflictIndex());
+        }
+        if (other.getConflictTerm() != 0) {
+          setConflictTerm(other.getConflictTerm());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -2668,6 +2955,16 @@ public final class RaftRPCProto {
                 bitField0_ |= 0x00000002;
                 break;
               } // case 16
+              case 24: {
+                conflictIndex_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                conflictTerm_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -2748,6 +3045,70 @@ public final class RaftRPCProto {
         onChanged();
         return this;
       }
+
+      private int conflictIndex_ ;
+      /**
+       * <code>int32 conflictIndex = 3;</code>
+       * @return The conflictIndex.
+       */
+      @java.lang.Override
+      public int getConflictIndex() {
+        return conflictIndex_;
+      }
+      /**
+       * <code>int32 conflictIndex = 3;</code>
+       * @param value The conflictIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setConflictIndex(int value) {
+
+        conflictIndex_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 conflictIndex = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearConflictIndex() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        conflictIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int conflictTerm_ ;
+      /**
+       * <code>int32 conflictTerm = 4;</code>
+       * @return The conflictTerm.
+       */
+      @java.lang.Override
+      public int getConflictTerm() {
+        return conflictTerm_;
+      }
+      /**
+       * <code>int32 conflictTerm = 4;</code>
+       * @param value The conflictTerm to set.
+       * @return This builder for chaining.
+       */
+      public Builder setConflictTerm(int value) {
+
+        conflictTerm_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 conflictTerm = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearConflictTerm() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        conflictTerm_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -2833,6 +3194,30 @@ public final class RaftRPCProto {
      */
     com.google.protobuf.ByteString
         getCommandBytes();
+
+    /**
+     * <code>repeated .raftrpc.Member configuration = 3;</code>
+     */
+    java.util.List<protobuf.RaftRPCProto.Member> 
+        getConfigurationList();
+    /**
+     * <code>repeated .raftrpc.Member configuration = 3;</code>
+     */
+    protobuf.RaftRPCProto.Member getConfiguration(int index);
+    /**
+     * <code>repeated .raftrpc.Member configuration = 3;</code>
+     */
+    int getConfigurationCount();
+    /**
+     * <code>repeated .raftrpc.Member configuration = 3;</code>
+     */
+    java.util.List<? extends protobuf.RaftRPCProto.MemberOrBuilder> 
+        getConfigurationOrBuilderList();
+    /**
+     * <code>repeated .raftrpc.Member configuration = 3;</code>
+     */
+    protobuf.RaftRPCProto.MemberOrBuilder getConfigurationOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code raftrpc.LogEntry}
@@ -2848,6 +3233,7 @@ public final class RaftRPCProto {
     }
     private LogEntry() {
       command_ = "";
+      configuration_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -2920,6 +3306,47 @@ public final class RaftRPCProto {
       }
     }
 
+    public static final int CONFIGURATION_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<protobuf.RaftRPCProto.Member> configuration_;
+    /**
+     * <code>repeated .raftrpc.Member configuration = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<protobuf.RaftRPCProto.Member> getConfigurationList() {
+      return configuration_;
+    }
+    /**
+     * <code>repeated .raftrpc.Member configuration = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends protobuf.RaftRPCProto.MemberOrBuilder> 
+        getConfigurationOrBuilderList() {
+      return configuration_;
+    }
+    /**
+     * <code>repeated .raftrpc.Member configuration = 3;</code>
+     */
+    @java.lang.Override
+    public int getConfigurationCount() {
+      return configuration_.size();
+    }
+    /**
+     * <code>repeated .raftrpc.Member configuration = 3;</code>
+     */
+    @java.lang.Override
+    public protobuf.RaftRPCProto.Member getConfiguration(int index) {
+      return configuration_.get(index);
+    }
+    /**
+     * <code>repeated .raftrpc.Member configuration = 3;</code>
+     */
+    @java.lang.Override
+    public protobuf.RaftRPCProto.MemberOrBuilder getConfigurationOrBuilder(
+        int index) {
+      return configuration_.get(index);
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -2940,6 +3367,9 @@ public final class RaftRPCProto {
       if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(command_)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, command_);
       }
+      for (int i = 0; i < configuration_.size(); i++) {
+        output.writeMessage(3, configuration_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2956,6 +3386,10 @@ public final class RaftRPCProto {
       if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(command_)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, command_);
       }
+      for (int i = 0; i < configuration_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, configuration_.get(i));
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2975,6 +3409,8 @@ public final class RaftRPCProto {
           != other.getTerm()) return false;
       if (!getCommand()
           .equals(other.getCommand())) return false;
+      if (!getConfigurationList()
+          .equals(other.getConfigurationList())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -2990,6 +3426,10 @@ public final class RaftRPCProto {
       hash = (53 * hash) + getTerm();
       hash = (37 * hash) + COMMAND_FIELD_NUMBER;
       hash = (53 * hash) + getCommand().hashCode();
+      if (getConfigurationCount() > 0) {
+        hash = (37 * hash) + CONFIGURATION_FIELD_NUMBER;
+        hash = (53 * hash) + getConfigurationList().hashCode();
+      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -3121,6 +3561,13 @@ public final class RaftRPCProto {
         bitField0_ = 0;
         term_ = 0;
         command_ = "";
+        if (configurationBuilder_ == null) {
+          configuration_ = java.util.Collections.emptyList();
+        } else {
+          configuration_ = null;
+          configurationBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -3147,11 +3594,24 @@ public final class RaftRPCProto {
       @java.lang.Override
       public protobuf.RaftRPCProto.LogEntry buildPartial() {
         protobuf.RaftRPCProto.LogEntry result = new protobuf.RaftRPCProto.LogEntry(this);
+        buildPartialRepeatedFields(result);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
+      private void buildPartialRepeatedFields(protobuf.RaftRPCProto.LogEntry result) {
+        if (configurationBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            configuration_ = java.util.Collections.unmodifiableList(configuration_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.configuration_ = configuration_;
+        } else {
+          result.configuration_ = configurationBuilder_.build();
+        }
+      }
+
       private void buildPartial0(protobuf.RaftRPCProto.LogEntry result) {
         int from_bitField0_ = bitField0_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -3182,6 +3642,32 @@ public final class RaftRPCProto {
           bitField0_ |= 0x00000002;
           onChanged();
         }
+        if (configurationBuilder_ == null) {
+          if (!other.configuration_.isEmpty()) {
+            if (configuration_.isEmpty()) {
+              configuration_ = other.configuration_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureConfigurationIsMutable();
+              configuration_.addAll(other.configuration_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.configuration_.isEmpty()) {
+            if (configurationBuilder_.isEmpty()) {
+              configurationBuilder_.dispose();
+              configurationBuilder_ = null;
+              configuration_ = other.configuration_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              configurationBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getConfigurationFieldBuilder() : null;
+            } else {
+              configurationBuilder_.addAllMessages(other.configuration_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -3218,6 +3704,19 @@ public final class RaftRPCProto {
                 bitField0_ |= 0x00000002;
                 break;
               } // case 18
+              case 26: {
+                protobuf.RaftRPCProto.Member m =
+                    input.readMessage(
+                        protobuf.RaftRPCProto.Member.parser(),
+                        extensionRegistry);
+                if (configurationBuilder_ == null) {
+                  ensureConfigurationIsMutable();
+                  configuration_.add(m);
+                } else {
+                  configurationBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -3338,8 +3837,248 @@ public final class RaftRPCProto {
         onChanged();
         return this;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
+
+      private java.util.List<protobuf.RaftRPCProto.Member> configuration_ =
+        java.util.Collections.emptyList();
+      private void ensureConfigurationIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          configuration_ = new java.util.ArrayList<protobuf.RaftRPCProto.Member>(configuration_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.RaftRPCProto.Member, protobuf.RaftRPCProto.Member.Builder, protobuf.RaftRPCProto.MemberOrBuilder> configurationBuilder_;
+
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public java.util.List<protobuf.RaftRPCProto.Member> getConfigurationList() {
+        if (configurationBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(configuration_);
+        } else {
+          return configurationBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public int getConfigurationCount() {
+        if (configurationBuilder_ == null) {
+          return configuration_.size();
+        } else {
+          return configurationBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public protobuf.RaftRPCProto.Member getConfiguration(int index) {
+        if (configurationBuilder_ == null) {
+          return configuration_.get(index);
+        } else {
+          return configurationBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public Builder setConfiguration(
+          int index, protobuf.RaftRPCProto.Member value) {
+        if (configurationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConfigurationIsMutable();
+          configuration_.set(index, value);
+          onChanged();
+        } else {
+          configurationBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public Builder setConfiguration(
+          int index, protobuf.RaftRPCProto.Member.Builder builderForValue) {
+        if (configurationBuilder_ == null) {
+          ensureConfigurationIsMutable();
+          configuration_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          configurationBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public Builder addConfiguration(protobuf.RaftRPCProto.Member value) {
+        if (configurationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConfigurationIsMutable();
+          configuration_.add(value);
+          onChanged();
+        } else {
+          configurationBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public Builder addConfiguration(
+          int index, protobuf.RaftRPCProto.Member value) {
+        if (configurationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConfigurationIsMutable();
+          configuration_.add(index, value);
+          onChanged();
+        } else {
+          configurationBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public Builder addConfiguration(
+          protobuf.RaftRPCProto.Member.Builder builderForValue) {
+        if (configurationBuilder_ == null) {
+          ensureConfigurationIsMutable();
+          configuration_.add(builderForValue.build());
+          onChanged();
+        } else {
+          configurationBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public Builder addConfiguration(
+          int index, protobuf.RaftRPCProto.Member.Builder builderForValue) {
+        if (configurationBuilder_ == null) {
+          ensureConfigurationIsMutable();
+          configuration_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          configurationBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public Builder addAllConfiguration(
+          java.lang.Iterable<? extends protobuf.RaftRPCProto.Member> values) {
+        if (configurationBuilder_ == null) {
+          ensureConfigurationIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, configuration_);
+          onChanged();
+        } else {
+          configurationBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public Builder clearConfiguration() {
+        if (configurationBuilder_ == null) {
+          configuration_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          configurationBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public Builder removeConfiguration(int index) {
+        if (configurationBuilder_ == null) {
+          ensureConfigurationIsMutable();
+          configuration_.remove(index);
+          onChanged();
+        } else {
+          configurationBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public protobuf.RaftRPCProto.Member.Builder getConfigurationBuilder(
+          int index) {
+        return getConfigurationFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public protobuf.RaftRPCProto.MemberOrBuilder getConfigurationOrBuilder(
+          int index) {
+        if (configurationBuilder_ == null) {
+          return configuration_.get(index);  } else {
+          return configurationBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public java.util.List<? extends protobuf.RaftRPCProto.MemberOrBuilder> 
+           getConfigurationOrBuilderList() {
+        if (configurationBuilder_ != null) {
+          return configurationBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(configuration_);
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public protobuf.RaftRPCProto.Member.Builder addConfigurationBuilder() {
+        return getConfigurationFieldBuilder().addBuilder(
+            protobuf.RaftRPCProto.Member.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public protobuf.RaftRPCProto.Member.Builder addConfigurationBuilder(
+          int index) {
+        return getConfigurationFieldBuilder().addBuilder(
+            index, protobuf.RaftRPCProto.Member.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 3;</code>
+       */
+      public java.util.List<protobuf.RaftRPCProto.Member.Builder> 
+           getConfigurationBuilderList() {
+        return getConfigurationFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.RaftRPCProto.Member, protobuf.RaftRPCProto.Member.Builder, protobuf.RaftRPCProto.MemberOrBuilder> 
+          getConfigurationFieldBuilder() {
+        if (configurationBuilder_ == null) {
+          configurationBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              protobuf.RaftRPCProto.Member, protobuf.RaftRPCProto.Member.Builder, protobuf.RaftRPCProto.MemberOrBuilder>(
+                  configuration_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          configuration_ = null;
+        }
+        return configurationBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFields(unknownFields);
       }
@@ -3402,163 +4141,163 @@ public final class RaftRPCProto {
 
   }
 
-  public interface InstallSnapshotRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:raftrpc.InstallSnapshotRequest)
+  public interface MemberOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.Member)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int32 term = 1;</code>
-     * @return The term.
-     */
-    int getTerm();
-
-    /**
-     * <code>int32 leaderId = 2;</code>
-     * @return The leaderId.
+     * <code>int32 id = 1;</code>
+     * @return The id.
      */
-    int getLeaderId();
+    int getId();
 
     /**
-     * <code>int32 lastIncludedIndex = 3;</code>
-     * @return The lastIncludedIndex.
+     * <code>string address = 2;</code>
+     * @return The address.
      */
-    int getLastIncludedIndex();
-
+    java.lang.String getAddress();
     /**
-     * <code>int32 lastIncludedTerm = 4;</code>
-     * @return The lastIncludedTerm.
+     * <code>string address = 2;</code>
+     * @return The bytes for address.
      */
-    int getLastIncludedTerm();
+    com.google.protobuf.ByteString
+        getAddressBytes();
 
     /**
-     * <code>int32 offset = 5;</code>
-     * @return The offset.
+     * <code>int32 rpcPort = 3;</code>
+     * @return The rpcPort.
      */
-    int getOffset();
+    int getRpcPort();
 
     /**
-     * <code>bytes data = 6;</code>
-     * @return The data.
+     * <code>int32 kvPort = 4;</code>
+     * @return The kvPort.
      */
-    com.google.protobuf.ByteString getData();
+    int getKvPort();
 
     /**
-     * <code>bool done = 7;</code>
-     * @return The done.
+     * <code>bool learner = 5;</code>
+     * @return The learner.
      */
-    boolean getDone();
+    boolean getLearner();
   }
   /**
-   * Protobuf type {@code raftrpc.InstallSnapshotRequest}
+   * Protobuf type {@code raftrpc.Member}
    */
-  public static final class InstallSnapshotRequest extends
+  public static final class Member extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:raftrpc.InstallSnapshotRequest)
-      InstallSnapshotRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:raftrpc.Member)
+      MemberOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use InstallSnapshotRequest.newBuilder() to construct.
-    private InstallSnapshotRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use Member.newBuilder() to construct.
+    private Member(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private InstallSnapshotRequest() {
-      data_ = com.google.protobuf.ByteString.EMPTY;
+    private Member() {
+      address_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new InstallSnapshotRequest();
+      return new Member();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotRequest_descriptor;
+      return protobuf.RaftRPCProto.internal_static_raftrpc_Member_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotRequest_fieldAccessorTable
+      return protobuf.RaftRPCProto.internal_static_raftrpc_Member_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              protobuf.RaftRPCProto.InstallSnapshotRequest.class, protobuf.RaftRPCProto.InstallSnapshotRequest.Builder.class);
-    }
-
-    public static final int TERM_FIELD_NUMBER = 1;
-    private int term_ = 0;
-    /**
-     * <code>int32 term = 1;</code>
-     * @return The term.
-     */
-    @java.lang.Override
-    public int getTerm() {
-      return term_;
+              protobuf.RaftRPCProto.Member.class, protobuf.RaftRPCProto.Member.Builder.class);
     }
 
-    public static final int LEADERID_FIELD_NUMBER = 2;
-    private int leaderId_ = 0;
+    public static final int ID_FIELD_NUMBER = 1;
+    private int id_ = 0;
     /**
-     * <code>int32 leaderId = 2;</code>
-     * @return The leaderId.
+     * <code>int32 id = 1;</code>
+     * @return The id.
      */
     @java.lang.Override
-    public int getLeaderId() {
-      return leaderId_;
+    public int getId() {
+      return id_;
     }
 
-    public static final int LASTINCLUDEDINDEX_FIELD_NUMBER = 3;
-    private int lastIncludedIndex_ = 0;
+    public static final int ADDRESS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object address_ = "";
     /**
-     * <code>int32 lastIncludedIndex = 3;</code>
-     * @return The lastIncludedIndex.
+     * <code>string address = 2;</code>
+     * @return The address.
      */
     @java.lang.Override
-    public int getLastIncludedIndex() {
-      return lastIncludedIndex_;
+    public java.lang.String getAddress() {
+      java.lang.Object ref = address_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        address_ = s;
+        return s;
+      }
     }
-
-    public static final int LASTINCLUDEDTERM_FIELD_NUMBER = 4;
-    private int lastIncludedTerm_ = 0;
     /**
-     * <code>int32 lastIncludedTerm = 4;</code>
-     * @return The lastIncludedTerm.
+     * <code>string address = 2;</code>
+     * @return The bytes for address.
      */
     @java.lang.Override
-    public int getLastIncludedTerm() {
-      return lastIncludedTerm_;
+    public com.google.protobuf.ByteString
+        getAddressBytes() {
+      java.lang.Object ref = address_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        address_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
-    public static final int OFFSET_FIELD_NUMBER = 5;
-    private int offset_ = 0;
+    public static final int RPCPORT_FIELD_NUMBER = 3;
+    private int rpcPort_ = 0;
     /**
-     * <code>int32 offset = 5;</code>
-     * @return The offset.
+     * <code>int32 rpcPort = 3;</code>
+     * @return The rpcPort.
      */
     @java.lang.Override
-    public int getOffset() {
-      return offset_;
+    public int getRpcPort() {
+      return rpcPort_;
     }
 
-    public static final int DATA_FIELD_NUMBER = 6;
-    private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+    public static final int KVPORT_FIELD_NUMBER = 4;
+    private int kvPort_ = 0;
     /**
-     * <code>bytes data = 6;</code>
-     * @return The data.
+     * <code>int32 kvPort = 4;</code>
+     * @return The kvPort.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getData() {
-      return data_;
+    public int getKvPort() {
+      return kvPort_;
     }
 
-    public static final int DONE_FIELD_NUMBER = 7;
-    private boolean done_ = false;
+    public static final int LEARNER_FIELD_NUMBER = 5;
+    private boolean learner_ = false;
     /**
-     * <code>bool done = 7;</code>
-     * @return The done.
+     * <code>bool learner = 5;</code>
+     * @return The learner.
      */
     @java.lang.Override
-    public boolean getDone() {
-      return done_;
+    public boolean getLearner() {
+      return learner_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3575,26 +4314,20 @@ public final class RaftRPCProto {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (term_ != 0) {
-        output.writeInt32(1, term_);
-      }
-      if (leaderId_ != 0) {
-        output.writeInt32(2, leaderId_);
-      }
-      if (lastIncludedIndex_ != 0) {
-        output.writeInt32(3, lastIncludedIndex_);
+      if (id_ != 0) {
+        output.writeInt32(1, id_);
       }
-      if (lastIncludedTerm_ != 0) {
-        output.writeInt32(4, lastIncludedTerm_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(address_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, address_);
       }
-      if (offset_ != 0) {
-        output.writeInt32(5, offset_);
+      if (rpcPort_ != 0) {
+        output.writeInt32(3, rpcPort_);
       }
-      if (!data_.isEmpty()) {
-        output.writeBytes(6, data_);
+      if (kvPort_ != 0) {
+        output.writeInt32(4, kvPort_);
       }
-      if (done_ != false) {
-        output.writeBool(7, done_);
+      if (learner_ != false) {
+        output.writeBool(5, learner_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -3605,33 +4338,24 @@ public final class RaftRPCProto {
       if (size != -1) return size;
 
       size = 0;
-      if (term_ != 0) {
+      if (id_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, term_);
+          .computeInt32Size(1, id_);
       }
-      if (leaderId_ != 0) {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(address_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, address_);
+      }
+      if (rpcPort_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, leaderId_);
+          .computeInt32Size(3, rpcPort_);
       }
-      if (lastIncludedIndex_ != 0) {
+      if (kvPort_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(3, lastIncludedIndex_);
+          .computeInt32Size(4, kvPort_);
       }
-      if (lastIncludedTerm_ != 0) {
+      if (learner_ != false) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(4, lastIncludedTerm_);
-      }
-      if (offset_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(5, offset_);
-      }
-      if (!data_.isEmpty()) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(6, data_);
-      }
-      if (done_ != false) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(7, done_);
+          .computeBoolSize(5, learner_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -3643,25 +4367,21 @@ public final class RaftRPCProto {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof protobuf.RaftRPCProto.InstallSnapshotRequest)) {
+      if (!(obj instanceof protobuf.RaftRPCProto.Member)) {
         return super.equals(obj);
       }
-      protobuf.RaftRPCProto.InstallSnapshotRequest other = (protobuf.RaftRPCProto.InstallSnapshotRequest) obj;
-
-      if (getTerm()
-          != other.getTerm()) return false;
-      if (getLeaderId()
-          != other.getLeaderId()) return false;
-      if (getLastIncludedIndex()
-          != other.getLastIncludedIndex()) return false;
-      if (getLastIncludedTerm()
-          != other.getLastIncludedTerm()) return false;
-      if (getOffset()
-          != other.getOffset()) return false;
-      if (!getData()
-          .equals(other.getData())) return false;
-      if (getDone()
-          != other.getDone()) return false;
+      protobuf.RaftRPCProto.Member other = (protobuf.RaftRPCProto.Member) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (!getAddress()
+          .equals(other.getAddress())) return false;
+      if (getRpcPort()
+          != other.getRpcPort()) return false;
+      if (getKvPort()
+          != other.getKvPort()) return false;
+      if (getLearner()
+          != other.getLearner()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -3673,89 +4393,85 @@ public final class RaftRPCProto {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + TERM_FIELD_NUMBER;
-      hash = (53 * hash) + getTerm();
-      hash = (37 * hash) + LEADERID_FIELD_NUMBER;
-      hash = (53 * hash) + getLeaderId();
-      hash = (37 * hash) + LASTINCLUDEDINDEX_FIELD_NUMBER;
-      hash = (53 * hash) + getLastIncludedIndex();
-      hash = (37 * hash) + LASTINCLUDEDTERM_FIELD_NUMBER;
-      hash = (53 * hash) + getLastIncludedTerm();
-      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
-      hash = (53 * hash) + getOffset();
-      hash = (37 * hash) + DATA_FIELD_NUMBER;
-      hash = (53 * hash) + getData().hashCode();
-      hash = (37 * hash) + DONE_FIELD_NUMBER;
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId();
+      hash = (37 * hash) + ADDRESS_FIELD_NUMBER;
+      hash = (53 * hash) + getAddress().hashCode();
+      hash = (37 * hash) + RPCPORT_FIELD_NUMBER;
+      hash = (53 * hash) + getRpcPort();
+      hash = (37 * hash) + KVPORT_FIELD_NUMBER;
+      hash = (53 * hash) + getKvPort();
+      hash = (37 * hash) + LEARNER_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getDone());
+          getLearner());
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+    public static protobuf.RaftRPCProto.Member parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+    public static protobuf.RaftRPCProto.Member parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+    public static protobuf.RaftRPCProto.Member parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+    public static protobuf.RaftRPCProto.Member parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(byte[] data)
+    public static protobuf.RaftRPCProto.Member parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+    public static protobuf.RaftRPCProto.Member parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(java.io.InputStream input)
+    public static protobuf.RaftRPCProto.Member parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+    public static protobuf.RaftRPCProto.Member parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseDelimitedFrom(java.io.InputStream input)
+    public static protobuf.RaftRPCProto.Member parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseDelimitedFrom(
+    public static protobuf.RaftRPCProto.Member parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+    public static protobuf.RaftRPCProto.Member parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+    public static protobuf.RaftRPCProto.Member parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3768,7 +4484,7 @@ public final class RaftRPCProto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(protobuf.RaftRPCProto.InstallSnapshotRequest prototype) {
+    public static Builder newBuilder(protobuf.RaftRPCProto.Member prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3784,26 +4500,26 @@ public final class RaftRPCProto {
       return builder;
     }
     /**
-     * Protobuf type {@code raftrpc.InstallSnapshotRequest}
+     * Protobuf type {@code raftrpc.Member}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:raftrpc.InstallSnapshotRequest)
-        protobuf.RaftRPCProto.InstallSnapshotRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:raftrpc.Member)
+        protobuf.RaftRPCProto.MemberOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotRequest_descriptor;
+        return protobuf.RaftRPCProto.internal_static_raftrpc_Member_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotRequest_fieldAccessorTable
+        return protobuf.RaftRPCProto.internal_static_raftrpc_Member_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                protobuf.RaftRPCProto.InstallSnapshotRequest.class, protobuf.RaftRPCProto.InstallSnapshotRequest.Builder.class);
+                protobuf.RaftRPCProto.Member.class, protobuf.RaftRPCProto.Member.Builder.class);
       }
 
-      // Construct using protobuf.RaftRPCProto.InstallSnapshotRequest.newBuilder()
+      // Construct using protobuf.RaftRPCProto.Member.newBuilder()
       private Builder() {
 
       }
@@ -3817,30 +4533,28 @@ public final class RaftRPCProto {
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        term_ = 0;
-        leaderId_ = 0;
-        lastIncludedIndex_ = 0;
-        lastIncludedTerm_ = 0;
-        offset_ = 0;
-        data_ = com.google.protobuf.ByteString.EMPTY;
-        done_ = false;
+        id_ = 0;
+        address_ = "";
+        rpcPort_ = 0;
+        kvPort_ = 0;
+        learner_ = false;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotRequest_descriptor;
+        return protobuf.RaftRPCProto.internal_static_raftrpc_Member_descriptor;
       }
 
       @java.lang.Override
-      public protobuf.RaftRPCProto.InstallSnapshotRequest getDefaultInstanceForType() {
-        return protobuf.RaftRPCProto.InstallSnapshotRequest.getDefaultInstance();
+      public protobuf.RaftRPCProto.Member getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.Member.getDefaultInstance();
       }
 
       @java.lang.Override
-      public protobuf.RaftRPCProto.InstallSnapshotRequest build() {
-        protobuf.RaftRPCProto.InstallSnapshotRequest result = buildPartial();
+      public protobuf.RaftRPCProto.Member build() {
+        protobuf.RaftRPCProto.Member result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -3848,70 +4562,60 @@ public final class RaftRPCProto {
       }
 
       @java.lang.Override
-      public protobuf.RaftRPCProto.InstallSnapshotRequest buildPartial() {
-        protobuf.RaftRPCProto.InstallSnapshotRequest result = new protobuf.RaftRPCProto.InstallSnapshotRequest(this);
+      public protobuf.RaftRPCProto.Member buildPartial() {
+        protobuf.RaftRPCProto.Member result = new protobuf.RaftRPCProto.Member(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(protobuf.RaftRPCProto.InstallSnapshotRequest result) {
+      private void buildPartial0(protobuf.RaftRPCProto.Member result) {
         int from_bitField0_ = bitField0_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.term_ = term_;
+          result.id_ = id_;
         }
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.leaderId_ = leaderId_;
+          result.address_ = address_;
         }
         if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.lastIncludedIndex_ = lastIncludedIndex_;
+          result.rpcPort_ = rpcPort_;
         }
         if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.lastIncludedTerm_ = lastIncludedTerm_;
+          result.kvPort_ = kvPort_;
         }
         if (((from_bitField0_ & 0x00000010) != 0)) {
-          result.offset_ = offset_;
-        }
-        if (((from_bitField0_ & 0x00000020) != 0)) {
-          result.data_ = data_;
-        }
-        if (((from_bitField0_ & 0x00000040) != 0)) {
-          result.done_ = done_;
+          result.learner_ = learner_;
         }
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof protobuf.RaftRPCProto.InstallSnapshotRequest) {
-          return mergeFrom((protobuf.RaftRPCProto.InstallSnapshotRequest)other);
+        if (other instanceof protobuf.RaftRPCProto.Member) {
+          return mergeFrom((protobuf.RaftRPCProto.Member)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(protobuf.RaftRPCProto.InstallSnapshotRequest other) {
-        if (other == protobuf.RaftRPCProto.InstallSnapshotRequest.getDefaultInstance()) return this;
-        if (other.getTerm() != 0) {
-          setTerm(other.getTerm());
+      public Builder mergeFrom(protobuf.RaftRPCProto.Member other) {
+        if (other == protobuf.RaftRPCProto.Member.getDefaultInstance()) return this;
+        if (other.getId() != 0) {
+          setId(other.getId());
         }
-        if (other.getLeaderId() != 0) {
-          setLeaderId(other.getLeaderId());
-        }
-        if (other.getLastIncludedIndex() != 0) {
-          setLastIncludedIndex(other.getLastIncludedIndex());
-        }
-        if (other.getLastIncludedTerm() != 0) {
-          setLastIncludedTerm(other.getLastIncludedTerm());
+        if (!other.getAddress().isEmpty()) {
+          address_ = other.address_;
+          bitField0_ |= 0x00000002;
+          onChanged();
         }
-        if (other.getOffset() != 0) {
-          setOffset(other.getOffset());
+        if (other.getRpcPort() != 0) {
+          setRpcPort(other.getRpcPort());
         }
-        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
-          setData(other.getData());
+        if (other.getKvPort() != 0) {
+          setKvPort(other.getKvPort());
         }
-        if (other.getDone() != false) {
-          setDone(other.getDone());
+        if (other.getLearner() != false) {
+          setLearner(other.getLearner());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
@@ -3940,40 +4644,30 @@ public final class RaftRPCProto {
                 done = true;
                 break;
               case 8: {
-                term_ = input.readInt32();
+                id_ = input.readInt32();
                 bitField0_ |= 0x00000001;
                 break;
               } // case 8
-              case 16: {
-                leaderId_ = input.readInt32();
+              case 18: {
+                address_ = input.readStringRequireUtf8();
                 bitField0_ |= 0x00000002;
                 break;
-              } // case 16
+              } // case 18
               case 24: {
-                lastIncludedIndex_ = input.readInt32();
+                rpcPort_ = input.readInt32();
                 bitField0_ |= 0x00000004;
                 break;
               } // case 24
               case 32: {
-                lastIncludedTerm_ = input.readInt32();
+                kvPort_ = input.readInt32();
                 bitField0_ |= 0x00000008;
                 break;
               } // case 32
               case 40: {
-                offset_ = input.readInt32();
+                learner_ = input.readBool();
                 bitField0_ |= 0x00000010;
                 break;
               } // case 40
-              case 50: {
-                data_ = input.readBytes();
-                bitField0_ |= 0x00000020;
-                break;
-              } // case 50
-              case 56: {
-                done_ = input.readBool();
-                bitField0_ |= 0x00000040;
-                break;
-              } // case 56
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -3991,229 +4685,9040 @@ public final class RaftRPCProto {
       }
       private int bitField0_;
 
-      private int term_ ;
+      private int id_ ;
       /**
-       * <code>int32 term = 1;</code>
-       * @return The term.
+       * <code>int32 id = 1;</code>
+       * @return The id.
        */
       @java.lang.Override
-      public int getTerm() {
-        return term_;
+      public int getId() {
+        return id_;
       }
       /**
-       * <code>int32 term = 1;</code>
-       * @param value The term to set.
+       * <code>int32 id = 1;</code>
+       * @param value The id to set.
        * @return This builder for chaining.
        */
-      public Builder setTerm(int value) {
+      public Builder setId(int value) {
 
-        term_ = value;
+        id_ = value;
         bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
-       * <code>int32 term = 1;</code>
+       * <code>int32 id = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearTerm() {
+      public Builder clearId() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        term_ = 0;
+        id_ = 0;
         onChanged();
         return this;
       }
 
-      private int leaderId_ ;
+      private java.lang.Object address_ = "";
       /**
-       * <code>int32 leaderId = 2;</code>
-       * @return The leaderId.
+       * <code>string address = 2;</code>
+       * @return The address.
        */
-      @java.lang.Override
-      public int getLeaderId() {
-        return leaderId_;
+      public java.lang.String getAddress() {
+        java.lang.Object ref = address_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          address_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>int32 leaderId = 2;</code>
-       * @param value The leaderId to set.
+       * <code>string address = 2;</code>
+       * @return The bytes for address.
+       */
+      public com.google.protobuf.ByteString
+          getAddressBytes() {
+        java.lang.Object ref = address_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          address_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string address = 2;</code>
+       * @param value The address to set.
        * @return This builder for chaining.
        */
-      public Builder setLeaderId(int value) {
-
-        leaderId_ = value;
+      public Builder setAddress(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        address_ = value;
         bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
-       * <code>int32 leaderId = 2;</code>
+       * <code>string address = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearLeaderId() {
+      public Builder clearAddress() {
+        address_ = getDefaultInstance().getAddress();
         bitField0_ = (bitField0_ & ~0x00000002);
-        leaderId_ = 0;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string address = 2;</code>
+       * @param value The bytes for address to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAddressBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        address_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
 
-      private int lastIncludedIndex_ ;
+      private int rpcPort_ ;
       /**
-       * <code>int32 lastIncludedIndex = 3;</code>
-       * @return The lastIncludedIndex.
+       * <code>int32 rpcPort = 3;</code>
+       * @return The rpcPort.
        */
       @java.lang.Override
-      public int getLastIncludedIndex() {
-        return lastIncludedIndex_;
+      public int getRpcPort() {
+        return rpcPort_;
       }
       /**
-       * <code>int32 lastIncludedIndex = 3;</code>
-       * @param value The lastIncludedIndex to set.
+       * <code>int32 rpcPort = 3;</code>
+       * @param value The rpcPort to set.
        * @return This builder for chaining.
        */
-      public Builder setLastIncludedIndex(int value) {
+      public Builder setRpcPort(int value) {
 
-        lastIncludedIndex_ = value;
+        rpcPort_ = value;
         bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
-       * <code>int32 lastIncludedIndex = 3;</code>
+       * <code>int32 rpcPort = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearLastIncludedIndex() {
+      public Builder clearRpcPort() {
         bitField0_ = (bitField0_ & ~0x00000004);
-        lastIncludedIndex_ = 0;
+        rpcPort_ = 0;
         onChanged();
         return this;
       }
 
-      private int lastIncludedTerm_ ;
+      private int kvPort_ ;
       /**
-       * <code>int32 lastIncludedTerm = 4;</code>
-       * @return The lastIncludedTerm.
+       * <code>int32 kvPort = 4;</code>
+       * @return The kvPort.
        */
       @java.lang.Override
-      public int getLastIncludedTerm() {
-        return lastIncludedTerm_;
+      public int getKvPort() {
+        return kvPort_;
       }
       /**
-       * <code>int32 lastIncludedTerm = 4;</code>
-       * @param value The lastIncludedTerm to set.
+       * <code>int32 kvPort = 4;</code>
+       * @param value The kvPort to set.
        * @return This builder for chaining.
        */
-      public Builder setLastIncludedTerm(int value) {
+      public Builder setKvPort(int value) {
 
-        lastIncludedTerm_ = value;
+        kvPort_ = value;
         bitField0_ |= 0x00000008;
         onChanged();
         return this;
       }
       /**
-       * <code>int32 lastIncludedTerm = 4;</code>
+       * <code>int32 kvPort = 4;</code>
        * @return This builder for chaining.
        */
-      public Builder clearLastIncludedTerm() {
+      public Builder clearKvPort() {
         bitField0_ = (bitField0_ & ~0x00000008);
-        lastIncludedTerm_ = 0;
+        kvPort_ = 0;
         onChanged();
         return this;
       }
 
-      private int offset_ ;
+      private boolean learner_ ;
       /**
-       * <code>int32 offset = 5;</code>
-       * @return The offset.
+       * <code>bool learner = 5;</code>
+       * @return The learner.
        */
       @java.lang.Override
-      public int getOffset() {
-        return offset_;
+      public boolean getLearner() {
+        return learner_;
       }
       /**
-       * <code>int32 offset = 5;</code>
-       * @param value The offset to set.
+       * <code>bool learner = 5;</code>
+       * @param value The learner to set.
        * @return This builder for chaining.
        */
-      public Builder setOffset(int value) {
+      public Builder setLearner(boolean value) {
 
-        offset_ = value;
+        learner_ = value;
         bitField0_ |= 0x00000010;
         onChanged();
         return this;
       }
       /**
-       * <code>int32 offset = 5;</code>
+       * <code>bool learner = 5;</code>
        * @return This builder for chaining.
        */
-      public Builder clearOffset() {
+      public Builder clearLearner() {
         bitField0_ = (bitField0_ & ~0x00000010);
-        offset_ = 0;
+        learner_ = false;
         onChanged();
         return this;
       }
-
-      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
-      /**
-       * <code>bytes data = 6;</code>
-       * @return The data.
-       */
       @java.lang.Override
-      public com.google.protobuf.ByteString getData() {
-        return data_;
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
       }
-      /**
-       * <code>bytes data = 6;</code>
-       * @param value The data to set.
-       * @return This builder for chaining.
-       */
-      public Builder setData(com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        data_ = value;
-        bitField0_ |= 0x00000020;
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
       }
-      /**
-       * <code>bytes data = 6;</code>
-       * @return This builder for chaining.
-       */
+
+
+      // @@protoc_insertion_point(builder_scope:raftrpc.Member)
+    }
+
+    // @@protoc_insertion_point(class_scope:raftrpc.Member)
+    private static final protobuf.RaftRPCProto.Member DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.Member();
+    }
+
+    public static protobuf.RaftRPCProto.Member getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Member>
+        PARSER = new com.google.protobuf.AbstractParser<Member>() {
+      @java.lang.Override
+      public Member parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Member> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Member> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.RaftRPCProto.Member getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface InstallSnapshotRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.InstallSnapshotRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    int getTerm();
+
+    /**
+     * <code>int32 leaderId = 2;</code>
+     * @return The leaderId.
+     */
+    int getLeaderId();
+
+    /**
+     * <code>int32 lastIncludedIndex = 3;</code>
+     * @return The lastIncludedIndex.
+     */
+    int getLastIncludedIndex();
+
+    /**
+     * <code>int32 lastIncludedTerm = 4;</code>
+     * @return The lastIncludedTerm.
+     */
+    int getLastIncludedTerm();
+
+    /**
+     * <code>int32 offset = 5;</code>
+     * @return The offset.
+     */
+    int getOffset();
+
+    /**
+     * <code>bytes data = 6;</code>
+     * @return The data.
+     */
+    com.google.protobuf.ByteString getData();
+
+    /**
+     * <code>bool done = 7;</code>
+     * @return The done.
+     */
+    boolean getDone();
+
+    /**
+     * <code>repeated .raftrpc.Member configuration = 8;</code>
+     */
+    java.util.List<protobuf.RaftRPCProto.Member> 
+        getConfigurationList();
+    /**
+     * <code>repeated .raftrpc.Member configuration = 8;</code>
+     */
+    protobuf.RaftRPCProto.Member getConfiguration(int index);
+    /**
+     * <code>repeated .raftrpc.Member configuration = 8;</code>
+     */
+    int getConfigurationCount();
+    /**
+     * <code>repeated .raftrpc.Member configuration = 8;</code>
+     */
+    java.util.List<? extends protobuf.RaftRPCProto.MemberOrBuilder> 
+        getConfigurationOrBuilderList();
+    /**
+     * <code>repeated .raftrpc.Member configuration = 8;</code>
+     */
+    protobuf.RaftRPCProto.MemberOrBuilder getConfigurationOrBuilder(
+        int index);
+
+    /**
+     * <code>int32 groupId = 9;</code>
+     * @return The groupId.
+     */
+    int getGroupId();
+  }
+  /**
+   * Protobuf type {@code raftrpc.InstallSnapshotRequest}
+   */
+  public static final class InstallSnapshotRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:raftrpc.InstallSnapshotRequest)
+      InstallSnapshotRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use InstallSnapshotRequest.newBuilder() to construct.
+    private InstallSnapshotRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private InstallSnapshotRequest() {
+      data_ = com.google.protobuf.ByteString.EMPTY;
+      configuration_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new InstallSnapshotRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.RaftRPCProto.InstallSnapshotRequest.class, protobuf.RaftRPCProto.InstallSnapshotRequest.Builder.class);
+    }
+
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_ = 0;
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    @java.lang.Override
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int LEADERID_FIELD_NUMBER = 2;
+    private int leaderId_ = 0;
+    /**
+     * <code>int32 leaderId = 2;</code>
+     * @return The leaderId.
+     */
+    @java.lang.Override
+    public int getLeaderId() {
+      return leaderId_;
+    }
+
+    public static final int LASTINCLUDEDINDEX_FIELD_NUMBER = 3;
+    private int lastIncludedIndex_ = 0;
+    /**
+     * <code>int32 lastIncludedIndex = 3;</code>
+     * @return The lastIncludedIndex.
+     */
+    @java.lang.Override
+    public int getLastIncludedIndex() {
+      return lastIncludedIndex_;
+    }
+
+    public static final int LASTINCLUDEDTERM_FIELD_NUMBER = 4;
+    private int lastIncludedTerm_ = 0;
+    /**
+     * <code>int32 lastIncludedTerm = 4;</code>
+     * @return The lastIncludedTerm.
+     */
+    @java.lang.Override
+    public int getLastIncludedTerm() {
+      return lastIncludedTerm_;
+    }
+
+    public static final int OFFSET_FIELD_NUMBER = 5;
+    private int offset_ = 0;
+    /**
+     * <code>int32 offset = 5;</code>
+     * @return The offset.
+     */
+    @java.lang.Override
+    public int getOffset() {
+      return offset_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 6;
+    private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes data = 6;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+
+    public static final int DONE_FIELD_NUMBER = 7;
+    private boolean done_ = false;
+    /**
+     * <code>bool done = 7;</code>
+     * @return The done.
+     */
+    @java.lang.Override
+    public boolean getDone() {
+      return done_;
+    }
+
+    public static final int CONFIGURATION_FIELD_NUMBER = 8;
+    @SuppressWarnings("serial")
+    private java.util.List<protobuf.RaftRPCProto.Member> configuration_;
+    /**
+     * <code>repeated .raftrpc.Member configuration = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.List<protobuf.RaftRPCProto.Member> getConfigurationList() {
+      return configuration_;
+    }
+    /**
+     * <code>repeated .raftrpc.Member configuration = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends protobuf.RaftRPCProto.MemberOrBuilder> 
+        getConfigurationOrBuilderList() {
+      return configuration_;
+    }
+    /**
+     * <code>repeated .raftrpc.Member configuration = 8;</code>
+     */
+    @java.lang.Override
+    public int getConfigurationCount() {
+      return configuration_.size();
+    }
+    /**
+     * <code>repeated .raftrpc.Member configuration = 8;</code>
+     */
+    @java.lang.Override
+    public protobuf.RaftRPCProto.Member getConfiguration(int index) {
+      return configuration_.get(index);
+    }
+    /**
+     * <code>repeated .raftrpc.Member configuration = 8;</code>
+     */
+    @java.lang.Override
+    public protobuf.RaftRPCProto.MemberOrBuilder getConfigurationOrBuilder(
+        int index) {
+      return configuration_.get(index);
+    }
+
+    public static final int GROUPID_FIELD_NUMBER = 9;
+    private int groupId_ = 0;
+    /**
+     * <code>int32 groupId = 9;</code>
+     * @return The groupId.
+     */
+    @java.lang.Override
+    public int getGroupId() {
+      return groupId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (term_ != 0) {
+        output.writeInt32(1, term_);
+      }
+      if (leaderId_ != 0) {
+        output.writeInt32(2, leaderId_);
+      }
+      if (lastIncludedIndex_ != 0) {
+        output.writeInt32(3, lastIncludedIndex_);
+      }
+      if (lastIncludedTerm_ != 0) {
+        output.writeInt32(4, lastIncludedTerm_);
+      }
+      if (offset_ != 0) {
+        output.writeInt32(5, offset_);
+      }
+      if (!data_.isEmpty()) {
+        output.writeBytes(6, data_);
+      }
+      if (done_ != false) {
+        output.writeBool(7, done_);
+      }
+      for (int i = 0; i < configuration_.size(); i++) {
+        output.writeMessage(8, configuration_.get(i));
+      }
+      if (groupId_ != 0) {
+        output.writeInt32(9, groupId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, term_);
+      }
+      if (leaderId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, leaderId_);
+      }
+      if (lastIncludedIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, lastIncludedIndex_);
+      }
+      if (lastIncludedTerm_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, lastIncludedTerm_);
+      }
+      if (offset_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, offset_);
+      }
+      if (!data_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, data_);
+      }
+      if (done_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, done_);
+      }
+      for (int i = 0; i < configuration_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, configuration_.get(i));
+      }
+      if (groupId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(9, groupId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.RaftRPCProto.InstallSnapshotRequest)) {
+        return super.equals(obj);
+      }
+      protobuf.RaftRPCProto.InstallSnapshotRequest other = (protobuf.RaftRPCProto.InstallSnapshotRequest) obj;
+
+      if (getTerm()
+          != other.getTerm()) return false;
+      if (getLeaderId()
+          != other.getLeaderId()) return false;
+      if (getLastIncludedIndex()
+          != other.getLastIncludedIndex()) return false;
+      if (getLastIncludedTerm()
+          != other.getLastIncludedTerm()) return false;
+      if (getOffset()
+          != other.getOffset()) return false;
+      if (!getData()
+          .equals(other.getData())) return false;
+      if (getDone()
+          != other.getDone()) return false;
+      if (!getConfigurationList()
+          .equals(other.getConfigurationList())) return false;
+      if (getGroupId()
+          != other.getGroupId()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + LEADERID_FIELD_NUMBER;
+      hash = (53 * hash) + getLeaderId();
+      hash = (37 * hash) + LASTINCLUDEDINDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getLastIncludedIndex();
+      hash = (37 * hash) + LASTINCLUDEDTERM_FIELD_NUMBER;
+      hash = (53 * hash) + getLastIncludedTerm();
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + getOffset();
+      hash = (37 * hash) + DATA_FIELD_NUMBER;
+      hash = (53 * hash) + getData().hashCode();
+      hash = (37 * hash) + DONE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getDone());
+      if (getConfigurationCount() > 0) {
+        hash = (37 * hash) + CONFIGURATION_FIELD_NUMBER;
+        hash = (53 * hash) + getConfigurationList().hashCode();
+      }
+      hash = (37 * hash) + GROUPID_FIELD_NUMBER;
+      hash = (53 * hash) + getGroupId();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.RaftRPCProto.InstallSnapshotRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raftrpc.InstallSnapshotRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:raftrpc.InstallSnapshotRequest)
+        protobuf.RaftRPCProto.InstallSnapshotRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.RaftRPCProto.InstallSnapshotRequest.class, protobuf.RaftRPCProto.InstallSnapshotRequest.Builder.class);
+      }
+
+      // Construct using protobuf.RaftRPCProto.InstallSnapshotRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        term_ = 0;
+        leaderId_ = 0;
+        lastIncludedIndex_ = 0;
+        lastIncludedTerm_ = 0;
+        offset_ = 0;
+        data_ = com.google.protobuf.ByteString.EMPTY;
+        done_ = false;
+        if (configurationBuilder_ == null) {
+          configuration_ = java.util.Collections.emptyList();
+        } else {
+          configuration_ = null;
+          configurationBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000080);
+        groupId_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.InstallSnapshotRequest getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.InstallSnapshotRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.InstallSnapshotRequest build() {
+        protobuf.RaftRPCProto.InstallSnapshotRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.InstallSnapshotRequest buildPartial() {
+        protobuf.RaftRPCProto.InstallSnapshotRequest result = new protobuf.RaftRPCProto.InstallSnapshotRequest(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(protobuf.RaftRPCProto.InstallSnapshotRequest result) {
+        if (configurationBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0)) {
+            configuration_ = java.util.Collections.unmodifiableList(configuration_);
+            bitField0_ = (bitField0_ & ~0x00000080);
+          }
+          result.configuration_ = configuration_;
+        } else {
+          result.configuration_ = configurationBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(protobuf.RaftRPCProto.InstallSnapshotRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.term_ = term_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.leaderId_ = leaderId_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.lastIncludedIndex_ = lastIncludedIndex_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.lastIncludedTerm_ = lastIncludedTerm_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.offset_ = offset_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.data_ = data_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.done_ = done_;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.groupId_ = groupId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.RaftRPCProto.InstallSnapshotRequest) {
+          return mergeFrom((protobuf.RaftRPCProto.InstallSnapshotRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.RaftRPCProto.InstallSnapshotRequest other) {
+        if (other == protobuf.RaftRPCProto.InstallSnapshotRequest.getDefaultInstance()) return this;
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        if (other.getLeaderId() != 0) {
+          setLeaderId(other.getLeaderId());
+        }
+        if (other.getLastIncludedIndex() != 0) {
+          setLastIncludedIndex(other.getLastIncludedIndex());
+        }
+        if (other.getLastIncludedTerm() != 0) {
+          setLastIncludedTerm(other.getLastIncludedTerm());
+        }
+        if (other.getOffset() != 0) {
+          setOffset(other.getOffset());
+        }
+        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
+          setData(other.getData());
+        }
+        if (other.getDone() != false) {
+          setDone(other.getDone());
+        }
+        if (configurationBuilder_ == null) {
+          if (!other.configuration_.isEmpty()) {
+            if (configuration_.isEmpty()) {
+              configuration_ = other.configuration_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+            } else {
+              ensureConfigurationIsMutable();
+              configuration_.addAll(other.configuration_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.configuration_.isEmpty()) {
+            if (configurationBuilder_.isEmpty()) {
+              configurationBuilder_.dispose();
+              configurationBuilder_ = null;
+              configuration_ = other.configuration_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+              configurationBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getConfigurationFieldBuilder() : null;
+            } else {
+              configurationBuilder_.addAllMessages(other.configuration_);
+            }
+          }
+        }
+        if (other.getGroupId() != 0) {
+          setGroupId(other.getGroupId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                term_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                leaderId_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                lastIncludedIndex_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                lastIncludedTerm_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                offset_ = input.readInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 50: {
+                data_ = input.readBytes();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 56: {
+                done_ = input.readBool();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 66: {
+                protobuf.RaftRPCProto.Member m =
+                    input.readMessage(
+                        protobuf.RaftRPCProto.Member.parser(),
+                        extensionRegistry);
+                if (configurationBuilder_ == null) {
+                  ensureConfigurationIsMutable();
+                  configuration_.add(m);
+                } else {
+                  configurationBuilder_.addMessage(m);
+                }
+                break;
+              } // case 66
+              case 72: {
+                groupId_ = input.readInt32();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 72
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int term_ ;
+      /**
+       * <code>int32 term = 1;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(int value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int leaderId_ ;
+      /**
+       * <code>int32 leaderId = 2;</code>
+       * @return The leaderId.
+       */
+      @java.lang.Override
+      public int getLeaderId() {
+        return leaderId_;
+      }
+      /**
+       * <code>int32 leaderId = 2;</code>
+       * @param value The leaderId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLeaderId(int value) {
+
+        leaderId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 leaderId = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLeaderId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        leaderId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int lastIncludedIndex_ ;
+      /**
+       * <code>int32 lastIncludedIndex = 3;</code>
+       * @return The lastIncludedIndex.
+       */
+      @java.lang.Override
+      public int getLastIncludedIndex() {
+        return lastIncludedIndex_;
+      }
+      /**
+       * <code>int32 lastIncludedIndex = 3;</code>
+       * @param value The lastIncludedIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastIncludedIndex(int value) {
+
+        lastIncludedIndex_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 lastIncludedIndex = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastIncludedIndex() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        lastIncludedIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int lastIncludedTerm_ ;
+      /**
+       * <code>int32 lastIncludedTerm = 4;</code>
+       * @return The lastIncludedTerm.
+       */
+      @java.lang.Override
+      public int getLastIncludedTerm() {
+        return lastIncludedTerm_;
+      }
+      /**
+       * <code>int32 lastIncludedTerm = 4;</code>
+       * @param value The lastIncludedTerm to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastIncludedTerm(int value) {
+
+        lastIncludedTerm_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 lastIncludedTerm = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastIncludedTerm() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        lastIncludedTerm_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int offset_ ;
+      /**
+       * <code>int32 offset = 5;</code>
+       * @return The offset.
+       */
+      @java.lang.Override
+      public int getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>int32 offset = 5;</code>
+       * @param value The offset to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOffset(int value) {
+
+        offset_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 offset = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOffset() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        offset_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes data = 6;</code>
+       * @return The data.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <code>bytes data = 6;</code>
+       * @param value The data to set.
+       * @return This builder for chaining.
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        data_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes data = 6;</code>
+       * @return This builder for chaining.
+       */
       public Builder clearData() {
         bitField0_ = (bitField0_ & ~0x00000020);
-        data_ = getDefaultInstance().getData();
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+
+      private boolean done_ ;
+      /**
+       * <code>bool done = 7;</code>
+       * @return The done.
+       */
+      @java.lang.Override
+      public boolean getDone() {
+        return done_;
+      }
+      /**
+       * <code>bool done = 7;</code>
+       * @param value The done to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDone(boolean value) {
+
+        done_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool done = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDone() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        done_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<protobuf.RaftRPCProto.Member> configuration_ =
+        java.util.Collections.emptyList();
+      private void ensureConfigurationIsMutable() {
+        if (!((bitField0_ & 0x00000080) != 0)) {
+          configuration_ = new java.util.ArrayList<protobuf.RaftRPCProto.Member>(configuration_);
+          bitField0_ |= 0x00000080;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.RaftRPCProto.Member, protobuf.RaftRPCProto.Member.Builder, protobuf.RaftRPCProto.MemberOrBuilder> configurationBuilder_;
+
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public java.util.List<protobuf.RaftRPCProto.Member> getConfigurationList() {
+        if (configurationBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(configuration_);
+        } else {
+          return configurationBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public int getConfigurationCount() {
+        if (configurationBuilder_ == null) {
+          return configuration_.size();
+        } else {
+          return configurationBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public protobuf.RaftRPCProto.Member getConfiguration(int index) {
+        if (configurationBuilder_ == null) {
+          return configuration_.get(index);
+        } else {
+          return configurationBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public Builder setConfiguration(
+          int index, protobuf.RaftRPCProto.Member value) {
+        if (configurationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConfigurationIsMutable();
+          configuration_.set(index, value);
+          onChanged();
+        } else {
+          configurationBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public Builder setConfiguration(
+          int index, protobuf.RaftRPCProto.Member.Builder builderForValue) {
+        if (configurationBuilder_ == null) {
+          ensureConfigurationIsMutable();
+          configuration_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          configurationBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public Builder addConfiguration(protobuf.RaftRPCProto.Member value) {
+        if (configurationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConfigurationIsMutable();
+          configuration_.add(value);
+          onChanged();
+        } else {
+          configurationBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public Builder addConfiguration(
+          int index, protobuf.RaftRPCProto.Member value) {
+        if (configurationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConfigurationIsMutable();
+          configuration_.add(index, value);
+          onChanged();
+        } else {
+          configurationBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public Builder addConfiguration(
+          protobuf.RaftRPCProto.Member.Builder builderForValue) {
+        if (configurationBuilder_ == null) {
+          ensureConfigurationIsMutable();
+          configuration_.add(builderForValue.build());
+          onChanged();
+        } else {
+          configurationBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public Builder addConfiguration(
+          int index, protobuf.RaftRPCProto.Member.Builder builderForValue) {
+        if (configurationBuilder_ == null) {
+          ensureConfigurationIsMutable();
+          configuration_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          configurationBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public Builder addAllConfiguration(
+          java.lang.Iterable<? extends protobuf.RaftRPCProto.Member> values) {
+        if (configurationBuilder_ == null) {
+          ensureConfigurationIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, configuration_);
+          onChanged();
+        } else {
+          configurationBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public Builder clearConfiguration() {
+        if (configurationBuilder_ == null) {
+          configuration_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+          onChanged();
+        } else {
+          configurationBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public Builder removeConfiguration(int index) {
+        if (configurationBuilder_ == null) {
+          ensureConfigurationIsMutable();
+          configuration_.remove(index);
+          onChanged();
+        } else {
+          configurationBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public protobuf.RaftRPCProto.Member.Builder getConfigurationBuilder(
+          int index) {
+        return getConfigurationFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public protobuf.RaftRPCProto.MemberOrBuilder getConfigurationOrBuilder(
+          int index) {
+        if (configurationBuilder_ == null) {
+          return configuration_.get(index);  } else {
+          return configurationBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public java.util.List<? extends protobuf.RaftRPCProto.MemberOrBuilder> 
+           getConfigurationOrBuilderList() {
+        if (configurationBuilder_ != null) {
+          return configurationBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(configuration_);
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public protobuf.RaftRPCProto.Member.Builder addConfigurationBuilder() {
+        return getConfigurationFieldBuilder().addBuilder(
+            protobuf.RaftRPCProto.Member.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public protobuf.RaftRPCProto.Member.Builder addConfigurationBuilder(
+          int index) {
+        return getConfigurationFieldBuilder().addBuilder(
+            index, protobuf.RaftRPCProto.Member.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .raftrpc.Member configuration = 8;</code>
+       */
+      public java.util.List<protobuf.RaftRPCProto.Member.Builder> 
+           getConfigurationBuilderList() {
+        return getConfigurationFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.RaftRPCProto.Member, protobuf.RaftRPCProto.Member.Builder, protobuf.RaftRPCProto.MemberOrBuilder> 
+          getConfigurationFieldBuilder() {
+        if (configurationBuilder_ == null) {
+          configurationBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              protobuf.RaftRPCProto.Member, protobuf.RaftRPCProto.Member.Builder, protobuf.RaftRPCProto.MemberOrBuilder>(
+                  configuration_,
+                  ((bitField0_ & 0x00000080) != 0),
+                  getParentForChildren(),
+                  isClean());
+          configuration_ = null;
+        }
+        return configurationBuilder_;
+      }
+
+      private int groupId_ ;
+      /**
+       * <code>int32 groupId = 9;</code>
+       * @return The groupId.
+       */
+      @java.lang.Override
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>int32 groupId = 9;</code>
+       * @param value The groupId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroupId(int value) {
+
+        groupId_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 groupId = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:raftrpc.InstallSnapshotRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:raftrpc.InstallSnapshotRequest)
+    private static final protobuf.RaftRPCProto.InstallSnapshotRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.InstallSnapshotRequest();
+    }
+
+    public static protobuf.RaftRPCProto.InstallSnapshotRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<InstallSnapshotRequest>
+        PARSER = new com.google.protobuf.AbstractParser<InstallSnapshotRequest>() {
+      @java.lang.Override
+      public InstallSnapshotRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<InstallSnapshotRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InstallSnapshotRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.RaftRPCProto.InstallSnapshotRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface InstallSnapshotResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.InstallSnapshotResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    int getTerm();
+  }
+  /**
+   * Protobuf type {@code raftrpc.InstallSnapshotResponse}
+   */
+  public static final class InstallSnapshotResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:raftrpc.InstallSnapshotResponse)
+      InstallSnapshotResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use InstallSnapshotResponse.newBuilder() to construct.
+    private InstallSnapshotResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private InstallSnapshotResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new InstallSnapshotResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.RaftRPCProto.InstallSnapshotResponse.class, protobuf.RaftRPCProto.InstallSnapshotResponse.Builder.class);
+    }
+
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_ = 0;
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    @java.lang.Override
+    public int getTerm() {
+      return term_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (term_ != 0) {
+        output.writeInt32(1, term_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, term_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.RaftRPCProto.InstallSnapshotResponse)) {
+        return super.equals(obj);
+      }
+      protobuf.RaftRPCProto.InstallSnapshotResponse other = (protobuf.RaftRPCProto.InstallSnapshotResponse) obj;
+
+      if (getTerm()
+          != other.getTerm()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.RaftRPCProto.InstallSnapshotResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raftrpc.InstallSnapshotResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:raftrpc.InstallSnapshotResponse)
+        protobuf.RaftRPCProto.InstallSnapshotResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.RaftRPCProto.InstallSnapshotResponse.class, protobuf.RaftRPCProto.InstallSnapshotResponse.Builder.class);
+      }
+
+      // Construct using protobuf.RaftRPCProto.InstallSnapshotResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        term_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.InstallSnapshotResponse getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.InstallSnapshotResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.InstallSnapshotResponse build() {
+        protobuf.RaftRPCProto.InstallSnapshotResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.InstallSnapshotResponse buildPartial() {
+        protobuf.RaftRPCProto.InstallSnapshotResponse result = new protobuf.RaftRPCProto.InstallSnapshotResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(protobuf.RaftRPCProto.InstallSnapshotResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.term_ = term_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.RaftRPCProto.InstallSnapshotResponse) {
+          return mergeFrom((protobuf.RaftRPCProto.InstallSnapshotResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.RaftRPCProto.InstallSnapshotResponse other) {
+        if (other == protobuf.RaftRPCProto.InstallSnapshotResponse.getDefaultInstance()) return this;
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                term_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int term_ ;
+      /**
+       * <code>int32 term = 1;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(int value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:raftrpc.InstallSnapshotResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:raftrpc.InstallSnapshotResponse)
+    private static final protobuf.RaftRPCProto.InstallSnapshotResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.InstallSnapshotResponse();
+    }
+
+    public static protobuf.RaftRPCProto.InstallSnapshotResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<InstallSnapshotResponse>
+        PARSER = new com.google.protobuf.AbstractParser<InstallSnapshotResponse>() {
+      @java.lang.Override
+      public InstallSnapshotResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<InstallSnapshotResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InstallSnapshotResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.RaftRPCProto.InstallSnapshotResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PreVoteRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.PreVoteRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    int getTerm();
+
+    /**
+     * <code>int32 candidateId = 2;</code>
+     * @return The candidateId.
+     */
+    int getCandidateId();
+
+    /**
+     * <code>int32 lastLogIndex = 3;</code>
+     * @return The lastLogIndex.
+     */
+    int getLastLogIndex();
+
+    /**
+     * <code>int32 lastLogTerm = 4;</code>
+     * @return The lastLogTerm.
+     */
+    int getLastLogTerm();
+
+    /**
+     * <code>int32 groupId = 5;</code>
+     * @return The groupId.
+     */
+    int getGroupId();
+  }
+  /**
+   * Protobuf type {@code raftrpc.PreVoteRequest}
+   */
+  public static final class PreVoteRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:raftrpc.PreVoteRequest)
+      PreVoteRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PreVoteRequest.newBuilder() to construct.
+    private PreVoteRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PreVoteRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PreVoteRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_PreVoteRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_PreVoteRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.RaftRPCProto.PreVoteRequest.class, protobuf.RaftRPCProto.PreVoteRequest.Builder.class);
+    }
+
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_ = 0;
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    @java.lang.Override
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int CANDIDATEID_FIELD_NUMBER = 2;
+    private int candidateId_ = 0;
+    /**
+     * <code>int32 candidateId = 2;</code>
+     * @return The candidateId.
+     */
+    @java.lang.Override
+    public int getCandidateId() {
+      return candidateId_;
+    }
+
+    public static final int LASTLOGINDEX_FIELD_NUMBER = 3;
+    private int lastLogIndex_ = 0;
+    /**
+     * <code>int32 lastLogIndex = 3;</code>
+     * @return The lastLogIndex.
+     */
+    @java.lang.Override
+    public int getLastLogIndex() {
+      return lastLogIndex_;
+    }
+
+    public static final int LASTLOGTERM_FIELD_NUMBER = 4;
+    private int lastLogTerm_ = 0;
+    /**
+     * <code>int32 lastLogTerm = 4;</code>
+     * @return The lastLogTerm.
+     */
+    @java.lang.Override
+    public int getLastLogTerm() {
+      return lastLogTerm_;
+    }
+
+    public static final int GROUPID_FIELD_NUMBER = 5;
+    private int groupId_ = 0;
+    /**
+     * <code>int32 groupId = 5;</code>
+     * @return The groupId.
+     */
+    @java.lang.Override
+    public int getGroupId() {
+      return groupId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (term_ != 0) {
+        output.writeInt32(1, term_);
+      }
+      if (candidateId_ != 0) {
+        output.writeInt32(2, candidateId_);
+      }
+      if (lastLogIndex_ != 0) {
+        output.writeInt32(3, lastLogIndex_);
+      }
+      if (lastLogTerm_ != 0) {
+        output.writeInt32(4, lastLogTerm_);
+      }
+      if (groupId_ != 0) {
+        output.writeInt32(5, groupId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, term_);
+      }
+      if (candidateId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, candidateId_);
+      }
+      if (lastLogIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, lastLogIndex_);
+      }
+      if (lastLogTerm_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, lastLogTerm_);
+      }
+      if (groupId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, groupId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.RaftRPCProto.PreVoteRequest)) {
+        return super.equals(obj);
+      }
+      protobuf.RaftRPCProto.PreVoteRequest other = (protobuf.RaftRPCProto.PreVoteRequest) obj;
+
+      if (getTerm()
+          != other.getTerm()) return false;
+      if (getCandidateId()
+          != other.getCandidateId()) return false;
+      if (getLastLogIndex()
+          != other.getLastLogIndex()) return false;
+      if (getLastLogTerm()
+          != other.getLastLogTerm()) return false;
+      if (getGroupId()
+          != other.getGroupId()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + CANDIDATEID_FIELD_NUMBER;
+      hash = (53 * hash) + getCandidateId();
+      hash = (37 * hash) + LASTLOGINDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getLastLogIndex();
+      hash = (37 * hash) + LASTLOGTERM_FIELD_NUMBER;
+      hash = (53 * hash) + getLastLogTerm();
+      hash = (37 * hash) + GROUPID_FIELD_NUMBER;
+      hash = (53 * hash) + getGroupId();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.RaftRPCProto.PreVoteRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.PreVoteRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.PreVoteRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.PreVoteRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.PreVoteRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.PreVoteRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.PreVoteRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.PreVoteRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.PreVoteRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.PreVoteRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.PreVoteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.PreVoteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.RaftRPCProto.PreVoteRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raftrpc.PreVoteRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:raftrpc.PreVoteRequest)
+        protobuf.RaftRPCProto.PreVoteRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_PreVoteRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_PreVoteRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.RaftRPCProto.PreVoteRequest.class, protobuf.RaftRPCProto.PreVoteRequest.Builder.class);
+      }
+
+      // Construct using protobuf.RaftRPCProto.PreVoteRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        term_ = 0;
+        candidateId_ = 0;
+        lastLogIndex_ = 0;
+        lastLogTerm_ = 0;
+        groupId_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_PreVoteRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.PreVoteRequest getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.PreVoteRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.PreVoteRequest build() {
+        protobuf.RaftRPCProto.PreVoteRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.PreVoteRequest buildPartial() {
+        protobuf.RaftRPCProto.PreVoteRequest result = new protobuf.RaftRPCProto.PreVoteRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(protobuf.RaftRPCProto.PreVoteRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.term_ = term_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.candidateId_ = candidateId_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.lastLogIndex_ = lastLogIndex_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.lastLogTerm_ = lastLogTerm_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.groupId_ = groupId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.RaftRPCProto.PreVoteRequest) {
+          return mergeFrom((protobuf.RaftRPCProto.PreVoteRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.RaftRPCProto.PreVoteRequest other) {
+        if (other == protobuf.RaftRPCProto.PreVoteRequest.getDefaultInstance()) return this;
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        if (other.getCandidateId() != 0) {
+          setCandidateId(other.getCandidateId());
+        }
+        if (other.getLastLogIndex() != 0) {
+          setLastLogIndex(other.getLastLogIndex());
+        }
+        if (other.getLastLogTerm() != 0) {
+          setLastLogTerm(other.getLastLogTerm());
+        }
+        if (other.getGroupId() != 0) {
+          setGroupId(other.getGroupId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                term_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                candidateId_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                lastLogIndex_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                lastLogTerm_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                groupId_ = input.readInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int term_ ;
+      /**
+       * <code>int32 term = 1;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(int value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int candidateId_ ;
+      /**
+       * <code>int32 candidateId = 2;</code>
+       * @return The candidateId.
+       */
+      @java.lang.Override
+      public int getCandidateId() {
+        return candidateId_;
+      }
+      /**
+       * <code>int32 candidateId = 2;</code>
+       * @param value The candidateId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCandidateId(int value) {
+
+        candidateId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 candidateId = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCandidateId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        candidateId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int lastLogIndex_ ;
+      /**
+       * <code>int32 lastLogIndex = 3;</code>
+       * @return The lastLogIndex.
+       */
+      @java.lang.Override
+      public int getLastLogIndex() {
+        return lastLogIndex_;
+      }
+      /**
+       * <code>int32 lastLogIndex = 3;</code>
+       * @param value The lastLogIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastLogIndex(int value) {
+
+        lastLogIndex_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 lastLogIndex = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastLogIndex() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        lastLogIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int lastLogTerm_ ;
+      /**
+       * <code>int32 lastLogTerm = 4;</code>
+       * @return The lastLogTerm.
+       */
+      @java.lang.Override
+      public int getLastLogTerm() {
+        return lastLogTerm_;
+      }
+      /**
+       * <code>int32 lastLogTerm = 4;</code>
+       * @param value The lastLogTerm to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastLogTerm(int value) {
+
+        lastLogTerm_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 lastLogTerm = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastLogTerm() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        lastLogTerm_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int groupId_ ;
+      /**
+       * <code>int32 groupId = 5;</code>
+       * @return The groupId.
+       */
+      @java.lang.Override
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>int32 groupId = 5;</code>
+       * @param value The groupId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroupId(int value) {
+
+        groupId_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 groupId = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:raftrpc.PreVoteRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:raftrpc.PreVoteRequest)
+    private static final protobuf.RaftRPCProto.PreVoteRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.PreVoteRequest();
+    }
+
+    public static protobuf.RaftRPCProto.PreVoteRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PreVoteRequest>
+        PARSER = new com.google.protobuf.AbstractParser<PreVoteRequest>() {
+      @java.lang.Override
+      public PreVoteRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PreVoteRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PreVoteRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.RaftRPCProto.PreVoteRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PreVoteResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.PreVoteResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    int getTerm();
+
+    /**
+     * <code>bool voteGranted = 2;</code>
+     * @return The voteGranted.
+     */
+    boolean getVoteGranted();
+  }
+  /**
+   * Protobuf type {@code raftrpc.PreVoteResponse}
+   */
+  public static final class PreVoteResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:raftrpc.PreVoteResponse)
+      PreVoteResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PreVoteResponse.newBuilder() to construct.
+    private PreVoteResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PreVoteResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PreVoteResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_PreVoteResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_PreVoteResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.RaftRPCProto.PreVoteResponse.class, protobuf.RaftRPCProto.PreVoteResponse.Builder.class);
+    }
+
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_ = 0;
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    @java.lang.Override
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int VOTEGRANTED_FIELD_NUMBER = 2;
+    private boolean voteGranted_ = false;
+    /**
+     * <code>bool voteGranted = 2;</code>
+     * @return The voteGranted.
+     */
+    @java.lang.Override
+    public boolean getVoteGranted() {
+      return voteGranted_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (term_ != 0) {
+        output.writeInt32(1, term_);
+      }
+      if (voteGranted_ != false) {
+        output.writeBool(2, voteGranted_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, term_);
+      }
+      if (voteGranted_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, voteGranted_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.RaftRPCProto.PreVoteResponse)) {
+        return super.equals(obj);
+      }
+      protobuf.RaftRPCProto.PreVoteResponse other = (protobuf.RaftRPCProto.PreVoteResponse) obj;
+
+      if (getTerm()
+          != other.getTerm()) return false;
+      if (getVoteGranted()
+          != other.getVoteGranted()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + VOTEGRANTED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getVoteGranted());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.RaftRPCProto.PreVoteResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.PreVoteResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.PreVoteResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.PreVoteResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.PreVoteResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.PreVoteResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.PreVoteResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.PreVoteResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.PreVoteResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.PreVoteResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.PreVoteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.PreVoteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.RaftRPCProto.PreVoteResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raftrpc.PreVoteResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:raftrpc.PreVoteResponse)
+        protobuf.RaftRPCProto.PreVoteResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_PreVoteResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_PreVoteResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.RaftRPCProto.PreVoteResponse.class, protobuf.RaftRPCProto.PreVoteResponse.Builder.class);
+      }
+
+      // Construct using protobuf.RaftRPCProto.PreVoteResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        term_ = 0;
+        voteGranted_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_PreVoteResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.PreVoteResponse getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.PreVoteResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.PreVoteResponse build() {
+        protobuf.RaftRPCProto.PreVoteResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.PreVoteResponse buildPartial() {
+        protobuf.RaftRPCProto.PreVoteResponse result = new protobuf.RaftRPCProto.PreVoteResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(protobuf.RaftRPCProto.PreVoteResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.term_ = term_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.voteGranted_ = voteGranted_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.RaftRPCProto.PreVoteResponse) {
+          return mergeFrom((protobuf.RaftRPCProto.PreVoteResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.RaftRPCProto.PreVoteResponse other) {
+        if (other == protobuf.RaftRPCProto.PreVoteResponse.getDefaultInstance()) return this;
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        if (other.getVoteGranted() != false) {
+          setVoteGranted(other.getVoteGranted());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                term_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                voteGranted_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int term_ ;
+      /**
+       * <code>int32 term = 1;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(int value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean voteGranted_ ;
+      /**
+       * <code>bool voteGranted = 2;</code>
+       * @return The voteGranted.
+       */
+      @java.lang.Override
+      public boolean getVoteGranted() {
+        return voteGranted_;
+      }
+      /**
+       * <code>bool voteGranted = 2;</code>
+       * @param value The voteGranted to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVoteGranted(boolean value) {
+
+        voteGranted_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool voteGranted = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVoteGranted() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        voteGranted_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:raftrpc.PreVoteResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:raftrpc.PreVoteResponse)
+    private static final protobuf.RaftRPCProto.PreVoteResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.PreVoteResponse();
+    }
+
+    public static protobuf.RaftRPCProto.PreVoteResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PreVoteResponse>
+        PARSER = new com.google.protobuf.AbstractParser<PreVoteResponse>() {
+      @java.lang.Override
+      public PreVoteResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PreVoteResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PreVoteResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.RaftRPCProto.PreVoteResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ReadIndexRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.ReadIndexRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 nodeId = 1;</code>
+     * @return The nodeId.
+     */
+    int getNodeId();
+
+    /**
+     * <code>int32 groupId = 2;</code>
+     * @return The groupId.
+     */
+    int getGroupId();
+  }
+  /**
+   * Protobuf type {@code raftrpc.ReadIndexRequest}
+   */
+  public static final class ReadIndexRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:raftrpc.ReadIndexRequest)
+      ReadIndexRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ReadIndexRequest.newBuilder() to construct.
+    private ReadIndexRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ReadIndexRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ReadIndexRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_ReadIndexRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_ReadIndexRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.RaftRPCProto.ReadIndexRequest.class, protobuf.RaftRPCProto.ReadIndexRequest.Builder.class);
+    }
+
+    public static final int NODEID_FIELD_NUMBER = 1;
+    private int nodeId_ = 0;
+    /**
+     * <code>int32 nodeId = 1;</code>
+     * @return The nodeId.
+     */
+    @java.lang.Override
+    public int getNodeId() {
+      return nodeId_;
+    }
+
+    public static final int GROUPID_FIELD_NUMBER = 2;
+    private int groupId_ = 0;
+    /**
+     * <code>int32 groupId = 2;</code>
+     * @return The groupId.
+     */
+    @java.lang.Override
+    public int getGroupId() {
+      return groupId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (nodeId_ != 0) {
+        output.writeInt32(1, nodeId_);
+      }
+      if (groupId_ != 0) {
+        output.writeInt32(2, groupId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (nodeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, nodeId_);
+      }
+      if (groupId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, groupId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.RaftRPCProto.ReadIndexRequest)) {
+        return super.equals(obj);
+      }
+      protobuf.RaftRPCProto.ReadIndexRequest other = (protobuf.RaftRPCProto.ReadIndexRequest) obj;
+
+      if (getNodeId()
+          != other.getNodeId()) return false;
+      if (getGroupId()
+          != other.getGroupId()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NODEID_FIELD_NUMBER;
+      hash = (53 * hash) + getNodeId();
+      hash = (37 * hash) + GROUPID_FIELD_NUMBER;
+      hash = (53 * hash) + getGroupId();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.RaftRPCProto.ReadIndexRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.RaftRPCProto.ReadIndexRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raftrpc.ReadIndexRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:raftrpc.ReadIndexRequest)
+        protobuf.RaftRPCProto.ReadIndexRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_ReadIndexRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_ReadIndexRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.RaftRPCProto.ReadIndexRequest.class, protobuf.RaftRPCProto.ReadIndexRequest.Builder.class);
+      }
+
+      // Construct using protobuf.RaftRPCProto.ReadIndexRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        nodeId_ = 0;
+        groupId_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_ReadIndexRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.ReadIndexRequest getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.ReadIndexRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.ReadIndexRequest build() {
+        protobuf.RaftRPCProto.ReadIndexRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.ReadIndexRequest buildPartial() {
+        protobuf.RaftRPCProto.ReadIndexRequest result = new protobuf.RaftRPCProto.ReadIndexRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(protobuf.RaftRPCProto.ReadIndexRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.nodeId_ = nodeId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.groupId_ = groupId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.RaftRPCProto.ReadIndexRequest) {
+          return mergeFrom((protobuf.RaftRPCProto.ReadIndexRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.RaftRPCProto.ReadIndexRequest other) {
+        if (other == protobuf.RaftRPCProto.ReadIndexRequest.getDefaultInstance()) return this;
+        if (other.getNodeId() != 0) {
+          setNodeId(other.getNodeId());
+        }
+        if (other.getGroupId() != 0) {
+          setGroupId(other.getGroupId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                nodeId_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                groupId_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int nodeId_ ;
+      /**
+       * <code>int32 nodeId = 1;</code>
+       * @return The nodeId.
+       */
+      @java.lang.Override
+      public int getNodeId() {
+        return nodeId_;
+      }
+      /**
+       * <code>int32 nodeId = 1;</code>
+       * @param value The nodeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNodeId(int value) {
+
+        nodeId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 nodeId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNodeId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        nodeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int groupId_ ;
+      /**
+       * <code>int32 groupId = 2;</code>
+       * @return The groupId.
+       */
+      @java.lang.Override
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>int32 groupId = 2;</code>
+       * @param value The groupId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroupId(int value) {
+
+        groupId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 groupId = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:raftrpc.ReadIndexRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:raftrpc.ReadIndexRequest)
+    private static final protobuf.RaftRPCProto.ReadIndexRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.ReadIndexRequest();
+    }
+
+    public static protobuf.RaftRPCProto.ReadIndexRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ReadIndexRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ReadIndexRequest>() {
+      @java.lang.Override
+      public ReadIndexRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ReadIndexRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ReadIndexRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.RaftRPCProto.ReadIndexRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ReadIndexResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.ReadIndexResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    int getTerm();
+
+    /**
+     * <code>bool success = 2;</code>
+     * @return The success.
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>int32 readIndex = 3;</code>
+     * @return The readIndex.
+     */
+    int getReadIndex();
+  }
+  /**
+   * Protobuf type {@code raftrpc.ReadIndexResponse}
+   */
+  public static final class ReadIndexResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:raftrpc.ReadIndexResponse)
+      ReadIndexResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ReadIndexResponse.newBuilder() to construct.
+    private ReadIndexResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ReadIndexResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ReadIndexResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_ReadIndexResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_ReadIndexResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.RaftRPCProto.ReadIndexResponse.class, protobuf.RaftRPCProto.ReadIndexResponse.Builder.class);
+    }
+
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_ = 0;
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    @java.lang.Override
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 2;
+    private boolean success_ = false;
+    /**
+     * <code>bool success = 2;</code>
+     * @return The success.
+     */
+    @java.lang.Override
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int READINDEX_FIELD_NUMBER = 3;
+    private int readIndex_ = 0;
+    /**
+     * <code>int32 readIndex = 3;</code>
+     * @return The readIndex.
+     */
+    @java.lang.Override
+    public int getReadIndex() {
+      return readIndex_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (term_ != 0) {
+        output.writeInt32(1, term_);
+      }
+      if (success_ != false) {
+        output.writeBool(2, success_);
+      }
+      if (readIndex_ != 0) {
+        output.writeInt32(3, readIndex_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, term_);
+      }
+      if (success_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, success_);
+      }
+      if (readIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, readIndex_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.RaftRPCProto.ReadIndexResponse)) {
+        return super.equals(obj);
+      }
+      protobuf.RaftRPCProto.ReadIndexResponse other = (protobuf.RaftRPCProto.ReadIndexResponse) obj;
+
+      if (getTerm()
+          != other.getTerm()) return false;
+      if (getSuccess()
+          != other.getSuccess()) return false;
+      if (getReadIndex()
+          != other.getReadIndex()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSuccess());
+      hash = (37 * hash) + READINDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getReadIndex();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.RaftRPCProto.ReadIndexResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.ReadIndexResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.RaftRPCProto.ReadIndexResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raftrpc.ReadIndexResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:raftrpc.ReadIndexResponse)
+        protobuf.RaftRPCProto.ReadIndexResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_ReadIndexResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_ReadIndexResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.RaftRPCProto.ReadIndexResponse.class, protobuf.RaftRPCProto.ReadIndexResponse.Builder.class);
+      }
+
+      // Construct using protobuf.RaftRPCProto.ReadIndexResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        term_ = 0;
+        success_ = false;
+        readIndex_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_ReadIndexResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.ReadIndexResponse getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.ReadIndexResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.ReadIndexResponse build() {
+        protobuf.RaftRPCProto.ReadIndexResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.ReadIndexResponse buildPartial() {
+        protobuf.RaftRPCProto.ReadIndexResponse result = new protobuf.RaftRPCProto.ReadIndexResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(protobuf.RaftRPCProto.ReadIndexResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.term_ = term_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.success_ = success_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.readIndex_ = readIndex_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.RaftRPCProto.ReadIndexResponse) {
+          return mergeFrom((protobuf.RaftRPCProto.ReadIndexResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.RaftRPCProto.ReadIndexResponse other) {
+        if (other == protobuf.RaftRPCProto.ReadIndexResponse.getDefaultInstance()) return this;
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        if (other.getSuccess() != false) {
+          setSuccess(other.getSuccess());
+        }
+        if (other.getReadIndex() != 0) {
+          setReadIndex(other.getReadIndex());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                term_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                success_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                readIndex_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int term_ ;
+      /**
+       * <code>int32 term = 1;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(int value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean success_ ;
+      /**
+       * <code>bool success = 2;</code>
+       * @return The success.
+       */
+      @java.lang.Override
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>bool success = 2;</code>
+       * @param value The success to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSuccess(boolean value) {
+
+        success_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool success = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int readIndex_ ;
+      /**
+       * <code>int32 readIndex = 3;</code>
+       * @return The readIndex.
+       */
+      @java.lang.Override
+      public int getReadIndex() {
+        return readIndex_;
+      }
+      /**
+       * <code>int32 readIndex = 3;</code>
+       * @param value The readIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReadIndex(int value) {
+
+        readIndex_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 readIndex = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReadIndex() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        readIndex_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:raftrpc.ReadIndexResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:raftrpc.ReadIndexResponse)
+    private static final protobuf.RaftRPCProto.ReadIndexResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.ReadIndexResponse();
+    }
+
+    public static protobuf.RaftRPCProto.ReadIndexResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ReadIndexResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ReadIndexResponse>() {
+      @java.lang.Override
+      public ReadIndexResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ReadIndexResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ReadIndexResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.RaftRPCProto.ReadIndexResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TimeoutNowRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.TimeoutNowRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    int getTerm();
+
+    /**
+     * <code>int32 leaderId = 2;</code>
+     * @return The leaderId.
+     */
+    int getLeaderId();
+
+    /**
+     * <code>int32 groupId = 3;</code>
+     * @return The groupId.
+     */
+    int getGroupId();
+  }
+  /**
+   * Protobuf type {@code raftrpc.TimeoutNowRequest}
+   */
+  public static final class TimeoutNowRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:raftrpc.TimeoutNowRequest)
+      TimeoutNowRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TimeoutNowRequest.newBuilder() to construct.
+    private TimeoutNowRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TimeoutNowRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TimeoutNowRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_TimeoutNowRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_TimeoutNowRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.RaftRPCProto.TimeoutNowRequest.class, protobuf.RaftRPCProto.TimeoutNowRequest.Builder.class);
+    }
+
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_ = 0;
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    @java.lang.Override
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int LEADERID_FIELD_NUMBER = 2;
+    private int leaderId_ = 0;
+    /**
+     * <code>int32 leaderId = 2;</code>
+     * @return The leaderId.
+     */
+    @java.lang.Override
+    public int getLeaderId() {
+      return leaderId_;
+    }
+
+    public static final int GROUPID_FIELD_NUMBER = 3;
+    private int groupId_ = 0;
+    /**
+     * <code>int32 groupId = 3;</code>
+     * @return The groupId.
+     */
+    @java.lang.Override
+    public int getGroupId() {
+      return groupId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (term_ != 0) {
+        output.writeInt32(1, term_);
+      }
+      if (leaderId_ != 0) {
+        output.writeInt32(2, leaderId_);
+      }
+      if (groupId_ != 0) {
+        output.writeInt32(3, groupId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, term_);
+      }
+      if (leaderId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, leaderId_);
+      }
+      if (groupId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, groupId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.RaftRPCProto.TimeoutNowRequest)) {
+        return super.equals(obj);
+      }
+      protobuf.RaftRPCProto.TimeoutNowRequest other = (protobuf.RaftRPCProto.TimeoutNowRequest) obj;
+
+      if (getTerm()
+          != other.getTerm()) return false;
+      if (getLeaderId()
+          != other.getLeaderId()) return false;
+      if (getGroupId()
+          != other.getGroupId()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + LEADERID_FIELD_NUMBER;
+      hash = (53 * hash) + getLeaderId();
+      hash = (37 * hash) + GROUPID_FIELD_NUMBER;
+      hash = (53 * hash) + getGroupId();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.RaftRPCProto.TimeoutNowRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.RaftRPCProto.TimeoutNowRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raftrpc.TimeoutNowRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:raftrpc.TimeoutNowRequest)
+        protobuf.RaftRPCProto.TimeoutNowRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_TimeoutNowRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_TimeoutNowRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.RaftRPCProto.TimeoutNowRequest.class, protobuf.RaftRPCProto.TimeoutNowRequest.Builder.class);
+      }
+
+      // Construct using protobuf.RaftRPCProto.TimeoutNowRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        term_ = 0;
+        leaderId_ = 0;
+        groupId_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_TimeoutNowRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.TimeoutNowRequest getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.TimeoutNowRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.TimeoutNowRequest build() {
+        protobuf.RaftRPCProto.TimeoutNowRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.TimeoutNowRequest buildPartial() {
+        protobuf.RaftRPCProto.TimeoutNowRequest result = new protobuf.RaftRPCProto.TimeoutNowRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(protobuf.RaftRPCProto.TimeoutNowRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.term_ = term_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.leaderId_ = leaderId_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.groupId_ = groupId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.RaftRPCProto.TimeoutNowRequest) {
+          return mergeFrom((protobuf.RaftRPCProto.TimeoutNowRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.RaftRPCProto.TimeoutNowRequest other) {
+        if (other == protobuf.RaftRPCProto.TimeoutNowRequest.getDefaultInstance()) return this;
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        if (other.getLeaderId() != 0) {
+          setLeaderId(other.getLeaderId());
+        }
+        if (other.getGroupId() != 0) {
+          setGroupId(other.getGroupId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                term_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                leaderId_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                groupId_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int term_ ;
+      /**
+       * <code>int32 term = 1;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(int value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int leaderId_ ;
+      /**
+       * <code>int32 leaderId = 2;</code>
+       * @return The leaderId.
+       */
+      @java.lang.Override
+      public int getLeaderId() {
+        return leaderId_;
+      }
+      /**
+       * <code>int32 leaderId = 2;</code>
+       * @param value The leaderId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLeaderId(int value) {
+
+        leaderId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 leaderId = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLeaderId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        leaderId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int groupId_ ;
+      /**
+       * <code>int32 groupId = 3;</code>
+       * @return The groupId.
+       */
+      @java.lang.Override
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>int32 groupId = 3;</code>
+       * @param value The groupId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroupId(int value) {
+
+        groupId_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 groupId = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:raftrpc.TimeoutNowRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:raftrpc.TimeoutNowRequest)
+    private static final protobuf.RaftRPCProto.TimeoutNowRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.TimeoutNowRequest();
+    }
+
+    public static protobuf.RaftRPCProto.TimeoutNowRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TimeoutNowRequest>
+        PARSER = new com.google.protobuf.AbstractParser<TimeoutNowRequest>() {
+      @java.lang.Override
+      public TimeoutNowRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<TimeoutNowRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TimeoutNowRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.RaftRPCProto.TimeoutNowRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TimeoutNowResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.TimeoutNowResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    int getTerm();
+  }
+  /**
+   * Protobuf type {@code raftrpc.TimeoutNowResponse}
+   */
+  public static final class TimeoutNowResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:raftrpc.TimeoutNowResponse)
+      TimeoutNowResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TimeoutNowResponse.newBuilder() to construct.
+    private TimeoutNowResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TimeoutNowResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TimeoutNowResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_TimeoutNowResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_TimeoutNowResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.RaftRPCProto.TimeoutNowResponse.class, protobuf.RaftRPCProto.TimeoutNowResponse.Builder.class);
+    }
+
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_ = 0;
+    /**
+     * <code>int32 term = 1;</code>
+     * @return The term.
+     */
+    @java.lang.Override
+    public int getTerm() {
+      return term_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (term_ != 0) {
+        output.writeInt32(1, term_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, term_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.RaftRPCProto.TimeoutNowResponse)) {
+        return super.equals(obj);
+      }
+      protobuf.RaftRPCProto.TimeoutNowResponse other = (protobuf.RaftRPCProto.TimeoutNowResponse) obj;
+
+      if (getTerm()
+          != other.getTerm()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.RaftRPCProto.TimeoutNowResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.TimeoutNowResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.RaftRPCProto.TimeoutNowResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raftrpc.TimeoutNowResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:raftrpc.TimeoutNowResponse)
+        protobuf.RaftRPCProto.TimeoutNowResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_TimeoutNowResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_TimeoutNowResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.RaftRPCProto.TimeoutNowResponse.class, protobuf.RaftRPCProto.TimeoutNowResponse.Builder.class);
+      }
+
+      // Construct using protobuf.RaftRPCProto.TimeoutNowResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        term_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_TimeoutNowResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.TimeoutNowResponse getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.TimeoutNowResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.TimeoutNowResponse build() {
+        protobuf.RaftRPCProto.TimeoutNowResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.TimeoutNowResponse buildPartial() {
+        protobuf.RaftRPCProto.TimeoutNowResponse result = new protobuf.RaftRPCProto.TimeoutNowResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(protobuf.RaftRPCProto.TimeoutNowResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.term_ = term_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.RaftRPCProto.TimeoutNowResponse) {
+          return mergeFrom((protobuf.RaftRPCProto.TimeoutNowResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.RaftRPCProto.TimeoutNowResponse other) {
+        if (other == protobuf.RaftRPCProto.TimeoutNowResponse.getDefaultInstance()) return this;
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                term_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int term_ ;
+      /**
+       * <code>int32 term = 1;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(int value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:raftrpc.TimeoutNowResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:raftrpc.TimeoutNowResponse)
+    private static final protobuf.RaftRPCProto.TimeoutNowResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.TimeoutNowResponse();
+    }
+
+    public static protobuf.RaftRPCProto.TimeoutNowResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TimeoutNowResponse>
+        PARSER = new com.google.protobuf.AbstractParser<TimeoutNowResponse>() {
+      @java.lang.Override
+      public TimeoutNowResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<TimeoutNowResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TimeoutNowResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.RaftRPCProto.TimeoutNowResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ChangeMemberRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.ChangeMemberRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool remove = 1;</code>
+     * @return The remove.
+     */
+    boolean getRemove();
+
+    /**
+     * <code>int32 id = 2;</code>
+     * @return The id.
+     */
+    int getId();
+
+    /**
+     * <code>string address = 3;</code>
+     * @return The address.
+     */
+    java.lang.String getAddress();
+    /**
+     * <code>string address = 3;</code>
+     * @return The bytes for address.
+     */
+    com.google.protobuf.ByteString
+        getAddressBytes();
+
+    /**
+     * <code>int32 rpcPort = 4;</code>
+     * @return The rpcPort.
+     */
+    int getRpcPort();
+
+    /**
+     * <code>int32 kvPort = 5;</code>
+     * @return The kvPort.
+     */
+    int getKvPort();
+
+    /**
+     * <code>bool learner = 6;</code>
+     * @return The learner.
+     */
+    boolean getLearner();
+
+    /**
+     * <code>int32 groupId = 7;</code>
+     * @return The groupId.
+     */
+    int getGroupId();
+  }
+  /**
+   * Protobuf type {@code raftrpc.ChangeMemberRequest}
+   */
+  public static final class ChangeMemberRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:raftrpc.ChangeMemberRequest)
+      ChangeMemberRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ChangeMemberRequest.newBuilder() to construct.
+    private ChangeMemberRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ChangeMemberRequest() {
+      address_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ChangeMemberRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_ChangeMemberRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_ChangeMemberRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.RaftRPCProto.ChangeMemberRequest.class, protobuf.RaftRPCProto.ChangeMemberRequest.Builder.class);
+    }
+
+    public static final int REMOVE_FIELD_NUMBER = 1;
+    private boolean remove_ = false;
+    /**
+     * <code>bool remove = 1;</code>
+     * @return The remove.
+     */
+    @java.lang.Override
+    public boolean getRemove() {
+      return remove_;
+    }
+
+    public static final int ID_FIELD_NUMBER = 2;
+    private int id_ = 0;
+    /**
+     * <code>int32 id = 2;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public int getId() {
+      return id_;
+    }
+
+    public static final int ADDRESS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object address_ = "";
+    /**
+     * <code>string address = 3;</code>
+     * @return The address.
+     */
+    @java.lang.Override
+    public java.lang.String getAddress() {
+      java.lang.Object ref = address_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        address_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string address = 3;</code>
+     * @return The bytes for address.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getAddressBytes() {
+      java.lang.Object ref = address_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        address_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RPCPORT_FIELD_NUMBER = 4;
+    private int rpcPort_ = 0;
+    /**
+     * <code>int32 rpcPort = 4;</code>
+     * @return The rpcPort.
+     */
+    @java.lang.Override
+    public int getRpcPort() {
+      return rpcPort_;
+    }
+
+    public static final int KVPORT_FIELD_NUMBER = 5;
+    private int kvPort_ = 0;
+    /**
+     * <code>int32 kvPort = 5;</code>
+     * @return The kvPort.
+     */
+    @java.lang.Override
+    public int getKvPort() {
+      return kvPort_;
+    }
+
+    public static final int LEARNER_FIELD_NUMBER = 6;
+    private boolean learner_ = false;
+    /**
+     * <code>bool learner = 6;</code>
+     * @return The learner.
+     */
+    @java.lang.Override
+    public boolean getLearner() {
+      return learner_;
+    }
+
+    public static final int GROUPID_FIELD_NUMBER = 7;
+    private int groupId_ = 0;
+    /**
+     * <code>int32 groupId = 7;</code>
+     * @return The groupId.
+     */
+    @java.lang.Override
+    public int getGroupId() {
+      return groupId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (remove_ != false) {
+        output.writeBool(1, remove_);
+      }
+      if (id_ != 0) {
+        output.writeInt32(2, id_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(address_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, address_);
+      }
+      if (rpcPort_ != 0) {
+        output.writeInt32(4, rpcPort_);
+      }
+      if (kvPort_ != 0) {
+        output.writeInt32(5, kvPort_);
+      }
+      if (learner_ != false) {
+        output.writeBool(6, learner_);
+      }
+      if (groupId_ != 0) {
+        output.writeInt32(7, groupId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (remove_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, remove_);
+      }
+      if (id_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, id_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(address_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, address_);
+      }
+      if (rpcPort_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, rpcPort_);
+      }
+      if (kvPort_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, kvPort_);
+      }
+      if (learner_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, learner_);
+      }
+      if (groupId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, groupId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.RaftRPCProto.ChangeMemberRequest)) {
+        return super.equals(obj);
+      }
+      protobuf.RaftRPCProto.ChangeMemberRequest other = (protobuf.RaftRPCProto.ChangeMemberRequest) obj;
+
+      if (getRemove()
+          != other.getRemove()) return false;
+      if (getId()
+          != other.getId()) return false;
+      if (!getAddress()
+          .equals(other.getAddress())) return false;
+      if (getRpcPort()
+          != other.getRpcPort()) return false;
+      if (getKvPort()
+          != other.getKvPort()) return false;
+      if (getLearner()
+          != other.getLearner()) return false;
+      if (getGroupId()
+          != other.getGroupId()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REMOVE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getRemove());
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId();
+      hash = (37 * hash) + ADDRESS_FIELD_NUMBER;
+      hash = (53 * hash) + getAddress().hashCode();
+      hash = (37 * hash) + RPCPORT_FIELD_NUMBER;
+      hash = (53 * hash) + getRpcPort();
+      hash = (37 * hash) + KVPORT_FIELD_NUMBER;
+      hash = (53 * hash) + getKvPort();
+      hash = (37 * hash) + LEARNER_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getLearner());
+      hash = (37 * hash) + GROUPID_FIELD_NUMBER;
+      hash = (53 * hash) + getGroupId();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.RaftRPCProto.ChangeMemberRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.RaftRPCProto.ChangeMemberRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raftrpc.ChangeMemberRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:raftrpc.ChangeMemberRequest)
+        protobuf.RaftRPCProto.ChangeMemberRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_ChangeMemberRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_ChangeMemberRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.RaftRPCProto.ChangeMemberRequest.class, protobuf.RaftRPCProto.ChangeMemberRequest.Builder.class);
+      }
+
+      // Construct using protobuf.RaftRPCProto.ChangeMemberRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        remove_ = false;
+        id_ = 0;
+        address_ = "";
+        rpcPort_ = 0;
+        kvPort_ = 0;
+        learner_ = false;
+        groupId_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_ChangeMemberRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.ChangeMemberRequest getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.ChangeMemberRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.ChangeMemberRequest build() {
+        protobuf.RaftRPCProto.ChangeMemberRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.ChangeMemberRequest buildPartial() {
+        protobuf.RaftRPCProto.ChangeMemberRequest result = new protobuf.RaftRPCProto.ChangeMemberRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(protobuf.RaftRPCProto.ChangeMemberRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.remove_ = remove_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.id_ = id_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.address_ = address_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.rpcPort_ = rpcPort_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.kvPort_ = kvPort_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.learner_ = learner_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.groupId_ = groupId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.RaftRPCProto.ChangeMemberRequest) {
+          return mergeFrom((protobuf.RaftRPCProto.ChangeMemberRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.RaftRPCProto.ChangeMemberRequest other) {
+        if (other == protobuf.RaftRPCProto.ChangeMemberRequest.getDefaultInstance()) return this;
+        if (other.getRemove() != false) {
+          setRemove(other.getRemove());
+        }
+        if (other.getId() != 0) {
+          setId(other.getId());
+        }
+        if (!other.getAddress().isEmpty()) {
+          address_ = other.address_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.getRpcPort() != 0) {
+          setRpcPort(other.getRpcPort());
+        }
+        if (other.getKvPort() != 0) {
+          setKvPort(other.getKvPort());
+        }
+        if (other.getLearner() != false) {
+          setLearner(other.getLearner());
+        }
+        if (other.getGroupId() != 0) {
+          setGroupId(other.getGroupId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                remove_ = input.readBool();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                id_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                address_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                rpcPort_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                kvPort_ = input.readInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                learner_ = input.readBool();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                groupId_ = input.readInt32();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean remove_ ;
+      /**
+       * <code>bool remove = 1;</code>
+       * @return The remove.
+       */
+      @java.lang.Override
+      public boolean getRemove() {
+        return remove_;
+      }
+      /**
+       * <code>bool remove = 1;</code>
+       * @param value The remove to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemove(boolean value) {
+
+        remove_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool remove = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemove() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        remove_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int id_ ;
+      /**
+       * <code>int32 id = 2;</code>
+       * @return The id.
+       */
+      @java.lang.Override
+      public int getId() {
+        return id_;
+      }
+      /**
+       * <code>int32 id = 2;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(int value) {
+
+        id_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        id_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object address_ = "";
+      /**
+       * <code>string address = 3;</code>
+       * @return The address.
+       */
+      public java.lang.String getAddress() {
+        java.lang.Object ref = address_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          address_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string address = 3;</code>
+       * @return The bytes for address.
+       */
+      public com.google.protobuf.ByteString
+          getAddressBytes() {
+        java.lang.Object ref = address_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          address_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string address = 3;</code>
+       * @param value The address to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAddress(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        address_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string address = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAddress() {
+        address_ = getDefaultInstance().getAddress();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string address = 3;</code>
+       * @param value The bytes for address to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAddressBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        address_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private int rpcPort_ ;
+      /**
+       * <code>int32 rpcPort = 4;</code>
+       * @return The rpcPort.
+       */
+      @java.lang.Override
+      public int getRpcPort() {
+        return rpcPort_;
+      }
+      /**
+       * <code>int32 rpcPort = 4;</code>
+       * @param value The rpcPort to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRpcPort(int value) {
+
+        rpcPort_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 rpcPort = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRpcPort() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        rpcPort_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int kvPort_ ;
+      /**
+       * <code>int32 kvPort = 5;</code>
+       * @return The kvPort.
+       */
+      @java.lang.Override
+      public int getKvPort() {
+        return kvPort_;
+      }
+      /**
+       * <code>int32 kvPort = 5;</code>
+       * @param value The kvPort to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKvPort(int value) {
+
+        kvPort_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 kvPort = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearKvPort() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        kvPort_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean learner_ ;
+      /**
+       * <code>bool learner = 6;</code>
+       * @return The learner.
+       */
+      @java.lang.Override
+      public boolean getLearner() {
+        return learner_;
+      }
+      /**
+       * <code>bool learner = 6;</code>
+       * @param value The learner to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLearner(boolean value) {
+
+        learner_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool learner = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLearner() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        learner_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int groupId_ ;
+      /**
+       * <code>int32 groupId = 7;</code>
+       * @return The groupId.
+       */
+      @java.lang.Override
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>int32 groupId = 7;</code>
+       * @param value The groupId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroupId(int value) {
+
+        groupId_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 groupId = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:raftrpc.ChangeMemberRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:raftrpc.ChangeMemberRequest)
+    private static final protobuf.RaftRPCProto.ChangeMemberRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.ChangeMemberRequest();
+    }
+
+    public static protobuf.RaftRPCProto.ChangeMemberRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ChangeMemberRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ChangeMemberRequest>() {
+      @java.lang.Override
+      public ChangeMemberRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ChangeMemberRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChangeMemberRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.RaftRPCProto.ChangeMemberRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ChangeMemberResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.ChangeMemberResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool success = 1;</code>
+     * @return The success.
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>int32 leaderId = 2;</code>
+     * @return The leaderId.
+     */
+    int getLeaderId();
+  }
+  /**
+   * Protobuf type {@code raftrpc.ChangeMemberResponse}
+   */
+  public static final class ChangeMemberResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:raftrpc.ChangeMemberResponse)
+      ChangeMemberResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ChangeMemberResponse.newBuilder() to construct.
+    private ChangeMemberResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ChangeMemberResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ChangeMemberResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_ChangeMemberResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_ChangeMemberResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.RaftRPCProto.ChangeMemberResponse.class, protobuf.RaftRPCProto.ChangeMemberResponse.Builder.class);
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 1;
+    private boolean success_ = false;
+    /**
+     * <code>bool success = 1;</code>
+     * @return The success.
+     */
+    @java.lang.Override
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int LEADERID_FIELD_NUMBER = 2;
+    private int leaderId_ = 0;
+    /**
+     * <code>int32 leaderId = 2;</code>
+     * @return The leaderId.
+     */
+    @java.lang.Override
+    public int getLeaderId() {
+      return leaderId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (success_ != false) {
+        output.writeBool(1, success_);
+      }
+      if (leaderId_ != 0) {
+        output.writeInt32(2, leaderId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (success_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, success_);
+      }
+      if (leaderId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, leaderId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.RaftRPCProto.ChangeMemberResponse)) {
+        return super.equals(obj);
+      }
+      protobuf.RaftRPCProto.ChangeMemberResponse other = (protobuf.RaftRPCProto.ChangeMemberResponse) obj;
+
+      if (getSuccess()
+          != other.getSuccess()) return false;
+      if (getLeaderId()
+          != other.getLeaderId()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSuccess());
+      hash = (37 * hash) + LEADERID_FIELD_NUMBER;
+      hash = (53 * hash) + getLeaderId();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.RaftRPCProto.ChangeMemberResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.ChangeMemberResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.RaftRPCProto.ChangeMemberResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raftrpc.ChangeMemberResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:raftrpc.ChangeMemberResponse)
+        protobuf.RaftRPCProto.ChangeMemberResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_ChangeMemberResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_ChangeMemberResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.RaftRPCProto.ChangeMemberResponse.class, protobuf.RaftRPCProto.ChangeMemberResponse.Builder.class);
+      }
+
+      // Construct using protobuf.RaftRPCProto.ChangeMemberResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        success_ = false;
+        leaderId_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_ChangeMemberResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.ChangeMemberResponse getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.ChangeMemberResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.ChangeMemberResponse build() {
+        protobuf.RaftRPCProto.ChangeMemberResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.ChangeMemberResponse buildPartial() {
+        protobuf.RaftRPCProto.ChangeMemberResponse result = new protobuf.RaftRPCProto.ChangeMemberResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(protobuf.RaftRPCProto.ChangeMemberResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.success_ = success_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.leaderId_ = leaderId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.RaftRPCProto.ChangeMemberResponse) {
+          return mergeFrom((protobuf.RaftRPCProto.ChangeMemberResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.RaftRPCProto.ChangeMemberResponse other) {
+        if (other == protobuf.RaftRPCProto.ChangeMemberResponse.getDefaultInstance()) return this;
+        if (other.getSuccess() != false) {
+          setSuccess(other.getSuccess());
+        }
+        if (other.getLeaderId() != 0) {
+          setLeaderId(other.getLeaderId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                success_ = input.readBool();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                leaderId_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean success_ ;
+      /**
+       * <code>bool success = 1;</code>
+       * @return The success.
+       */
+      @java.lang.Override
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>bool success = 1;</code>
+       * @param value The success to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSuccess(boolean value) {
+
+        success_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool success = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int leaderId_ ;
+      /**
+       * <code>int32 leaderId = 2;</code>
+       * @return The leaderId.
+       */
+      @java.lang.Override
+      public int getLeaderId() {
+        return leaderId_;
+      }
+      /**
+       * <code>int32 leaderId = 2;</code>
+       * @param value The leaderId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLeaderId(int value) {
+
+        leaderId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 leaderId = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLeaderId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        leaderId_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:raftrpc.ChangeMemberResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:raftrpc.ChangeMemberResponse)
+    private static final protobuf.RaftRPCProto.ChangeMemberResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.ChangeMemberResponse();
+    }
+
+    public static protobuf.RaftRPCProto.ChangeMemberResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ChangeMemberResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ChangeMemberResponse>() {
+      @java.lang.Override
+      public ChangeMemberResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ChangeMemberResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChangeMemberResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.RaftRPCProto.ChangeMemberResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface HeartbeatRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.HeartbeatRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 nodeId = 1;</code>
+     * @return The nodeId.
+     */
+    int getNodeId();
+
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+     */
+    java.util.List<protobuf.RaftRPCProto.GroupHeartbeat> 
+        getHeartbeatsList();
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+     */
+    protobuf.RaftRPCProto.GroupHeartbeat getHeartbeats(int index);
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+     */
+    int getHeartbeatsCount();
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+     */
+    java.util.List<? extends protobuf.RaftRPCProto.GroupHeartbeatOrBuilder> 
+        getHeartbeatsOrBuilderList();
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+     */
+    protobuf.RaftRPCProto.GroupHeartbeatOrBuilder getHeartbeatsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code raftrpc.HeartbeatRequest}
+   */
+  public static final class HeartbeatRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:raftrpc.HeartbeatRequest)
+      HeartbeatRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use HeartbeatRequest.newBuilder() to construct.
+    private HeartbeatRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private HeartbeatRequest() {
+      heartbeats_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new HeartbeatRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_HeartbeatRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_HeartbeatRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.RaftRPCProto.HeartbeatRequest.class, protobuf.RaftRPCProto.HeartbeatRequest.Builder.class);
+    }
+
+    public static final int NODEID_FIELD_NUMBER = 1;
+    private int nodeId_ = 0;
+    /**
+     * <code>int32 nodeId = 1;</code>
+     * @return The nodeId.
+     */
+    @java.lang.Override
+    public int getNodeId() {
+      return nodeId_;
+    }
+
+    public static final int HEARTBEATS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<protobuf.RaftRPCProto.GroupHeartbeat> heartbeats_;
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<protobuf.RaftRPCProto.GroupHeartbeat> getHeartbeatsList() {
+      return heartbeats_;
+    }
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends protobuf.RaftRPCProto.GroupHeartbeatOrBuilder> 
+        getHeartbeatsOrBuilderList() {
+      return heartbeats_;
+    }
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+     */
+    @java.lang.Override
+    public int getHeartbeatsCount() {
+      return heartbeats_.size();
+    }
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+     */
+    @java.lang.Override
+    public protobuf.RaftRPCProto.GroupHeartbeat getHeartbeats(int index) {
+      return heartbeats_.get(index);
+    }
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+     */
+    @java.lang.Override
+    public protobuf.RaftRPCProto.GroupHeartbeatOrBuilder getHeartbeatsOrBuilder(
+        int index) {
+      return heartbeats_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (nodeId_ != 0) {
+        output.writeInt32(1, nodeId_);
+      }
+      for (int i = 0; i < heartbeats_.size(); i++) {
+        output.writeMessage(2, heartbeats_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (nodeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, nodeId_);
+      }
+      for (int i = 0; i < heartbeats_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, heartbeats_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.RaftRPCProto.HeartbeatRequest)) {
+        return super.equals(obj);
+      }
+      protobuf.RaftRPCProto.HeartbeatRequest other = (protobuf.RaftRPCProto.HeartbeatRequest) obj;
+
+      if (getNodeId()
+          != other.getNodeId()) return false;
+      if (!getHeartbeatsList()
+          .equals(other.getHeartbeatsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NODEID_FIELD_NUMBER;
+      hash = (53 * hash) + getNodeId();
+      if (getHeartbeatsCount() > 0) {
+        hash = (37 * hash) + HEARTBEATS_FIELD_NUMBER;
+        hash = (53 * hash) + getHeartbeatsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.RaftRPCProto.HeartbeatRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.RaftRPCProto.HeartbeatRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raftrpc.HeartbeatRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:raftrpc.HeartbeatRequest)
+        protobuf.RaftRPCProto.HeartbeatRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_HeartbeatRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_HeartbeatRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.RaftRPCProto.HeartbeatRequest.class, protobuf.RaftRPCProto.HeartbeatRequest.Builder.class);
+      }
+
+      // Construct using protobuf.RaftRPCProto.HeartbeatRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        nodeId_ = 0;
+        if (heartbeatsBuilder_ == null) {
+          heartbeats_ = java.util.Collections.emptyList();
+        } else {
+          heartbeats_ = null;
+          heartbeatsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_HeartbeatRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.HeartbeatRequest getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.HeartbeatRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.HeartbeatRequest build() {
+        protobuf.RaftRPCProto.HeartbeatRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.HeartbeatRequest buildPartial() {
+        protobuf.RaftRPCProto.HeartbeatRequest result = new protobuf.RaftRPCProto.HeartbeatRequest(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(protobuf.RaftRPCProto.HeartbeatRequest result) {
+        if (heartbeatsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            heartbeats_ = java.util.Collections.unmodifiableList(heartbeats_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.heartbeats_ = heartbeats_;
+        } else {
+          result.heartbeats_ = heartbeatsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(protobuf.RaftRPCProto.HeartbeatRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.nodeId_ = nodeId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.RaftRPCProto.HeartbeatRequest) {
+          return mergeFrom((protobuf.RaftRPCProto.HeartbeatRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.RaftRPCProto.HeartbeatRequest other) {
+        if (other == protobuf.RaftRPCProto.HeartbeatRequest.getDefaultInstance()) return this;
+        if (other.getNodeId() != 0) {
+          setNodeId(other.getNodeId());
+        }
+        if (heartbeatsBuilder_ == null) {
+          if (!other.heartbeats_.isEmpty()) {
+            if (heartbeats_.isEmpty()) {
+              heartbeats_ = other.heartbeats_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureHeartbeatsIsMutable();
+              heartbeats_.addAll(other.heartbeats_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.heartbeats_.isEmpty()) {
+            if (heartbeatsBuilder_.isEmpty()) {
+              heartbeatsBuilder_.dispose();
+              heartbeatsBuilder_ = null;
+              heartbeats_ = other.heartbeats_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              heartbeatsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getHeartbeatsFieldBuilder() : null;
+            } else {
+              heartbeatsBuilder_.addAllMessages(other.heartbeats_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                nodeId_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                protobuf.RaftRPCProto.GroupHeartbeat m =
+                    input.readMessage(
+                        protobuf.RaftRPCProto.GroupHeartbeat.parser(),
+                        extensionRegistry);
+                if (heartbeatsBuilder_ == null) {
+                  ensureHeartbeatsIsMutable();
+                  heartbeats_.add(m);
+                } else {
+                  heartbeatsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int nodeId_ ;
+      /**
+       * <code>int32 nodeId = 1;</code>
+       * @return The nodeId.
+       */
+      @java.lang.Override
+      public int getNodeId() {
+        return nodeId_;
+      }
+      /**
+       * <code>int32 nodeId = 1;</code>
+       * @param value The nodeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNodeId(int value) {
+
+        nodeId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 nodeId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNodeId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        nodeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<protobuf.RaftRPCProto.GroupHeartbeat> heartbeats_ =
+        java.util.Collections.emptyList();
+      private void ensureHeartbeatsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          heartbeats_ = new java.util.ArrayList<protobuf.RaftRPCProto.GroupHeartbeat>(heartbeats_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.RaftRPCProto.GroupHeartbeat, protobuf.RaftRPCProto.GroupHeartbeat.Builder, protobuf.RaftRPCProto.GroupHeartbeatOrBuilder> heartbeatsBuilder_;
+
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public java.util.List<protobuf.RaftRPCProto.GroupHeartbeat> getHeartbeatsList() {
+        if (heartbeatsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(heartbeats_);
+        } else {
+          return heartbeatsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public int getHeartbeatsCount() {
+        if (heartbeatsBuilder_ == null) {
+          return heartbeats_.size();
+        } else {
+          return heartbeatsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public protobuf.RaftRPCProto.GroupHeartbeat getHeartbeats(int index) {
+        if (heartbeatsBuilder_ == null) {
+          return heartbeats_.get(index);
+        } else {
+          return heartbeatsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public Builder setHeartbeats(
+          int index, protobuf.RaftRPCProto.GroupHeartbeat value) {
+        if (heartbeatsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureHeartbeatsIsMutable();
+          heartbeats_.set(index, value);
+          onChanged();
+        } else {
+          heartbeatsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public Builder setHeartbeats(
+          int index, protobuf.RaftRPCProto.GroupHeartbeat.Builder builderForValue) {
+        if (heartbeatsBuilder_ == null) {
+          ensureHeartbeatsIsMutable();
+          heartbeats_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          heartbeatsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public Builder addHeartbeats(protobuf.RaftRPCProto.GroupHeartbeat value) {
+        if (heartbeatsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureHeartbeatsIsMutable();
+          heartbeats_.add(value);
+          onChanged();
+        } else {
+          heartbeatsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public Builder addHeartbeats(
+          int index, protobuf.RaftRPCProto.GroupHeartbeat value) {
+        if (heartbeatsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureHeartbeatsIsMutable();
+          heartbeats_.add(index, value);
+          onChanged();
+        } else {
+          heartbeatsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public Builder addHeartbeats(
+          protobuf.RaftRPCProto.GroupHeartbeat.Builder builderForValue) {
+        if (heartbeatsBuilder_ == null) {
+          ensureHeartbeatsIsMutable();
+          heartbeats_.add(builderForValue.build());
+          onChanged();
+        } else {
+          heartbeatsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public Builder addHeartbeats(
+          int index, protobuf.RaftRPCProto.GroupHeartbeat.Builder builderForValue) {
+        if (heartbeatsBuilder_ == null) {
+          ensureHeartbeatsIsMutable();
+          heartbeats_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          heartbeatsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public Builder addAllHeartbeats(
+          java.lang.Iterable<? extends protobuf.RaftRPCProto.GroupHeartbeat> values) {
+        if (heartbeatsBuilder_ == null) {
+          ensureHeartbeatsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, heartbeats_);
+          onChanged();
+        } else {
+          heartbeatsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public Builder clearHeartbeats() {
+        if (heartbeatsBuilder_ == null) {
+          heartbeats_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          heartbeatsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public Builder removeHeartbeats(int index) {
+        if (heartbeatsBuilder_ == null) {
+          ensureHeartbeatsIsMutable();
+          heartbeats_.remove(index);
+          onChanged();
+        } else {
+          heartbeatsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public protobuf.RaftRPCProto.GroupHeartbeat.Builder getHeartbeatsBuilder(
+          int index) {
+        return getHeartbeatsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public protobuf.RaftRPCProto.GroupHeartbeatOrBuilder getHeartbeatsOrBuilder(
+          int index) {
+        if (heartbeatsBuilder_ == null) {
+          return heartbeats_.get(index);  } else {
+          return heartbeatsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public java.util.List<? extends protobuf.RaftRPCProto.GroupHeartbeatOrBuilder> 
+           getHeartbeatsOrBuilderList() {
+        if (heartbeatsBuilder_ != null) {
+          return heartbeatsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(heartbeats_);
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public protobuf.RaftRPCProto.GroupHeartbeat.Builder addHeartbeatsBuilder() {
+        return getHeartbeatsFieldBuilder().addBuilder(
+            protobuf.RaftRPCProto.GroupHeartbeat.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public protobuf.RaftRPCProto.GroupHeartbeat.Builder addHeartbeatsBuilder(
+          int index) {
+        return getHeartbeatsFieldBuilder().addBuilder(
+            index, protobuf.RaftRPCProto.GroupHeartbeat.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeat heartbeats = 2;</code>
+       */
+      public java.util.List<protobuf.RaftRPCProto.GroupHeartbeat.Builder> 
+           getHeartbeatsBuilderList() {
+        return getHeartbeatsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.RaftRPCProto.GroupHeartbeat, protobuf.RaftRPCProto.GroupHeartbeat.Builder, protobuf.RaftRPCProto.GroupHeartbeatOrBuilder> 
+          getHeartbeatsFieldBuilder() {
+        if (heartbeatsBuilder_ == null) {
+          heartbeatsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              protobuf.RaftRPCProto.GroupHeartbeat, protobuf.RaftRPCProto.GroupHeartbeat.Builder, protobuf.RaftRPCProto.GroupHeartbeatOrBuilder>(
+                  heartbeats_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          heartbeats_ = null;
+        }
+        return heartbeatsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:raftrpc.HeartbeatRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:raftrpc.HeartbeatRequest)
+    private static final protobuf.RaftRPCProto.HeartbeatRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.HeartbeatRequest();
+    }
+
+    public static protobuf.RaftRPCProto.HeartbeatRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<HeartbeatRequest>
+        PARSER = new com.google.protobuf.AbstractParser<HeartbeatRequest>() {
+      @java.lang.Override
+      public HeartbeatRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<HeartbeatRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<HeartbeatRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.RaftRPCProto.HeartbeatRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GroupHeartbeatOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.GroupHeartbeat)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 groupId = 1;</code>
+     * @return The groupId.
+     */
+    int getGroupId();
+
+    /**
+     * <code>int32 term = 2;</code>
+     * @return The term.
+     */
+    int getTerm();
+
+    /**
+     * <code>int32 commitIndex = 3;</code>
+     * @return The commitIndex.
+     */
+    int getCommitIndex();
+  }
+  /**
+   * Protobuf type {@code raftrpc.GroupHeartbeat}
+   */
+  public static final class GroupHeartbeat extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:raftrpc.GroupHeartbeat)
+      GroupHeartbeatOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GroupHeartbeat.newBuilder() to construct.
+    private GroupHeartbeat(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GroupHeartbeat() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GroupHeartbeat();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_GroupHeartbeat_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_GroupHeartbeat_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.RaftRPCProto.GroupHeartbeat.class, protobuf.RaftRPCProto.GroupHeartbeat.Builder.class);
+    }
+
+    public static final int GROUPID_FIELD_NUMBER = 1;
+    private int groupId_ = 0;
+    /**
+     * <code>int32 groupId = 1;</code>
+     * @return The groupId.
+     */
+    @java.lang.Override
+    public int getGroupId() {
+      return groupId_;
+    }
+
+    public static final int TERM_FIELD_NUMBER = 2;
+    private int term_ = 0;
+    /**
+     * <code>int32 term = 2;</code>
+     * @return The term.
+     */
+    @java.lang.Override
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int COMMITINDEX_FIELD_NUMBER = 3;
+    private int commitIndex_ = 0;
+    /**
+     * <code>int32 commitIndex = 3;</code>
+     * @return The commitIndex.
+     */
+    @java.lang.Override
+    public int getCommitIndex() {
+      return commitIndex_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (groupId_ != 0) {
+        output.writeInt32(1, groupId_);
+      }
+      if (term_ != 0) {
+        output.writeInt32(2, term_);
+      }
+      if (commitIndex_ != 0) {
+        output.writeInt32(3, commitIndex_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (groupId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, groupId_);
+      }
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, term_);
+      }
+      if (commitIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, commitIndex_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.RaftRPCProto.GroupHeartbeat)) {
+        return super.equals(obj);
+      }
+      protobuf.RaftRPCProto.GroupHeartbeat other = (protobuf.RaftRPCProto.GroupHeartbeat) obj;
+
+      if (getGroupId()
+          != other.getGroupId()) return false;
+      if (getTerm()
+          != other.getTerm()) return false;
+      if (getCommitIndex()
+          != other.getCommitIndex()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + GROUPID_FIELD_NUMBER;
+      hash = (53 * hash) + getGroupId();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + COMMITINDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getCommitIndex();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.RaftRPCProto.GroupHeartbeat parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.GroupHeartbeat parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.GroupHeartbeat parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.GroupHeartbeat parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.GroupHeartbeat parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.GroupHeartbeat parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.GroupHeartbeat parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.GroupHeartbeat parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.GroupHeartbeat parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.GroupHeartbeat parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.GroupHeartbeat parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.GroupHeartbeat parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.RaftRPCProto.GroupHeartbeat prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raftrpc.GroupHeartbeat}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:raftrpc.GroupHeartbeat)
+        protobuf.RaftRPCProto.GroupHeartbeatOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_GroupHeartbeat_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_GroupHeartbeat_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.RaftRPCProto.GroupHeartbeat.class, protobuf.RaftRPCProto.GroupHeartbeat.Builder.class);
+      }
+
+      // Construct using protobuf.RaftRPCProto.GroupHeartbeat.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        groupId_ = 0;
+        term_ = 0;
+        commitIndex_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_GroupHeartbeat_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.GroupHeartbeat getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.GroupHeartbeat.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.GroupHeartbeat build() {
+        protobuf.RaftRPCProto.GroupHeartbeat result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.GroupHeartbeat buildPartial() {
+        protobuf.RaftRPCProto.GroupHeartbeat result = new protobuf.RaftRPCProto.GroupHeartbeat(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(protobuf.RaftRPCProto.GroupHeartbeat result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.groupId_ = groupId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.term_ = term_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.commitIndex_ = commitIndex_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.RaftRPCProto.GroupHeartbeat) {
+          return mergeFrom((protobuf.RaftRPCProto.GroupHeartbeat)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.RaftRPCProto.GroupHeartbeat other) {
+        if (other == protobuf.RaftRPCProto.GroupHeartbeat.getDefaultInstance()) return this;
+        if (other.getGroupId() != 0) {
+          setGroupId(other.getGroupId());
+        }
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        if (other.getCommitIndex() != 0) {
+          setCommitIndex(other.getCommitIndex());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                groupId_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                term_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                commitIndex_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int groupId_ ;
+      /**
+       * <code>int32 groupId = 1;</code>
+       * @return The groupId.
+       */
+      @java.lang.Override
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>int32 groupId = 1;</code>
+       * @param value The groupId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroupId(int value) {
+
+        groupId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 groupId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int term_ ;
+      /**
+       * <code>int32 term = 2;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 2;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(int value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int commitIndex_ ;
+      /**
+       * <code>int32 commitIndex = 3;</code>
+       * @return The commitIndex.
+       */
+      @java.lang.Override
+      public int getCommitIndex() {
+        return commitIndex_;
+      }
+      /**
+       * <code>int32 commitIndex = 3;</code>
+       * @param value The commitIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommitIndex(int value) {
+
+        commitIndex_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 commitIndex = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCommitIndex() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        commitIndex_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:raftrpc.GroupHeartbeat)
+    }
+
+    // @@protoc_insertion_point(class_scope:raftrpc.GroupHeartbeat)
+    private static final protobuf.RaftRPCProto.GroupHeartbeat DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.GroupHeartbeat();
+    }
+
+    public static protobuf.RaftRPCProto.GroupHeartbeat getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GroupHeartbeat>
+        PARSER = new com.google.protobuf.AbstractParser<GroupHeartbeat>() {
+      @java.lang.Override
+      public GroupHeartbeat parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<GroupHeartbeat> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GroupHeartbeat> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.RaftRPCProto.GroupHeartbeat getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface HeartbeatResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.HeartbeatResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 nodeId = 1;</code>
+     * @return The nodeId.
+     */
+    int getNodeId();
+
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+     */
+    java.util.List<protobuf.RaftRPCProto.GroupHeartbeatResponse> 
+        getResponsesList();
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+     */
+    protobuf.RaftRPCProto.GroupHeartbeatResponse getResponses(int index);
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+     */
+    int getResponsesCount();
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+     */
+    java.util.List<? extends protobuf.RaftRPCProto.GroupHeartbeatResponseOrBuilder> 
+        getResponsesOrBuilderList();
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+     */
+    protobuf.RaftRPCProto.GroupHeartbeatResponseOrBuilder getResponsesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code raftrpc.HeartbeatResponse}
+   */
+  public static final class HeartbeatResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:raftrpc.HeartbeatResponse)
+      HeartbeatResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use HeartbeatResponse.newBuilder() to construct.
+    private HeartbeatResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private HeartbeatResponse() {
+      responses_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new HeartbeatResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_HeartbeatResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.RaftRPCProto.internal_static_raftrpc_HeartbeatResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.RaftRPCProto.HeartbeatResponse.class, protobuf.RaftRPCProto.HeartbeatResponse.Builder.class);
+    }
+
+    public static final int NODEID_FIELD_NUMBER = 1;
+    private int nodeId_ = 0;
+    /**
+     * <code>int32 nodeId = 1;</code>
+     * @return The nodeId.
+     */
+    @java.lang.Override
+    public int getNodeId() {
+      return nodeId_;
+    }
+
+    public static final int RESPONSES_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<protobuf.RaftRPCProto.GroupHeartbeatResponse> responses_;
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<protobuf.RaftRPCProto.GroupHeartbeatResponse> getResponsesList() {
+      return responses_;
+    }
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends protobuf.RaftRPCProto.GroupHeartbeatResponseOrBuilder> 
+        getResponsesOrBuilderList() {
+      return responses_;
+    }
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+     */
+    @java.lang.Override
+    public int getResponsesCount() {
+      return responses_.size();
+    }
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+     */
+    @java.lang.Override
+    public protobuf.RaftRPCProto.GroupHeartbeatResponse getResponses(int index) {
+      return responses_.get(index);
+    }
+    /**
+     * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+     */
+    @java.lang.Override
+    public protobuf.RaftRPCProto.GroupHeartbeatResponseOrBuilder getResponsesOrBuilder(
+        int index) {
+      return responses_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (nodeId_ != 0) {
+        output.writeInt32(1, nodeId_);
+      }
+      for (int i = 0; i < responses_.size(); i++) {
+        output.writeMessage(2, responses_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (nodeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, nodeId_);
+      }
+      for (int i = 0; i < responses_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, responses_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.RaftRPCProto.HeartbeatResponse)) {
+        return super.equals(obj);
+      }
+      protobuf.RaftRPCProto.HeartbeatResponse other = (protobuf.RaftRPCProto.HeartbeatResponse) obj;
+
+      if (getNodeId()
+          != other.getNodeId()) return false;
+      if (!getResponsesList()
+          .equals(other.getResponsesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NODEID_FIELD_NUMBER;
+      hash = (53 * hash) + getNodeId();
+      if (getResponsesCount() > 0) {
+        hash = (37 * hash) + RESPONSES_FIELD_NUMBER;
+        hash = (53 * hash) + getResponsesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.RaftRPCProto.HeartbeatResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.RaftRPCProto.HeartbeatResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.RaftRPCProto.HeartbeatResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raftrpc.HeartbeatResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:raftrpc.HeartbeatResponse)
+        protobuf.RaftRPCProto.HeartbeatResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_HeartbeatResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_HeartbeatResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.RaftRPCProto.HeartbeatResponse.class, protobuf.RaftRPCProto.HeartbeatResponse.Builder.class);
+      }
+
+      // Construct using protobuf.RaftRPCProto.HeartbeatResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        nodeId_ = 0;
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+        } else {
+          responses_ = null;
+          responsesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.RaftRPCProto.internal_static_raftrpc_HeartbeatResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.HeartbeatResponse getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.HeartbeatResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.HeartbeatResponse build() {
+        protobuf.RaftRPCProto.HeartbeatResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.RaftRPCProto.HeartbeatResponse buildPartial() {
+        protobuf.RaftRPCProto.HeartbeatResponse result = new protobuf.RaftRPCProto.HeartbeatResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(protobuf.RaftRPCProto.HeartbeatResponse result) {
+        if (responsesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            responses_ = java.util.Collections.unmodifiableList(responses_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.responses_ = responses_;
+        } else {
+          result.responses_ = responsesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(protobuf.RaftRPCProto.HeartbeatResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.nodeId_ = nodeId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.RaftRPCProto.HeartbeatResponse) {
+          return mergeFrom((protobuf.RaftRPCProto.HeartbeatResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.RaftRPCProto.HeartbeatResponse other) {
+        if (other == protobuf.RaftRPCProto.HeartbeatResponse.getDefaultInstance()) return this;
+        if (other.getNodeId() != 0) {
+          setNodeId(other.getNodeId());
+        }
+        if (responsesBuilder_ == null) {
+          if (!other.responses_.isEmpty()) {
+            if (responses_.isEmpty()) {
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureResponsesIsMutable();
+              responses_.addAll(other.responses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.responses_.isEmpty()) {
+            if (responsesBuilder_.isEmpty()) {
+              responsesBuilder_.dispose();
+              responsesBuilder_ = null;
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              responsesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResponsesFieldBuilder() : null;
+            } else {
+              responsesBuilder_.addAllMessages(other.responses_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
 
-      private boolean done_ ;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                nodeId_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                protobuf.RaftRPCProto.GroupHeartbeatResponse m =
+                    input.readMessage(
+                        protobuf.RaftRPCProto.GroupHeartbeatResponse.parser(),
+                        extensionRegistry);
+                if (responsesBuilder_ == null) {
+                  ensureResponsesIsMutable();
+                  responses_.add(m);
+                } else {
+                  responsesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int nodeId_ ;
       /**
-       * <code>bool done = 7;</code>
-       * @return The done.
+       * <code>int32 nodeId = 1;</code>
+       * @return The nodeId.
        */
       @java.lang.Override
-      public boolean getDone() {
-        return done_;
+      public int getNodeId() {
+        return nodeId_;
       }
       /**
-       * <code>bool done = 7;</code>
-       * @param value The done to set.
+       * <code>int32 nodeId = 1;</code>
+       * @param value The nodeId to set.
        * @return This builder for chaining.
        */
-      public Builder setDone(boolean value) {
+      public Builder setNodeId(int value) {
 
-        done_ = value;
-        bitField0_ |= 0x00000040;
+        nodeId_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
-       * <code>bool done = 7;</code>
+       * <code>int32 nodeId = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearDone() {
-        bitField0_ = (bitField0_ & ~0x00000040);
-        done_ = false;
+      public Builder clearNodeId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        nodeId_ = 0;
         onChanged();
         return this;
       }
+
+      private java.util.List<protobuf.RaftRPCProto.GroupHeartbeatResponse> responses_ =
+        java.util.Collections.emptyList();
+      private void ensureResponsesIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          responses_ = new java.util.ArrayList<protobuf.RaftRPCProto.GroupHeartbeatResponse>(responses_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.RaftRPCProto.GroupHeartbeatResponse, protobuf.RaftRPCProto.GroupHeartbeatResponse.Builder, protobuf.RaftRPCProto.GroupHeartbeatResponseOrBuilder> responsesBuilder_;
+
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public java.util.List<protobuf.RaftRPCProto.GroupHeartbeatResponse> getResponsesList() {
+        if (responsesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(responses_);
+        } else {
+          return responsesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public int getResponsesCount() {
+        if (responsesBuilder_ == null) {
+          return responses_.size();
+        } else {
+          return responsesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public protobuf.RaftRPCProto.GroupHeartbeatResponse getResponses(int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);
+        } else {
+          return responsesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public Builder setResponses(
+          int index, protobuf.RaftRPCProto.GroupHeartbeatResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.set(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public Builder setResponses(
+          int index, protobuf.RaftRPCProto.GroupHeartbeatResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public Builder addResponses(protobuf.RaftRPCProto.GroupHeartbeatResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public Builder addResponses(
+          int index, protobuf.RaftRPCProto.GroupHeartbeatResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public Builder addResponses(
+          protobuf.RaftRPCProto.GroupHeartbeatResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public Builder addResponses(
+          int index, protobuf.RaftRPCProto.GroupHeartbeatResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public Builder addAllResponses(
+          java.lang.Iterable<? extends protobuf.RaftRPCProto.GroupHeartbeatResponse> values) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, responses_);
+          onChanged();
+        } else {
+          responsesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public Builder clearResponses() {
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          responsesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public Builder removeResponses(int index) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.remove(index);
+          onChanged();
+        } else {
+          responsesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public protobuf.RaftRPCProto.GroupHeartbeatResponse.Builder getResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public protobuf.RaftRPCProto.GroupHeartbeatResponseOrBuilder getResponsesOrBuilder(
+          int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);  } else {
+          return responsesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public java.util.List<? extends protobuf.RaftRPCProto.GroupHeartbeatResponseOrBuilder> 
+           getResponsesOrBuilderList() {
+        if (responsesBuilder_ != null) {
+          return responsesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(responses_);
+        }
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public protobuf.RaftRPCProto.GroupHeartbeatResponse.Builder addResponsesBuilder() {
+        return getResponsesFieldBuilder().addBuilder(
+            protobuf.RaftRPCProto.GroupHeartbeatResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public protobuf.RaftRPCProto.GroupHeartbeatResponse.Builder addResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().addBuilder(
+            index, protobuf.RaftRPCProto.GroupHeartbeatResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .raftrpc.GroupHeartbeatResponse responses = 2;</code>
+       */
+      public java.util.List<protobuf.RaftRPCProto.GroupHeartbeatResponse.Builder> 
+           getResponsesBuilderList() {
+        return getResponsesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.RaftRPCProto.GroupHeartbeatResponse, protobuf.RaftRPCProto.GroupHeartbeatResponse.Builder, protobuf.RaftRPCProto.GroupHeartbeatResponseOrBuilder> 
+          getResponsesFieldBuilder() {
+        if (responsesBuilder_ == null) {
+          responsesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              protobuf.RaftRPCProto.GroupHeartbeatResponse, protobuf.RaftRPCProto.GroupHeartbeatResponse.Builder, protobuf.RaftRPCProto.GroupHeartbeatResponseOrBuilder>(
+                  responses_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          responses_ = null;
+        }
+        return responsesBuilder_;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -4227,23 +13732,23 @@ public final class RaftRPCProto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:raftrpc.InstallSnapshotRequest)
+      // @@protoc_insertion_point(builder_scope:raftrpc.HeartbeatResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:raftrpc.InstallSnapshotRequest)
-    private static final protobuf.RaftRPCProto.InstallSnapshotRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:raftrpc.HeartbeatResponse)
+    private static final protobuf.RaftRPCProto.HeartbeatResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.InstallSnapshotRequest();
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.HeartbeatResponse();
     }
 
-    public static protobuf.RaftRPCProto.InstallSnapshotRequest getDefaultInstance() {
+    public static protobuf.RaftRPCProto.HeartbeatResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<InstallSnapshotRequest>
-        PARSER = new com.google.protobuf.AbstractParser<InstallSnapshotRequest>() {
+    private static final com.google.protobuf.Parser<HeartbeatResponse>
+        PARSER = new com.google.protobuf.AbstractParser<HeartbeatResponse>() {
       @java.lang.Override
-      public InstallSnapshotRequest parsePartialFrom(
+      public HeartbeatResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4262,76 +13767,127 @@ public final class RaftRPCProto {
       }
     };
 
-    public static com.google.protobuf.Parser<InstallSnapshotRequest> parser() {
+    public static com.google.protobuf.Parser<HeartbeatResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<InstallSnapshotRequest> getParserForType() {
+    public com.google.protobuf.Parser<HeartbeatResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public protobuf.RaftRPCProto.InstallSnapshotRequest getDefaultInstanceForType() {
+    public protobuf.RaftRPCProto.HeartbeatResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface InstallSnapshotResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:raftrpc.InstallSnapshotResponse)
+  public interface GroupHeartbeatResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:raftrpc.GroupHeartbeatResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int32 term = 1;</code>
+     * <code>int32 groupId = 1;</code>
+     * @return The groupId.
+     */
+    int getGroupId();
+
+    /**
+     * <code>int32 term = 2;</code>
      * @return The term.
      */
     int getTerm();
+
+    /**
+     * <code>bool success = 3;</code>
+     * @return The success.
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>int32 lastLogIndex = 4;</code>
+     * @return The lastLogIndex.
+     */
+    int getLastLogIndex();
   }
   /**
-   * Protobuf type {@code raftrpc.InstallSnapshotResponse}
+   * Protobuf type {@code raftrpc.GroupHeartbeatResponse}
    */
-  public static final class InstallSnapshotResponse extends
+  public static final class GroupHeartbeatResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:raftrpc.InstallSnapshotResponse)
-      InstallSnapshotResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:raftrpc.GroupHeartbeatResponse)
+      GroupHeartbeatResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use InstallSnapshotResponse.newBuilder() to construct.
-    private InstallSnapshotResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GroupHeartbeatResponse.newBuilder() to construct.
+    private GroupHeartbeatResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private InstallSnapshotResponse() {
+    private GroupHeartbeatResponse() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new InstallSnapshotResponse();
+      return new GroupHeartbeatResponse();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotResponse_descriptor;
+      return protobuf.RaftRPCProto.internal_static_raftrpc_GroupHeartbeatResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotResponse_fieldAccessorTable
+      return protobuf.RaftRPCProto.internal_static_raftrpc_GroupHeartbeatResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              protobuf.RaftRPCProto.InstallSnapshotResponse.class, protobuf.RaftRPCProto.InstallSnapshotResponse.Builder.class);
+              protobuf.RaftRPCProto.GroupHeartbeatResponse.class, protobuf.RaftRPCProto.GroupHeartbeatResponse.Builder.class);
+    }
+
+    public static final int GROUPID_FIELD_NUMBER = 1;
+    private int groupId_ = 0;
+    /**
+     * <code>int32 groupId = 1;</code>
+     * @return The groupId.
+     */
+    @java.lang.Override
+    public int getGroupId() {
+      return groupId_;
+    }
+
+    public static final int TERM_FIELD_NUMBER = 2;
+    private int term_ = 0;
+    /**
+     * <code>int32 term = 2;</code>
+     * @return The term.
+     */
+    @java.lang.Override
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 3;
+    private boolean success_ = false;
+    /**
+     * <code>bool success = 3;</code>
+     * @return The success.
+     */
+    @java.lang.Override
+    public boolean getSuccess() {
+      return success_;
     }
 
-    public static final int TERM_FIELD_NUMBER = 1;
-    private int term_ = 0;
+    public static final int LASTLOGINDEX_FIELD_NUMBER = 4;
+    private int lastLogIndex_ = 0;
     /**
-     * <code>int32 term = 1;</code>
-     * @return The term.
+     * <code>int32 lastLogIndex = 4;</code>
+     * @return The lastLogIndex.
      */
     @java.lang.Override
-    public int getTerm() {
-      return term_;
+    public int getLastLogIndex() {
+      return lastLogIndex_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -4348,8 +13904,17 @@ public final class RaftRPCProto {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      if (groupId_ != 0) {
+        output.writeInt32(1, groupId_);
+      }
       if (term_ != 0) {
-        output.writeInt32(1, term_);
+        output.writeInt32(2, term_);
+      }
+      if (success_ != false) {
+        output.writeBool(3, success_);
+      }
+      if (lastLogIndex_ != 0) {
+        output.writeInt32(4, lastLogIndex_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -4360,9 +13925,21 @@ public final class RaftRPCProto {
       if (size != -1) return size;
 
       size = 0;
+      if (groupId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, groupId_);
+      }
       if (term_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, term_);
+          .computeInt32Size(2, term_);
+      }
+      if (success_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, success_);
+      }
+      if (lastLogIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, lastLogIndex_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -4374,13 +13951,19 @@ public final class RaftRPCProto {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof protobuf.RaftRPCProto.InstallSnapshotResponse)) {
+      if (!(obj instanceof protobuf.RaftRPCProto.GroupHeartbeatResponse)) {
         return super.equals(obj);
       }
-      protobuf.RaftRPCProto.InstallSnapshotResponse other = (protobuf.RaftRPCProto.InstallSnapshotResponse) obj;
+      protobuf.RaftRPCProto.GroupHeartbeatResponse other = (protobuf.RaftRPCProto.GroupHeartbeatResponse) obj;
 
+      if (getGroupId()
+          != other.getGroupId()) return false;
       if (getTerm()
           != other.getTerm()) return false;
+      if (getSuccess()
+          != other.getSuccess()) return false;
+      if (getLastLogIndex()
+          != other.getLastLogIndex()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -4392,76 +13975,83 @@ public final class RaftRPCProto {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + GROUPID_FIELD_NUMBER;
+      hash = (53 * hash) + getGroupId();
       hash = (37 * hash) + TERM_FIELD_NUMBER;
       hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSuccess());
+      hash = (37 * hash) + LASTLOGINDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getLastLogIndex();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+    public static protobuf.RaftRPCProto.GroupHeartbeatResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+    public static protobuf.RaftRPCProto.GroupHeartbeatResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+    public static protobuf.RaftRPCProto.GroupHeartbeatResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+    public static protobuf.RaftRPCProto.GroupHeartbeatResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(byte[] data)
+    public static protobuf.RaftRPCProto.GroupHeartbeatResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+    public static protobuf.RaftRPCProto.GroupHeartbeatResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(java.io.InputStream input)
+    public static protobuf.RaftRPCProto.GroupHeartbeatResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+    public static protobuf.RaftRPCProto.GroupHeartbeatResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseDelimitedFrom(java.io.InputStream input)
+    public static protobuf.RaftRPCProto.GroupHeartbeatResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseDelimitedFrom(
+    public static protobuf.RaftRPCProto.GroupHeartbeatResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+    public static protobuf.RaftRPCProto.GroupHeartbeatResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protobuf.RaftRPCProto.InstallSnapshotResponse parseFrom(
+    public static protobuf.RaftRPCProto.GroupHeartbeatResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4474,7 +14064,7 @@ public final class RaftRPCProto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(protobuf.RaftRPCProto.InstallSnapshotResponse prototype) {
+    public static Builder newBuilder(protobuf.RaftRPCProto.GroupHeartbeatResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -4490,26 +14080,26 @@ public final class RaftRPCProto {
       return builder;
     }
     /**
-     * Protobuf type {@code raftrpc.InstallSnapshotResponse}
+     * Protobuf type {@code raftrpc.GroupHeartbeatResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:raftrpc.InstallSnapshotResponse)
-        protobuf.RaftRPCProto.InstallSnapshotResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:raftrpc.GroupHeartbeatResponse)
+        protobuf.RaftRPCProto.GroupHeartbeatResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotResponse_descriptor;
+        return protobuf.RaftRPCProto.internal_static_raftrpc_GroupHeartbeatResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotResponse_fieldAccessorTable
+        return protobuf.RaftRPCProto.internal_static_raftrpc_GroupHeartbeatResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                protobuf.RaftRPCProto.InstallSnapshotResponse.class, protobuf.RaftRPCProto.InstallSnapshotResponse.Builder.class);
+                protobuf.RaftRPCProto.GroupHeartbeatResponse.class, protobuf.RaftRPCProto.GroupHeartbeatResponse.Builder.class);
       }
 
-      // Construct using protobuf.RaftRPCProto.InstallSnapshotResponse.newBuilder()
+      // Construct using protobuf.RaftRPCProto.GroupHeartbeatResponse.newBuilder()
       private Builder() {
 
       }
@@ -4523,24 +14113,27 @@ public final class RaftRPCProto {
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
+        groupId_ = 0;
         term_ = 0;
+        success_ = false;
+        lastLogIndex_ = 0;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return protobuf.RaftRPCProto.internal_static_raftrpc_InstallSnapshotResponse_descriptor;
+        return protobuf.RaftRPCProto.internal_static_raftrpc_GroupHeartbeatResponse_descriptor;
       }
 
       @java.lang.Override
-      public protobuf.RaftRPCProto.InstallSnapshotResponse getDefaultInstanceForType() {
-        return protobuf.RaftRPCProto.InstallSnapshotResponse.getDefaultInstance();
+      public protobuf.RaftRPCProto.GroupHeartbeatResponse getDefaultInstanceForType() {
+        return protobuf.RaftRPCProto.GroupHeartbeatResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public protobuf.RaftRPCProto.InstallSnapshotResponse build() {
-        protobuf.RaftRPCProto.InstallSnapshotResponse result = buildPartial();
+      public protobuf.RaftRPCProto.GroupHeartbeatResponse build() {
+        protobuf.RaftRPCProto.GroupHeartbeatResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -4548,35 +14141,53 @@ public final class RaftRPCProto {
       }
 
       @java.lang.Override
-      public protobuf.RaftRPCProto.InstallSnapshotResponse buildPartial() {
-        protobuf.RaftRPCProto.InstallSnapshotResponse result = new protobuf.RaftRPCProto.InstallSnapshotResponse(this);
+      public protobuf.RaftRPCProto.GroupHeartbeatResponse buildPartial() {
+        protobuf.RaftRPCProto.GroupHeartbeatResponse result = new protobuf.RaftRPCProto.GroupHeartbeatResponse(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(protobuf.RaftRPCProto.InstallSnapshotResponse result) {
+      private void buildPartial0(protobuf.RaftRPCProto.GroupHeartbeatResponse result) {
         int from_bitField0_ = bitField0_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.groupId_ = groupId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
           result.term_ = term_;
         }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.success_ = success_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.lastLogIndex_ = lastLogIndex_;
+        }
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof protobuf.RaftRPCProto.InstallSnapshotResponse) {
-          return mergeFrom((protobuf.RaftRPCProto.InstallSnapshotResponse)other);
+        if (other instanceof protobuf.RaftRPCProto.GroupHeartbeatResponse) {
+          return mergeFrom((protobuf.RaftRPCProto.GroupHeartbeatResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(protobuf.RaftRPCProto.InstallSnapshotResponse other) {
-        if (other == protobuf.RaftRPCProto.InstallSnapshotResponse.getDefaultInstance()) return this;
+      public Builder mergeFrom(protobuf.RaftRPCProto.GroupHeartbeatResponse other) {
+        if (other == protobuf.RaftRPCProto.GroupHeartbeatResponse.getDefaultInstance()) return this;
+        if (other.getGroupId() != 0) {
+          setGroupId(other.getGroupId());
+        }
         if (other.getTerm() != 0) {
           setTerm(other.getTerm());
         }
+        if (other.getSuccess() != false) {
+          setSuccess(other.getSuccess());
+        }
+        if (other.getLastLogIndex() != 0) {
+          setLastLogIndex(other.getLastLogIndex());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -4604,10 +14215,25 @@ public final class RaftRPCProto {
                 done = true;
                 break;
               case 8: {
-                term_ = input.readInt32();
+                groupId_ = input.readInt32();
                 bitField0_ |= 0x00000001;
                 break;
               } // case 8
+              case 16: {
+                term_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                success_ = input.readBool();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                lastLogIndex_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -4625,9 +14251,41 @@ public final class RaftRPCProto {
       }
       private int bitField0_;
 
+      private int groupId_ ;
+      /**
+       * <code>int32 groupId = 1;</code>
+       * @return The groupId.
+       */
+      @java.lang.Override
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>int32 groupId = 1;</code>
+       * @param value The groupId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroupId(int value) {
+
+        groupId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 groupId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+
       private int term_ ;
       /**
-       * <code>int32 term = 1;</code>
+       * <code>int32 term = 2;</code>
        * @return The term.
        */
       @java.lang.Override
@@ -4635,27 +14293,91 @@ public final class RaftRPCProto {
         return term_;
       }
       /**
-       * <code>int32 term = 1;</code>
+       * <code>int32 term = 2;</code>
        * @param value The term to set.
        * @return This builder for chaining.
        */
       public Builder setTerm(int value) {
 
         term_ = value;
-        bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
-       * <code>int32 term = 1;</code>
+       * <code>int32 term = 2;</code>
        * @return This builder for chaining.
        */
       public Builder clearTerm() {
-        bitField0_ = (bitField0_ & ~0x00000001);
+        bitField0_ = (bitField0_ & ~0x00000002);
         term_ = 0;
         onChanged();
         return this;
       }
+
+      private boolean success_ ;
+      /**
+       * <code>bool success = 3;</code>
+       * @return The success.
+       */
+      @java.lang.Override
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>bool success = 3;</code>
+       * @param value The success to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSuccess(boolean value) {
+
+        success_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool success = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int lastLogIndex_ ;
+      /**
+       * <code>int32 lastLogIndex = 4;</code>
+       * @return The lastLogIndex.
+       */
+      @java.lang.Override
+      public int getLastLogIndex() {
+        return lastLogIndex_;
+      }
+      /**
+       * <code>int32 lastLogIndex = 4;</code>
+       * @param value The lastLogIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastLogIndex(int value) {
+
+        lastLogIndex_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 lastLogIndex = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastLogIndex() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        lastLogIndex_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -4669,23 +14391,23 @@ public final class RaftRPCProto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:raftrpc.InstallSnapshotResponse)
+      // @@protoc_insertion_point(builder_scope:raftrpc.GroupHeartbeatResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:raftrpc.InstallSnapshotResponse)
-    private static final protobuf.RaftRPCProto.InstallSnapshotResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:raftrpc.GroupHeartbeatResponse)
+    private static final protobuf.RaftRPCProto.GroupHeartbeatResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.InstallSnapshotResponse();
+      DEFAULT_INSTANCE = new protobuf.RaftRPCProto.GroupHeartbeatResponse();
     }
 
-    public static protobuf.RaftRPCProto.InstallSnapshotResponse getDefaultInstance() {
+    public static protobuf.RaftRPCProto.GroupHeartbeatResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<InstallSnapshotResponse>
-        PARSER = new com.google.protobuf.AbstractParser<InstallSnapshotResponse>() {
+    private static final com.google.protobuf.Parser<GroupHeartbeatResponse>
+        PARSER = new com.google.protobuf.AbstractParser<GroupHeartbeatResponse>() {
       @java.lang.Override
-      public InstallSnapshotResponse parsePartialFrom(
+      public GroupHeartbeatResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4704,17 +14426,17 @@ public final class RaftRPCProto {
       }
     };
 
-    public static com.google.protobuf.Parser<InstallSnapshotResponse> parser() {
+    public static com.google.protobuf.Parser<GroupHeartbeatResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<InstallSnapshotResponse> getParserForType() {
+    public com.google.protobuf.Parser<GroupHeartbeatResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public protobuf.RaftRPCProto.InstallSnapshotResponse getDefaultInstanceForType() {
+    public protobuf.RaftRPCProto.GroupHeartbeatResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -4745,6 +14467,11 @@ public final class RaftRPCProto {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_raftrpc_LogEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_raftrpc_Member_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_raftrpc_Member_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_raftrpc_InstallSnapshotRequest_descriptor;
   private static final 
@@ -4755,6 +14482,66 @@ public final class RaftRPCProto {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_raftrpc_InstallSnapshotResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_raftrpc_PreVoteRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_raftrpc_PreVoteRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_raftrpc_PreVoteResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_raftrpc_PreVoteResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_raftrpc_ReadIndexRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_raftrpc_ReadIndexRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_raftrpc_ReadIndexResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_raftrpc_ReadIndexResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_raftrpc_TimeoutNowRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_raftrpc_TimeoutNowRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_raftrpc_TimeoutNowResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_raftrpc_TimeoutNowResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_raftrpc_ChangeMemberRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_raftrpc_ChangeMemberRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_raftrpc_ChangeMemberResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_raftrpc_ChangeMemberResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_raftrpc_HeartbeatRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_raftrpc_HeartbeatRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_raftrpc_GroupHeartbeat_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_raftrpc_GroupHeartbeat_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_raftrpc_HeartbeatResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_raftrpc_HeartbeatResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_raftrpc_GroupHeartbeatResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_raftrpc_GroupHeartbeatResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -4764,30 +14551,69 @@ public final class RaftRPCProto {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\nraft.proto\022\007raftrpc\"b\n\022RequestVoteRequ" +
-      "est\022\014\n\004term\030\001 \001(\005\022\023\n\013candidateId\030\002 \001(\005\022\024" +
-      "\n\014lastLogIndex\030\003 \001(\005\022\023\n\013lastLogTerm\030\004 \001(" +
-      "\005\"8\n\023RequestVoteResponse\022\014\n\004term\030\001 \001(\005\022\023" +
-      "\n\013voteGranted\030\002 \001(\010\"\233\001\n\024AppendEntriesReq" +
-      "uest\022\014\n\004term\030\001 \001(\005\022\020\n\010leaderId\030\002 \001(\005\022\024\n\014" +
-      "prevLogIndex\030\003 \001(\005\022\023\n\013prevLogTerm\030\004 \001(\005\022" +
-      "\"\n\007entries\030\005 \003(\0132\021.raftrpc.LogEntry\022\024\n\014l" +
-      "eaderCommit\030\006 \001(\005\"6\n\025AppendEntriesRespon" +
-      "se\022\014\n\004term\030\001 \001(\005\022\017\n\007success\030\002 \001(\010\")\n\010Log" +
-      "Entry\022\014\n\004term\030\001 \001(\005\022\017\n\007command\030\002 \001(\t\"\231\001\n" +
-      "\026InstallSnapshotRequest\022\014\n\004term\030\001 \001(\005\022\020\n" +
-      "\010leaderId\030\002 \001(\005\022\031\n\021lastIncludedIndex\030\003 \001" +
-      "(\005\022\030\n\020lastIncludedTerm\030\004 \001(\005\022\016\n\006offset\030\005" +
-      " \001(\005\022\014\n\004data\030\006 \001(\014\022\014\n\004done\030\007 \001(\010\"\'\n\027Inst" +
-      "allSnapshotResponse\022\014\n\004term\030\001 \001(\0052\373\001\n\007Ra" +
-      "ftRPC\022H\n\013RequestVote\022\033.raftrpc.RequestVo" +
-      "teRequest\032\034.raftrpc.RequestVoteResponse\022" +
-      "N\n\rAppendEntries\022\035.raftrpc.AppendEntries" +
-      "Request\032\036.raftrpc.AppendEntriesResponse\022" +
-      "V\n\017InstallSnapshot\022\037.raftrpc.InstallSnap" +
-      "shotRequest\032 .raftrpc.InstallSnapshotRes" +
-      "ponse\"\000B\030\n\010protobufB\014RaftRPCProtob\006proto" +
-      "3"
+      "\n\nraft.proto\022\007raftrpc\"\217\001\n\022RequestVoteReq" +
+      "uest\022\014\n\004term\030\001 \001(\005\022\023\n\013candidateId\030\002 \001(\005\022" +
+      "\024\n\014lastLogIndex\030\003 \001(\005\022\023\n\013lastLogTerm\030\004 \001" +
+      "(\005\022\032\n\022leadershipTransfer\030\005 \001(\010\022\017\n\007groupI" +
+      "d\030\006 \001(\005\"8\n\023RequestVoteResponse\022\014\n\004term\030\001" +
+      " \001(\005\022\023\n\013voteGranted\030\002 \001(\010\"\254\001\n\024AppendEntr" +
+      "iesRequest\022\014\n\004term\030\001 \001(\005\022\020\n\010leaderId\030\002 \001" +
+      "(\005\022\024\n\014prevLogIndex\030\003 \001(\005\022\023\n\013prevLogTerm\030" +
+      "\004 \001(\005\022\"\n\007entries\030\005 \003(\0132\021.raftrpc.LogEntr" +
+      "y\022\024\n\014leaderCommit\030\006 \001(\005\022\017\n\007groupId\030\007 \001(\005" +
+      "\"c\n\025AppendEntriesResponse\022\014\n\004term\030\001 \001(\005\022" +
+      "\017\n\007success\030\002 \001(\010\022\025\n\rconflictIndex\030\003 \001(\005\022" +
+      "\024\n\014conflictTerm\030\004 \001(\005\"Q\n\010LogEntry\022\014\n\004ter" +
+      "m\030\001 \001(\005\022\017\n\007command\030\002 \001(\t\022&\n\rconfiguratio" +
+      "n\030\003 \003(\0132\017.raftrpc.Member\"W\n\006Member\022\n\n\002id" +
+      "\030\001 \001(\005\022\017\n\007address\030\002 \001(\t\022\017\n\007rpcPort\030\003 \001(\005" +
+      "\022\016\n\006kvPort\030\004 \001(\005\022\017\n\007learner\030\005 \001(\010\"\322\001\n\026In" +
+      "stallSnapshotRequest\022\014\n\004term\030\001 \001(\005\022\020\n\010le" +
+      "aderId\030\002 \001(\005\022\031\n\021lastIncludedIndex\030\003 \001(\005\022" +
+      "\030\n\020lastIncludedTerm\030\004 \001(\005\022\016\n\006offset\030\005 \001(" +
+      "\005\022\014\n\004data\030\006 \001(\014\022\014\n\004done\030\007 \001(\010\022&\n\rconfigu" +
+      "ration\030\010 \003(\0132\017.raftrpc.Member\022\017\n\007groupId" +
+      "\030\t \001(\005\"\'\n\027InstallSnapshotResponse\022\014\n\004ter" +
+      "m\030\001 \001(\005\"o\n\016PreVoteRequest\022\014\n\004term\030\001 \001(\005\022" +
+      "\023\n\013candidateId\030\002 \001(\005\022\024\n\014lastLogIndex\030\003 \001" +
+      "(\005\022\023\n\013lastLogTerm\030\004 \001(\005\022\017\n\007groupId\030\005 \001(\005" +
+      "\"4\n\017PreVoteResponse\022\014\n\004term\030\001 \001(\005\022\023\n\013vot" +
+      "eGranted\030\002 \001(\010\"3\n\020ReadIndexRequest\022\016\n\006no" +
+      "deId\030\001 \001(\005\022\017\n\007groupId\030\002 \001(\005\"E\n\021ReadIndex" +
+      "Response\022\014\n\004term\030\001 \001(\005\022\017\n\007success\030\002 \001(\010\022" +
+      "\021\n\treadIndex\030\003 \001(\005\"D\n\021TimeoutNowRequest\022" +
+      "\014\n\004term\030\001 \001(\005\022\020\n\010leaderId\030\002 \001(\005\022\017\n\007group" +
+      "Id\030\003 \001(\005\"\"\n\022TimeoutNowResponse\022\014\n\004term\030\001" +
+      " \001(\005\"\205\001\n\023ChangeMemberRequest\022\016\n\006remove\030\001" +
+      " \001(\010\022\n\n\002id\030\002 \001(\005\022\017\n\007address\030\003 \001(\t\022\017\n\007rpc" +
+      "Port\030\004 \001(\005\022\016\n\006kvPort\030\005 \001(\005\022\017\n\007learner\030\006 " +
+      "\001(\010\022\017\n\007groupId\030\007 \001(\005\"9\n\024ChangeMemberResp" +
+      "onse\022\017\n\007success\030\001 \001(\010\022\020\n\010leaderId\030\002 \001(\005\"" +
+      "O\n\020HeartbeatRequest\022\016\n\006nodeId\030\001 \001(\005\022+\n\nh" +
+      "eartbeats\030\002 \003(\0132\027.raftrpc.GroupHeartbeat" +
+      "\"D\n\016GroupHeartbeat\022\017\n\007groupId\030\001 \001(\005\022\014\n\004t" +
+      "erm\030\002 \001(\005\022\023\n\013commitIndex\030\003 \001(\005\"W\n\021Heartb" +
+      "eatResponse\022\016\n\006nodeId\030\001 \001(\005\0222\n\tresponses" +
+      "\030\002 \003(\0132\037.raftrpc.GroupHeartbeatResponse\"" +
+      "^\n\026GroupHeartbeatResponse\022\017\n\007groupId\030\001 \001" +
+      "(\005\022\014\n\004term\030\002 \001(\005\022\017\n\007success\030\003 \001(\010\022\024\n\014las" +
+      "tLogIndex\030\004 \001(\0052\325\004\n\007RaftRPC\022H\n\013RequestVo" +
+      "te\022\033.raftrpc.RequestVoteRequest\032\034.raftrp" +
+      "c.RequestVoteResponse\022N\n\rAppendEntries\022\035" +
+      ".raftrpc.AppendEntriesRequest\032\036.raftrpc." +
+      "AppendEntriesResponse\022V\n\017InstallSnapshot" +
+      "\022\037.raftrpc.InstallSnapshotRequest\032 .raft" +
+      "rpc.InstallSnapshotResponse\"\000\022<\n\007PreVote" +
+      "\022\027.raftrpc.PreVoteRequest\032\030.raftrpc.PreV" +
+      "oteResponse\022B\n\tReadIndex\022\031.raftrpc.ReadI" +
+      "ndexRequest\032\032.raftrpc.ReadIndexResponse\022" +
+      "E\n\nTimeoutNow\022\032.raftrpc.TimeoutNowReques" +
+      "t\032\033.raftrpc.TimeoutNowResponse\022K\n\014Change" +
+      "Member\022\034.raftrpc.ChangeMemberRequest\032\035.r" +
+      "aftrpc.ChangeMemberResponse\022B\n\tHeartbeat" +
+      "\022\031.raftrpc.HeartbeatRequest\032\032.raftrpc.He" +
+      "artbeatResponseB\030\n\010protobufB\014RaftRPCProt" +
+      "ob\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -4798,7 +14624,7 @@ public final class RaftRPCProto {
     internal_static_raftrpc_RequestVoteRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_raftrpc_RequestVoteRequest_descriptor,
-        new java.lang.String[] { "Term", "CandidateId", "LastLogIndex", "LastLogTerm", });
+        new java.lang.String[] { "Term", "CandidateId", "LastLogIndex", "LastLogTerm", "LeadershipTransfer", "GroupId", });
     internal_static_raftrpc_RequestVoteResponse_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_raftrpc_RequestVoteResponse_fieldAccessorTable = new
@@ -4810,31 +14636,109 @@ public final class RaftRPCProto {
     internal_static_raftrpc_AppendEntriesRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_raftrpc_AppendEntriesRequest_descriptor,
-        new java.lang.String[] { "Term", "LeaderId", "PrevLogIndex", "PrevLogTerm", "Entries", "LeaderCommit", });
+        new java.lang.String[] { "Term", "LeaderId", "PrevLogIndex", "PrevLogTerm", "Entries", "LeaderCommit", "GroupId", });
     internal_static_raftrpc_AppendEntriesResponse_descriptor =
       getDescriptor().getMessageTypes().get(3);
     internal_static_raftrpc_AppendEntriesResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_raftrpc_AppendEntriesResponse_descriptor,
-        new java.lang.String[] { "Term", "Success", });
+        new java.lang.String[] { "Term", "Success", "ConflictIndex", "ConflictTerm", });
     internal_static_raftrpc_LogEntry_descriptor =
       getDescriptor().getMessageTypes().get(4);
     internal_static_raftrpc_LogEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_raftrpc_LogEntry_descriptor,
-        new java.lang.String[] { "Term", "Command", });
-    internal_static_raftrpc_InstallSnapshotRequest_descriptor =
+        new java.lang.String[] { "Term", "Command", "Configuration", });
+    internal_static_raftrpc_Member_descriptor =
       getDescriptor().getMessageTypes().get(5);
+    internal_static_raftrpc_Member_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_raftrpc_Member_descriptor,
+        new java.lang.String[] { "Id", "Address", "RpcPort", "KvPort", "Learner", });
+    internal_static_raftrpc_InstallSnapshotRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
     internal_static_raftrpc_InstallSnapshotRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_raftrpc_InstallSnapshotRequest_descriptor,
-        new java.lang.String[] { "Term", "LeaderId", "LastIncludedIndex", "LastIncludedTerm", "Offset", "Data", "Done", });
+        new java.lang.String[] { "Term", "LeaderId", "LastIncludedIndex", "LastIncludedTerm", "Offset", "Data", "Done", "Configuration", "GroupId", });
     internal_static_raftrpc_InstallSnapshotResponse_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_raftrpc_InstallSnapshotResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_raftrpc_InstallSnapshotResponse_descriptor,
         new java.lang.String[] { "Term", });
+    internal_static_raftrpc_PreVoteRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_raftrpc_PreVoteRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_raftrpc_PreVoteRequest_descriptor,
+        new java.lang.String[] { "Term", "CandidateId", "LastLogIndex", "LastLogTerm", "GroupId", });
+    internal_static_raftrpc_PreVoteResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_raftrpc_PreVoteResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_raftrpc_PreVoteResponse_descriptor,
+        new java.lang.String[] { "Term", "VoteGranted", });
+    internal_static_raftrpc_ReadIndexRequest_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_raftrpc_ReadIndexRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_raftrpc_ReadIndexRequest_descriptor,
+        new java.lang.String[] { "NodeId", "GroupId", });
+    internal_static_raftrpc_ReadIndexResponse_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_raftrpc_ReadIndexResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_raftrpc_ReadIndexResponse_descriptor,
+        new java.lang.String[] { "Term", "Success", "ReadIndex", });
+    internal_static_raftrpc_TimeoutNowRequest_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_raftrpc_TimeoutNowRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_raftrpc_TimeoutNowRequest_descriptor,
+        new java.lang.String[] { "Term", "LeaderId", "GroupId", });
+    internal_static_raftrpc_TimeoutNowResponse_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_raftrpc_TimeoutNowResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_raftrpc_TimeoutNowResponse_descriptor,
+        new java.lang.String[] { "Term", });
+    internal_static_raftrpc_ChangeMemberRequest_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_raftrpc_ChangeMemberRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_raftrpc_ChangeMemberRequest_descriptor,
+        new java.lang.String[] { "Remove", "Id", "Address", "RpcPort", "KvPort", "Learner", "GroupId", });
+    internal_static_raftrpc_ChangeMemberResponse_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_raftrpc_ChangeMemberResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_raftrpc_ChangeMemberResponse_descriptor,
+        new java.lang.String[] { "Success", "LeaderId", });
+    internal_static_raftrpc_HeartbeatRequest_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_raftrpc_HeartbeatRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_raftrpc_HeartbeatRequest_descriptor,
+        new java.lang.String[] { "NodeId", "Heartbeats", });
+    internal_static_raftrpc_GroupHeartbeat_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_raftrpc_GroupHeartbeat_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_raftrpc_GroupHeartbeat_descriptor,
+        new java.lang.String[] { "GroupId", "Term", "CommitIndex", });
+    internal_static_raftrpc_HeartbeatResponse_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_raftrpc_HeartbeatResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_raftrpc_HeartbeatResponse_descriptor,
+        new java.lang.String[] { "NodeId", "Responses", });
+    internal_static_raftrpc_GroupHeartbeatResponse_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_raftrpc_GroupHeartbeatResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_raftrpc_GroupHeartbeatResponse_descriptor,
+        new java.lang.String[] { "GroupId", "Term", "Success", "LastLogIndex", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import org.junit.Test;
 import com.zoecll.config.PeerInfo;
 
+import protobuf.KvStorageProto.GetResponse;
+
 public class KvClientTest {
 
     KvClient kvClient;
@@ -19,7 +21,7 @@ public class KvClientTest {
 
     @Test
     public void testGetNoRetry() {
-        String res = kvClient.getNoRetry("test");
+        GetResponse res = kvClient.getNoRetry("test");
         System.out.println(res);
     }
 
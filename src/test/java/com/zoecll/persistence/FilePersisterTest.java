@@ -1,5 +1,13 @@
 package com.zoecll.persistence;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Random;
+
+import org.junit.After;
 import org.junit.Test;
 
 public class FilePersisterTest {
@@ -10,6 +18,19 @@ public class FilePersisterTest {
         filePersister.createSnapshot(1024 * 1024);
     }
 
+    @After
+    public void cleanup() {
+        File[] files = new File("snapshots").listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.getName().startsWith("leader-test.") || file.getName().startsWith("follower-test.")) {
+                file.delete();
+            }
+        }
+    }
+
     @Test
     public void testFilePersister() {
         String data1 = "test data1";
@@ -25,4 +46,32 @@ public class FilePersisterTest {
         String resData2 = new String(res2);
         System.out.println(resData2);
     }
+
+    // a snapshot the leader took itself is sent as read back from its persister, and installed on the
+    // follower the way handleInstallSnapshot does
+    @Test
+    public void testInstallTakenSnapshot() {
+        byte[] data = new byte[3 * 1024 * 1024];
+        new Random(1).nextBytes(data);
+        Snapshot snapshot = new Snapshot(0);
+        snapshot.setLastIncludedIndex(41);
+        snapshot.setLastIncludedTerm(2);
+        snapshot.setData(data);
+        FilePersister leader = new FilePersister("leader-test");
+        assertTrue(leader.saveSnapshot(snapshot));
+        byte[] sent = leader.read(0);
+        assertArrayEquals(data, sent);
+
+        // the follower guesses a smaller size than the snapshot turns out to have
+        FilePersister follower = new FilePersister("follower-test");
+        follower.createSnapshot(1024 * 1024);
+        follower.write(sent, 0);
+        follower.setLastIncludedIndex(41);
+        follower.setLastIncludedTerm(2);
+        assertTrue(follower.saveSnapshot());
+
+        follower.readSnapshot();
+        assertEquals(41, follower.getLastIncludedIndex());
+        assertArrayEquals(data, follower.read(0));
+    }
 }
@@ -0,0 +1,116 @@
+package com.zoecll.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.zoecll.persistence.GroupCommitter.Durability;
+
+import protobuf.RaftRPCProto.LogEntry;
+
+public class GroupCommitterTest {
+
+    private static List<LogEntry> entries(int from, int to) {
+        ArrayList<LogEntry> entries = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            entries.add(LogEntry.newBuilder().setTerm(i).setCommand("set key-" + i + " value-" + i).build());
+        }
+        return entries;
+    }
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private WriteAheadLog wal;
+    private HardState hardState;
+    private SharedCommitter shared = new SharedCommitter(0);
+
+    // the folder is only created once the rule runs, after the constructor
+    @Before
+    public void setUp() throws IOException {
+        String dir = folder.newFolder("wal").toString();
+        wal = new WriteAheadLog(dir, 1024 * 1024);
+        hardState = new HardState(dir + "/hardstate");
+    }
+
+    private void write(GroupCommitter committer, int from, int to) {
+        long start = System.nanoTime();
+        wal.append(from, entries(from, to));
+        committer.written(from, to - 1, start);
+    }
+
+    @Test
+    public void testBatch() throws InterruptedException {
+        CountDownLatch synced = new CountDownLatch(1);
+        GroupCommitter committer = new GroupCommitter(0, 0, wal, hardState, Durability.Batch, 10, shared, synced::countDown);
+
+        CountDownLatch persisted = new CountDownLatch(1);
+        write(committer, 0, 100);
+        committer.whenPersisted(99, persisted::countDown, () -> {});
+        // nothing is persisted before the committer forced the log
+        assertEquals(-1, committer.getPersistedIndex());
+
+        shared.start();
+        assertTrue(persisted.await(5, TimeUnit.SECONDS));
+        assertTrue(synced.await(5, TimeUnit.SECONDS));
+        assertEquals(99, committer.getPersistedIndex());
+        assertTrue(committer.getLatency(50) >= 0);
+        assertTrue(committer.getLatency(99) >= committer.getLatency(50));
+        shared.interrupt();
+        wal.close();
+    }
+
+    @Test
+    public void testBuffered() {
+        GroupCommitter committer = new GroupCommitter(0, 0, wal, hardState, Durability.Buffered, 10, shared, () -> {});
+        write(committer, 0, 10);
+        assertEquals(9, committer.getPersistedIndex());
+
+        AtomicBoolean persisted = new AtomicBoolean(false);
+        committer.whenPersisted(9, () -> persisted.set(true), () -> {});
+        assertTrue(persisted.get());
+        wal.close();
+    }
+
+    @Test
+    public void testCutOff() {
+        GroupCommitter committer = new GroupCommitter(0, 0, wal, hardState, Durability.Batch, 10, shared, () -> {});
+        write(committer, 0, 10);
+
+        AtomicBoolean dropped = new AtomicBoolean(false);
+        committer.whenPersisted(9, () -> {}, () -> dropped.set(true));
+        // a later leader overwrites the unpersisted tail
+        write(committer, 5, 8);
+        assertTrue(dropped.get());
+        wal.close();
+    }
+
+    @Test
+    public void testHardState() throws InterruptedException {
+        GroupCommitter committer = new GroupCommitter(0, 0, wal, hardState, Durability.Batch, 10, shared, () -> {});
+        hardState.save(1, 2);
+        committer.hardStateWritten();
+
+        // a vote reply waits for the force that covers the vote
+        CountDownLatch persisted = new CountDownLatch(1);
+        committer.whenHardStatePersisted(persisted::countDown);
+        assertEquals(1, persisted.getCount());
+
+        shared.start();
+        assertTrue(persisted.await(5, TimeUnit.SECONDS));
+        shared.interrupt();
+        hardState.close();
+        wal.close();
+    }
+}
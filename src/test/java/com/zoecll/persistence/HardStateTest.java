@@ -0,0 +1,56 @@
+package com.zoecll.persistence;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class HardStateTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReload() throws IOException {
+        String path = folder.newFolder("hardstate").toString() + "/hardstate";
+        HardState hardState = new HardState(path);
+        assertEquals(0, hardState.getTerm());
+        assertEquals(-1, hardState.getVotedFor());
+
+        hardState.save(1, 0);
+        hardState.save(2, 1);
+        hardState.save(3, -1);
+        hardState.sync();
+        hardState.close();
+
+        hardState = new HardState(path);
+        assertEquals(3, hardState.getTerm());
+        assertEquals(-1, hardState.getVotedFor());
+        hardState.close();
+    }
+
+    @Test
+    public void testTornSlot() throws IOException {
+        String path = folder.newFolder("hardstate").toString() + "/hardstate";
+        HardState hardState = new HardState(path);
+        hardState.save(1, 0);
+        hardState.save(2, 1);
+        hardState.sync();
+        hardState.close();
+
+        // the second save went to the slot at 0, damage it as a torn write would
+        try (RandomAccessFile file = new RandomAccessFile(path, "rw")) {
+            file.seek(8);
+            file.writeInt(7);
+        }
+
+        hardState = new HardState(path);
+        assertEquals(1, hardState.getTerm());
+        assertEquals(0, hardState.getVotedFor());
+        hardState.close();
+    }
+}
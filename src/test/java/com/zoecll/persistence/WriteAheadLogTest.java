@@ -0,0 +1,187 @@
+package com.zoecll.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import protobuf.RaftRPCProto.LogEntry;
+import protobuf.RaftRPCProto.Member;
+
+public class WriteAheadLogTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static List<LogEntry> entries(int from, int to) {
+        ArrayList<LogEntry> entries = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            entries.add(LogEntry.newBuilder().setTerm(i).setCommand("set key-" + i + " value-" + i).build());
+        }
+        return entries;
+    }
+
+    private static List<LogEntry> replay(WriteAheadLog wal, int fromIndex) {
+        ArrayList<LogEntry> entries = new ArrayList<>();
+        wal.replay(fromIndex, entries::add);
+        return entries;
+    }
+
+    @Test
+    public void testRecover() throws IOException {
+        String dir = folder.newFolder("wal").toString();
+        WriteAheadLog wal = new WriteAheadLog(dir, SEGMENT_SIZE);
+        // enough entries to span several segments
+        wal.append(0, entries(0, 200));
+        wal.sync();
+        wal.close();
+
+        wal = new WriteAheadLog(dir, SEGMENT_SIZE);
+        assertEquals(0, wal.getFirstIndex());
+        assertEquals(199, wal.getLastIndex());
+        List<LogEntry> recovered = replay(wal, 0);
+        assertEquals(200, recovered.size());
+        for (int i = 0; i < recovered.size(); i++) {
+            assertEquals(i, recovered.get(i).getTerm());
+        }
+        assertEquals(150, wal.read(150).getTerm());
+        wal.close();
+    }
+
+    @Test
+    public void testTruncate() throws IOException {
+        String dir = folder.newFolder("wal").toString();
+        WriteAheadLog wal = new WriteAheadLog(dir, SEGMENT_SIZE);
+        wal.append(0, entries(0, 200));
+        wal.truncateSuffix(120);
+        assertEquals(119, wal.getLastIndex());
+        // a conflicting append overwrites the tail
+        wal.append(100, entries(1000, 1010));
+        assertEquals(109, wal.getLastIndex());
+        assertEquals(1005, wal.read(105).getTerm());
+
+        wal.truncatePrefix(80);
+        assertTrue(wal.getFirstIndex() <= 81);
+        wal.sync();
+        wal.close();
+
+        wal = new WriteAheadLog(dir, SEGMENT_SIZE);
+        assertEquals(109, wal.getLastIndex());
+        List<LogEntry> recovered = replay(wal, 81);
+        assertEquals(29, recovered.size());
+        assertEquals(81, recovered.get(0).getTerm());
+        assertEquals(1009, recovered.get(28).getTerm());
+
+        wal.truncatePrefix(200);
+        assertTrue(wal.isEmpty());
+        assertEquals(201, wal.getFirstIndex());
+        wal.close();
+    }
+
+    @Test
+    public void testIndexedRecovery() throws IOException {
+        String dir = folder.newFolder("wal").toString();
+        WriteAheadLog wal = new WriteAheadLog(dir, SEGMENT_SIZE);
+        for (int i = 0; i < 1000; i += 50) {
+            wal.append(i, entries(i, i + 50));
+            wal.sync();
+        }
+        wal.close();
+        // every sealed segment got its index file, only the tail has none
+        String[] files = new File(dir).list();
+        long segments = Arrays.stream(files).filter(name -> name.endsWith(".wal")).count();
+        long indexes = Arrays.stream(files).filter(name -> name.endsWith(".idx")).count();
+        assertTrue(segments > 1);
+        assertEquals(segments - 1, indexes);
+
+        wal = new WriteAheadLog(dir, SEGMENT_SIZE);
+        assertEquals(999, wal.getLastIndex());
+        assertEquals(333, wal.read(333).getTerm());
+        assertEquals(777, wal.getTerm(777));
+        assertEquals(1000 - 250, replay(wal, 250).size());
+
+        // cutting into an indexed segment makes it the tail again
+        wal.truncateSuffix(100);
+        wal.append(100, entries(2000, 2010));
+        wal.sync();
+        wal.close();
+
+        wal = new WriteAheadLog(dir, SEGMENT_SIZE);
+        assertEquals(109, wal.getLastIndex());
+        assertEquals(2005, wal.read(105).getTerm());
+        assertEquals(99, wal.read(99).getTerm());
+        wal.close();
+    }
+
+    @Test
+    public void testConfigurationIndex() throws IOException {
+        String dir = folder.newFolder("wal").toString();
+        WriteAheadLog wal = new WriteAheadLog(dir, SEGMENT_SIZE);
+        Member member = Member.newBuilder().setId(3).setAddress("localhost").setRpcPort(5006).setKvPort(5007).build();
+        for (int i = 0; i < 1000; i += 50) {
+            wal.append(i, entries(i, i + 50));
+        }
+        wal.append(120, List.of(LogEntry.newBuilder().setTerm(120).addConfiguration(member).build()));
+        wal.append(121, entries(121, 600));
+        wal.append(600, List.of(LogEntry.newBuilder().setTerm(600).addConfiguration(member).build()));
+        wal.append(601, entries(601, 700));
+        assertEquals(-1, wal.getConfigurationIndex(119));
+        assertEquals(120, wal.getConfigurationIndex(599));
+        assertEquals(600, wal.getConfigurationIndex(699));
+        wal.sync();
+        wal.close();
+
+        // the configuration entries of indexed segments come from their index files
+        wal = new WriteAheadLog(dir, SEGMENT_SIZE);
+        assertEquals(120, wal.getConfigurationIndex(599));
+        assertEquals(600, wal.getConfigurationIndex(699));
+        assertEquals(1, wal.read(600).getConfigurationCount());
+
+        wal.truncateSuffix(600);
+        assertEquals(120, wal.getConfigurationIndex(wal.getLastIndex()));
+        wal.close();
+    }
+
+    @Test
+    public void testTornWrite() throws IOException {
+        String dir = folder.newFolder("wal").toString();
+        WriteAheadLog wal = new WriteAheadLog(dir, SEGMENT_SIZE);
+        wal.append(0, entries(0, 10));
+        wal.sync();
+        wal.close();
+
+        // damage the payload of the last record
+        File segment = new File(dir).listFiles()[0];
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            long end = 0;
+            while (end + WriteAheadLog.HEADER_SIZE <= file.length()) {
+                file.seek(end);
+                int length = file.readInt();
+                if (length == 0) {
+                    break;
+                }
+                end += WriteAheadLog.HEADER_SIZE + length;
+            }
+            file.seek(end - 1);
+            int last = file.read();
+            file.seek(end - 1);
+            file.write(last ^ 0xff);
+        }
+
+        wal = new WriteAheadLog(dir, SEGMENT_SIZE);
+        assertEquals(8, wal.getLastIndex());
+        assertEquals(9, replay(wal, 0).size());
+        wal.close();
+    }
+}
@@ -0,0 +1,113 @@
+package com.zoecll.raftrpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import protobuf.RaftRPCProto.LogEntry;
+
+public class RaftLogTest {
+
+    private static LogEntry entry(int term) {
+        return LogEntry.newBuilder().setTerm(term).setCommand("command-" + term).build();
+    }
+
+    private static RaftLog fill(int segmentSize, int entries) {
+        RaftLog log = new RaftLog(segmentSize, 0);
+        for (int i = 0; i < entries; i++) {
+            log.append(entry(i));
+        }
+        return log;
+    }
+
+    @Test
+    public void testAppendAndGet() {
+        RaftLog log = fill(4, 10);
+        assertEquals(0, log.getFirstIndex());
+        assertEquals(9, log.getLastIndex());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, log.get(i).getTerm());
+        }
+    }
+
+    @Test
+    public void testTruncatePrefix() {
+        RaftLog log = fill(4, 10);
+        log.truncatePrefix(5);
+        assertEquals(6, log.getFirstIndex());
+        assertEquals(9, log.getLastIndex());
+        assertEquals(6, log.get(6).getTerm());
+
+        // appending after compaction keeps the absolute indexes
+        log.append(entry(10));
+        assertEquals(10, log.get(10).getTerm());
+
+        log.truncatePrefix(20);
+        assertTrue(log.isEmpty());
+        assertEquals(21, log.getFirstIndex());
+    }
+
+    @Test
+    public void testTruncateSuffix() {
+        RaftLog log = fill(4, 10);
+        log.truncateSuffix(3);
+        assertEquals(2, log.getLastIndex());
+        log.append(entry(30));
+        assertEquals(30, log.get(3).getTerm());
+
+        log.truncateSuffix(0);
+        assertTrue(log.isEmpty());
+        assertEquals(0, log.getFirstIndex());
+    }
+
+    @Test
+    public void testSlice() {
+        RaftLog log = fill(3, 10);
+        log.truncatePrefix(1);
+        List<LogEntry> slice = log.slice(2, 8);
+        assertEquals(6, slice.size());
+        for (int i = 0; i < slice.size(); i++) {
+            assertEquals(i + 2, slice.get(i).getTerm());
+        }
+        assertEquals(0, log.slice(5, 5).size());
+    }
+
+    @Test
+    public void testEviction() {
+        // stands in for the write-ahead log, every entry is written there before it is cached
+        ArrayList<LogEntry> disk = new ArrayList<>();
+        long entryBytes = entry(0).getSerializedSize();
+        RaftLog log = new RaftLog(4, entryBytes * 8, 0, disk::get, index -> disk.get(index).getTerm());
+        for (int i = 0; i < 100; i++) {
+            disk.add(entry(i));
+            log.append(disk.get(i));
+        }
+        assertTrue(log.getCachedBytes() <= entryBytes * 8);
+        assertEquals(0, log.getFirstIndex());
+        assertEquals(99, log.getLastIndex());
+        // evicted entries are read back, the recent ones come from the cache
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, log.get(i).getTerm());
+            assertEquals(i, log.getTerm(i));
+        }
+        assertEquals(20, log.slice(10, 30).size());
+
+        log.truncateSuffix(50);
+        assertEquals(49, log.getLastIndex());
+        assertEquals(0, log.getCachedBytes());
+        log.truncatePrefix(9);
+        assertEquals(10, log.getFirstIndex());
+        assertEquals(10, log.get(10).getTerm());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetCompacted() {
+        RaftLog log = fill(4, 10);
+        log.truncatePrefix(4);
+        log.get(4);
+    }
+}
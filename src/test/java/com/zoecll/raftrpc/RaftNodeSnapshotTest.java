@@ -0,0 +1,116 @@
+package com.zoecll.raftrpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.zoecll.config.PeerInfo;
+
+import protobuf.RaftRPCProto.AppendEntriesRequest;
+import protobuf.RaftRPCProto.LogEntry;
+
+public class RaftNodeSnapshotTest {
+
+    // groups no cluster config starts, their write-ahead logs and snapshots are deleted afterwards
+    private static final int GROUP = 97;
+    private static final int FOLLOWER_GROUP = 98;
+    private static final int ROUNDS = 3;
+    private static final int ROUND_ENTRIES = 40;    // more than maxLogSize, so every round ends in a snapshot
+
+    private RaftRuntime runtime;
+    private RaftNode raftNode;
+    private RaftNode follower;
+
+    @Before
+    public void setUp() throws FileNotFoundException {
+        cleanup();
+        runtime = new RaftRuntime(0, PeerInfo.loadConfig(), false);
+        raftNode = new RaftNode(runtime, GROUP);
+        follower = new RaftNode(runtime, FOLLOWER_GROUP);
+        raftNode.start();
+        follower.start();
+    }
+
+    @After
+    public void tearDown() {
+        raftNode.close();
+        follower.close();
+        runtime.close();
+        cleanup();
+    }
+
+    // every snapshot holds the whole state machine, not just the entries since the one before, so a follower
+    // installing it and a node restarting from it see the keys written before the earlier compactions too
+    @Test(timeout = 30000)
+    public void testSnapshotHoldsAllKeys() throws InterruptedException, FileNotFoundException {
+        for (int round = 0; round < ROUNDS; round++) {
+            int prevLogIndex = round * ROUND_ENTRIES - 1;
+            AppendEntriesRequest.Builder builder = AppendEntriesRequest.newBuilder()
+                    .setGroupId(GROUP).setTerm(1).setLeaderId(1)
+                    .setPrevLogIndex(prevLogIndex).setPrevLogTerm(prevLogIndex < 0 ? -1 : 1)
+                    .setLeaderCommit(prevLogIndex + ROUND_ENTRIES);
+            for (int i = prevLogIndex + 1; i <= prevLogIndex + ROUND_ENTRIES; i++) {
+                builder.addEntries(LogEntry.newBuilder().setTerm(1).setCommand(set(i)).build());
+            }
+            raftNode.handleAppendEntries(builder.build());
+            while (raftNode.getLastIncludedIndex() < prevLogIndex + ROUND_ENTRIES) {
+                Thread.sleep(10);
+            }
+        }
+        int lastIndex = ROUNDS * ROUND_ENTRIES - 1;
+        assertEquals(lastIndex, raftNode.getLastIncludedIndex());
+
+        follower.handleInstallSnapshot(raftNode.getSnapshotRequest());
+        assertTrue(follower.awaitApplied(lastIndex, 10000));
+        assertEquals(lastIndex, follower.getLastApplied());
+        assertKeys(follower);
+
+        raftNode.close();
+        raftNode = new RaftNode(runtime, GROUP);
+        assertEquals(lastIndex, raftNode.getLastIncludedIndex());
+        assertKeys(raftNode);
+    }
+
+    // a command the way KvServer serializes it
+    private static String set(int i) {
+        return String.format("{\"type\":\"SET\",\"key\":\"key-%d\",\"value\":\"value-%d\",\"uuid\":\"%s\"}", i, i, UUID.randomUUID());
+    }
+
+    private static void assertKeys(RaftNode node) {
+        for (int i = 0; i < ROUNDS * ROUND_ENTRIES; i++) {
+            assertEquals("value-" + i, node.getKvServer().getValue("key-" + i));
+        }
+    }
+
+    private static void cleanup() {
+        delete(new File("wal/raft-0-" + GROUP));
+        delete(new File("wal/raft-0-" + FOLLOWER_GROUP));
+        new File("wal").delete();   // only if no other log is left in it
+        File[] files = new File("snapshots").listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.getName().startsWith("raft-0-" + GROUP + ".") || file.getName().startsWith("raft-0-" + FOLLOWER_GROUP + ".")) {
+                    file.delete();
+                }
+            }
+        }
+        new File("snapshots").delete();
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}